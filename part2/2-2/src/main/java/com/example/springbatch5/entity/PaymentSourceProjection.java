@@ -0,0 +1,18 @@
+package com.example.springbatch5.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 정산에 필요한 컬럼만 조회하기 위한 {@link PaymentSource} 생성자 프로젝션 DTO
+ */
+@Getter
+@RequiredArgsConstructor
+public class PaymentSourceProjection {
+    private final Long id;
+    private final BigDecimal finalAmount;
+    private final LocalDate paymentDate;
+}
@@ -0,0 +1,101 @@
+package com.example.springbatch5.job;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * id 범위를 기준으로 파티션을 생성하는 Partitioner 구현체입니다.
+ * 조회 대상의 최소/최대 id를 한 번 조회한 뒤, id 공간을 gridSize개의 겹치지 않는 범위로 나눕니다.
+ * 생성된 각 파티션은 `minId`, `maxId` 키로 범위를 StepExecutionContext에 저장하며,
+ * 워커 스텝은 {@link NoOffsetItemReaderBuilder#idRange(Long, Long)}로 범위가 제한된 {@link NoOffsetItemReader}를 실행합니다.
+ * <p>
+ * 날짜 단위 파티션과 달리 특정 날짜에 데이터가 몰려 있어도 id 범위로 나누므로 파티션 간 처리량이 고르게 분산됩니다.
+ */
+@Slf4j
+public class IdRangePartitioner implements Partitioner {
+    // 파티션 번호를 식별하기 위한 키
+    private static final String PARTITION_KEY = "partition";
+    // StepExecutionContext에 저장될 id 범위의 키
+    private static final String EXECUTION_CONTEXT_KEY_MIN_ID = "minId";
+    private static final String EXECUTION_CONTEXT_KEY_MAX_ID = "maxId";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String minMaxQueryString;
+    private final Map<String, Object> parameterValues;
+
+    /**
+     * IdRangePartitioner 생성자
+     *
+     * @param entityManagerFactory JPA EntityManagerFactory
+     * @param minMaxQueryString    최소/최대 id를 조회하는 JPQL 쿼리 (e.g. SELECT MIN(ps.id), MAX(ps.id) FROM ...)
+     * @param parameterValues      쿼리 파라미터
+     */
+    public IdRangePartitioner(
+            EntityManagerFactory entityManagerFactory,
+            String minMaxQueryString,
+            Map<String, Object> parameterValues
+    ) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.minMaxQueryString = minMaxQueryString;
+        this.parameterValues = parameterValues;
+    }
+
+    /**
+     * gridSize만큼의 파티션을 생성합니다.
+     * 최소/최대 id 사이를 같은 크기의 범위로 나누며, 마지막 파티션이 나머지 범위를 포함합니다.
+     * 조회 대상이 없으면 빈 Map을 반환합니다.
+     *
+     * @param gridSize 파티션의 개수
+     * @return 각 파티션의 이름과 ExecutionContext를 담은 Map
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        Object[] minMax = findMinMax();
+        if (minMax[0] == null || minMax[1] == null) {
+            log.info("No rows to partition");
+            return partitions;
+        }
+
+        long minId = ((Number) minMax[0]).longValue();
+        long maxId = ((Number) minMax[1]).longValue();
+        // 범위 크기를 올림 처리하여 gridSize 이하의 파티션으로 전체 범위를 포함하도록 함
+        long rangeSize = (maxId - minId) / gridSize + 1;
+
+        int partitionIndex = 0;
+        long rangeStart = minId;
+        while (rangeStart <= maxId) {
+            long rangeEnd = Math.min(rangeStart + rangeSize - 1, maxId);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(EXECUTION_CONTEXT_KEY_MIN_ID, rangeStart);
+            context.putLong(EXECUTION_CONTEXT_KEY_MAX_ID, rangeEnd);
+            partitions.put(PARTITION_KEY + partitionIndex, context);
+
+            log.info("Created partition {} with id range [{}, {}]", PARTITION_KEY + partitionIndex, rangeStart, rangeEnd);
+
+            rangeStart = rangeEnd + 1;
+            partitionIndex++;
+        }
+
+        return partitions;
+    }
+
+    private Object[] findMinMax() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            TypedQuery<Object[]> query = entityManager.createQuery(minMaxQueryString, Object[].class);
+            parameterValues.forEach(query::setParameter);
+            return query.getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -5,24 +5,54 @@ import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.TypedQuery;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.ItemStreamReader;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * No-Offset 기법을 사용하여 페이징 처리를 하는 ItemReader 구현체.
  * 대용량 데이터 조회 시 성능 저하를 방지하기 위해 id 값을 기준으로 다음 페이지를 조회합니다.
+ * <p>
+ * {@code sortKeys}가 설정되면 복합 키 모드로 동작합니다. (payment_date, id) 처럼 여러 컬럼으로 정렬된 쿼리에 대해
+ * 행 값 비교(row-value) 조건을 생성하여 마지막으로 읽은 아이템 이후의 페이지를 조회합니다.
+ * <p>
+ * {@code prefetchPages}가 0보다 크면 별도 스레드가 자체 EntityManager로 다음 페이지들을 미리 조회합니다.
+ * Chunk가 N 페이지를 처리하는 동안 N+1 페이지를 조회하므로 페이지 조회 대기 시간이 줄어듭니다.
+ * <p>
+ * {@code minId}, {@code maxId}가 설정되면 [minId, maxId] 범위의 id만 조회합니다.
+ * {@link IdRangePartitioner}로 나눈 파티션마다 범위가 제한된 리더를 하나씩 실행할 때 사용합니다.
+ * <p>
+ * {@code readOnly}가 설정되면 읽기 전용 힌트로 조회하여 스냅샷(dirty checking) 생성을 생략하고,
+ * 다음 페이지를 조회하기 전에 영속성 컨텍스트를 비워 페이지가 진행되어도 메모리 사용량이 일정하게 유지됩니다.
+ * {@code SELECT new ...Dto(...)} 생성자 프로젝션 쿼리와 DTO 클래스의 {@code targetType}을 함께 사용하면 엔티티를 로딩하지 않습니다.
+ * <p>
+ * 첫 페이지 쿼리와 seek 조건이 추가된 쿼리는 리더 생성 시점에 한 번만 만들어 두고, {@link TypedQuery}도 EntityManager마다 한 번만 생성하므로
+ * 페이지마다 JPQL을 다시 조립하거나 쿼리를 다시 생성하지 않고 바인딩 파라미터만 바뀝니다.
+ * seek 조건은 사용자 쿼리의 WHERE 절에 AND로 연결되므로 쿼리에는 WHERE 절이 정확히 하나 있어야 합니다.
+ * {@code sortDirection}이 설정되면 정렬 키로 ORDER BY 절을 직접 생성하며, 이 경우 사용자 쿼리에는 ORDER BY 절이 없어야 합니다.
  *
- * @param <T> 조회할 엔티티 타입
+ * @param <T> 조회할 엔티티 또는 DTO 타입
  */
 public class NoOffsetItemReader<T> implements ItemStreamReader<T> {
 
+    static final Pattern WHERE_CLAUSE = Pattern.compile("\\bWHERE\\b", Pattern.CASE_INSENSITIVE);
+    static final Pattern ORDER_BY_CLAUSE = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
     private final EntityManagerFactory entityManagerFactory;
     private EntityManager entityManager;
     private final String queryString;
@@ -32,8 +62,21 @@ public class NoOffsetItemReader<T> implements ItemStreamReader<T> {
     private Long firstId; // 현재 페이지의 시작 ID
     private final Queue<T> buffer = new LinkedList<>(); // 조회된 데이터를 임시 저장하는 버퍼
     private boolean isEnd = false; // 모든 데이터를 다 읽었는지 여부
-    private final Class<T> targetType; // 조회할 엔티티의 클래스 타입
+    private final Class<T> targetType; // 조회할 엔티티 또는 DTO의 클래스 타입
     private final String name;
+    private final List<String> sortKeys; // 복합 키 모드의 정렬 키 (JPQL 경로, e.g. ps.paymentDate, ps.id)
+    private final Function<T, List<Object>> sortKeyExtractor; // 조회된 엔티티에서 정렬 키 값을 추출하는 함수
+    private List<Object> cursor; // 복합 키 모드에서 마지막으로 읽은 아이템의 정렬 키 값
+    private final int prefetchPages; // 미리 조회해 둘 최대 페이지 수, 0이면 prefetch 하지 않음
+    private BlockingQueue<PrefetchedPage<T>> prefetchedPages; // 백그라운드 스레드가 조회한 페이지
+    private ExecutorService prefetchExecutor;
+    private final Long minId; // 조회할 id 범위의 하한 (포함), null이면 제한 없음
+    private final Long maxId; // 조회할 id 범위의 상한 (포함), null이면 제한 없음
+    private final boolean readOnly; // 읽기 전용 조회 및 페이지마다 영속성 컨텍스트 초기화 여부
+    private final Sort.Direction sortDirection; // 정렬 방향, null이면 사용자 쿼리의 ORDER BY(내림차순)를 그대로 사용
+    private final String firstPageQuery; // seek 조건 없이 첫 페이지를 조회하는 JPQL
+    private final String seekQuery; // seek 조건이 추가된 JPQL
+    private PageQueries pageQueries; // Step 스레드의 EntityManager로 생성한 페이지 조회 쿼리
 
     /**
      * NoOffsetItemReader 생성자.
@@ -43,7 +86,14 @@ public class NoOffsetItemReader<T> implements ItemStreamReader<T> {
      * @param parameterValues      쿼리 파라미터
      * @param chunkSize             페이지 사이즈
      * @param idExtractor          엔티티에서 ID를 추출하는 함수
-     * @param targetType           조회할 엔티티의 클래스 타입
+     * @param targetType           조회할 엔티티 또는 DTO의 클래스 타입
+     * @param sortKeys             복합 키 모드의 정렬 키, 단일 id 모드이면 빈 리스트
+     * @param sortKeyExtractor     엔티티에서 정렬 키 값을 추출하는 함수
+     * @param prefetchPages        미리 조회해 둘 최대 페이지 수
+     * @param minId                조회할 id 범위의 하한, 범위 제한이 없으면 null
+     * @param maxId                조회할 id 범위의 상한, 범위 제한이 없으면 null
+     * @param readOnly             읽기 전용 모드 여부
+     * @param sortDirection        정렬 방향, 사용자 쿼리의 ORDER BY를 사용하면 null
      */
     NoOffsetItemReader(
             EntityManagerFactory entityManagerFactory,
@@ -52,7 +102,14 @@ public class NoOffsetItemReader<T> implements ItemStreamReader<T> {
             int chunkSize,
             Function<T, Long> idExtractor,
             Class<T> targetType,
-            String name
+            String name,
+            List<String> sortKeys,
+            Function<T, List<Object>> sortKeyExtractor,
+            int prefetchPages,
+            Long minId,
+            Long maxId,
+            boolean readOnly,
+            Sort.Direction sortDirection
     ) {
         this.entityManagerFactory = entityManagerFactory;
         this.queryString = queryString;
@@ -61,26 +118,120 @@ public class NoOffsetItemReader<T> implements ItemStreamReader<T> {
         this.idExtractor = idExtractor;
         this.targetType = targetType;
         this.name = name;
+        this.sortKeys = sortKeys;
+        this.sortKeyExtractor = sortKeyExtractor;
+        this.prefetchPages = prefetchPages;
+        this.minId = minId;
+        this.maxId = maxId;
+        this.readOnly = readOnly;
+        this.sortDirection = sortDirection;
+        this.firstPageQuery = createFirstPageQuery();
+        this.seekQuery = createSeekQuery(firstPageQuery);
+    }
+
+    /**
+     * 정렬 키 목록으로 행 값 비교 조건을 생성합니다.
+     * (a, b, c) &lt; (:cursor0, :cursor1, :cursor2) 조건을 인덱스 범위 스캔이 가능하도록 OR 조건으로 풀어서 생성합니다.
+     * <pre>
+     * (a &lt; :cursor0 OR (a = :cursor0 AND b &lt; :cursor1) OR (a = :cursor0 AND b = :cursor1 AND c &lt; :cursor2))
+     * </pre>
+     *
+     * @param sortKeys 정렬 키 목록
+     * @param operator 비교 연산자, 내림차순이면 {@code <}, 오름차순이면 {@code >}
+     * @return seek 조건 JPQL
+     */
+    static String createSeekPredicate(List<String> sortKeys, String operator) {
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < sortKeys.size(); i++) {
+            StringBuilder condition = new StringBuilder();
+            for (int j = 0; j < i; j++) {
+                condition.append(sortKeys.get(j)).append(" = :cursor").append(j).append(" AND ");
+            }
+            condition.append(sortKeys.get(i)).append(" ").append(operator).append(" :cursor").append(i);
+            conditions.add(i == 0 ? condition.toString() : "(" + condition + ")");
+        }
+        return "(" + String.join(" OR ", conditions) + ")";
+    }
+
+    private boolean isCompositeKeyMode() {
+        return !sortKeys.isEmpty();
+    }
+
+    private boolean isPrefetchMode() {
+        return prefetchPages > 0;
+    }
+
+    private boolean isIdRangeMode() {
+        return minId != null && maxId != null;
+    }
+
+    private boolean isDescending() {
+        return sortDirection == null || sortDirection.isDescending();
+    }
+
+    /**
+     * seek 조건 없이 첫 페이지를 조회하는 쿼리를 만듭니다.
+     * {@code sortDirection}이 설정되면 정렬 키로 ORDER BY 절을 추가합니다.
+     */
+    private String createFirstPageQuery() {
+        String orderBy = sortDirection == null
+                ? ""
+                : " ORDER BY " + String.join(", ", (isCompositeKeyMode() ? sortKeys : List.of("id")).stream()
+                        .map(key -> key + " " + sortDirection.name())
+                        .toList());
+        return queryString + orderBy;
+    }
+
+    /**
+     * 첫 페이지 쿼리에 seek 조건을 추가한 쿼리를 만듭니다.
+     */
+    private String createSeekQuery(String firstPageQuery) {
+        String operator = isDescending() ? "<" : ">";
+
+        // 외부에서 받은 기본 쿼리(queryString)에 No-Offset 조건을 추가합니다.
+        // 사용자 쿼리에 WHERE 절이 있다는 전제 하에 AND로 연결합니다.
+        String seekPredicate;
+        if (isCompositeKeyMode()) {
+            seekPredicate = createSeekPredicate(sortKeys, operator);
+        } else if (isIdRangeMode()) {
+            // 범위가 제한된 리더는 범위 조건을 함께 추가합니다.
+            seekPredicate = "id " + operator + " :firstId AND id >= :minId AND id <= :maxId";
+        } else {
+            seekPredicate = "id " + operator + " :firstId";
+        }
+        // WHERE 절이 정확히 하나인지는 빌더에서 검증합니다.
+        return WHERE_CLAUSE.matcher(firstPageQuery).replaceFirst(Matcher.quoteReplacement("WHERE " + seekPredicate + " AND"));
     }
 
     /**
      * ItemStream을 엽니다. Job 실행 전에 호출됩니다.
      * EntityManager를 생성하고, ExecutionContext에서 이전에 저장된 firstId를 복원합니다.
+     * prefetch 모드이면 복원된 위치부터 다음 페이지들을 미리 조회하는 백그라운드 스레드를 시작합니다.
      *
      * @param executionContext Job 실행 컨텍스트
      * @throws ItemStreamException
      */
     @Override
+    @SuppressWarnings("unchecked")
     public void open(ExecutionContext executionContext) throws ItemStreamException {
         this.entityManager = entityManagerFactory.createEntityManager();
-        if (executionContext.containsKey("firstId")) {
+        this.pageQueries = new PageQueries(entityManager);
+        if (isCompositeKeyMode()) {
+            // 복합 키 모드에서는 커서가 없으면 seek 조건 없이 첫 페이지부터 조회합니다.
+            if (executionContext.containsKey("cursor")) {
+                this.cursor = (List<Object>) executionContext.get("cursor");
+            }
+        } else if (executionContext.containsKey("firstId")) {
             // Job 재시작 시, 이전에 저장된 firstId를 가져와서 중단된 지점부터 다시 시작
             this.firstId = executionContext.getLong("firstId");
+        } else if (isIdRangeMode()) {
+            // 범위가 제한된 리더는 범위의 경계부터 시작하므로 첫 번째 ID를 조회할 필요가 없습니다.
+            this.firstId = isDescending() ? maxId + 1 : minId - 1;
         } else {
-            // Job이 처음 시작될 때, 쿼리에서 가장 큰 ID 값을 가져와 firstId에 저장합니다.
+            // Job이 처음 시작될 때, 쿼리에서 첫 번째 ID 값을 가져와 firstId에 저장합니다.
             // 이 ID는 다음 페이지 조회의 시작점이 됩니다.
             TypedQuery<T> query = entityManager
-                    .createQuery(queryString, this.targetType)
+                    .createQuery(firstPageQuery, this.targetType)
                     .setMaxResults(1);
             parameterValues.forEach(query::setParameter);
             List<T> results = query.getResultList();
@@ -89,10 +240,15 @@ public class NoOffsetItemReader<T> implements ItemStreamReader<T> {
                 // 조회 결과가 없으면 firstId를 0으로 설정
                 this.firstId = 0L;
             } else {
-                // 가장 큰 ID + 1을 시작점으로 설정하여 모든 데이터를 포함하도록 함
-                this.firstId = idExtractor.apply(results.get(0)) + 1;
+                // 첫 번째 ID의 바로 앞(내림차순이면 +1, 오름차순이면 -1)을 시작점으로 설정하여 모든 데이터를 포함하도록 함
+                Long id = idExtractor.apply(results.get(0));
+                this.firstId = isDescending() ? id + 1 : id - 1;
             }
         }
+
+        if (isPrefetchMode()) {
+            startPrefetch();
+        }
     }
 
     /**
@@ -104,62 +260,226 @@ public class NoOffsetItemReader<T> implements ItemStreamReader<T> {
     @Override
     public T read() {
         if (buffer.isEmpty() && !isEnd) {
-            fillBuffer();
+            if (isPrefetchMode()) {
+                fillBufferFromPrefetch();
+            } else {
+                fillBuffer();
+            }
         }
         return buffer.poll();
     }
 
     /**
      * 데이터베이스에서 다음 페이지를 조회하여 버퍼를 채웁니다.
-     * No-Offset 기법을 사용하여 `id < :firstId` 조건을 추가하여 다음 페이지를 조회합니다.
      */
     private void fillBuffer() {
-        // 외부에서 받은 기본 쿼리(queryString)에 No-Offset 조건을 동적으로 추가합니다.
-        // 사용자 쿼리에 WHERE 절이 있다는 전제 하에 AND로 연결합니다.
-        String queryWithNoOffset = queryString.replace("WHERE", "WHERE id < :firstId AND");
-
-        TypedQuery<T> query = entityManager
-                .createQuery(queryWithNoOffset, this.targetType) // 최종적으로 조립된 쿼리를 사용합니다.
-                .setMaxResults(this.chunkSize);
-
-        // 외부에서 주입된 파라미터 설정 (e.g., paymentDate)
-        parameterValues.forEach(query::setParameter);
-        // 내부 상태인 firstId 파라미터 설정
-        query.setParameter("firstId", this.firstId);
-
-        List<T> results = query.getResultList();
+        if (readOnly) {
+            // 이전 페이지는 이미 Chunk에서 처리되었으므로 영속성 컨텍스트에서 분리하여 메모리에서 해제되도록 합니다.
+            entityManager.clear();
+        }
+        List<T> results = fetchPage(pageQueries, this.firstId, this.cursor);
         if (results.isEmpty()) {
             // 조회 결과가 없으면 더 이상 읽을 데이터가 없음을 표시
             this.isEnd = true;
         } else {
             // 조회된 데이터를 버퍼에 추가하고, 다음 페이지 조회를 위해 firstId를 업데이트
             buffer.addAll(results);
-            this.firstId = idExtractor.apply(results.get(results.size() - 1));
+            moveTo(results);
         }
     }
 
+    /**
+     * 백그라운드 스레드가 미리 조회한 페이지를 꺼내 버퍼를 채웁니다.
+     * 체크포인트(firstId, cursor)는 Chunk에 전달된 페이지 기준으로만 이동하므로, 미리 조회만 된 페이지는 재시작 시 다시 조회됩니다.
+     */
+    private void fillBufferFromPrefetch() {
+        PrefetchedPage<T> page;
+        try {
+            page = prefetchedPages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("Interrupted while waiting for prefetched page", e);
+        }
+
+        if (page.error() != null) {
+            this.isEnd = true;
+            throw new ItemStreamException("Failed to prefetch page", page.error());
+        }
+        if (page.items().isEmpty()) {
+            this.isEnd = true;
+        } else {
+            buffer.addAll(page.items());
+            moveTo(page.items());
+        }
+    }
+
+    /**
+     * 주어진 위치 이후의 한 페이지를 조회합니다.
+     * 미리 생성해 둔 쿼리를 재사용하므로 페이지마다 seek 위치 파라미터만 바뀝니다.
+     *
+     * @param queries 조회에 사용할 EntityManager의 페이지 조회 쿼리
+     * @param firstId 단일 id 모드의 현재 페이지 시작 ID
+     * @param cursor  복합 키 모드의 마지막 정렬 키 값, 첫 페이지이면 null
+     * @return 조회된 페이지
+     */
+    private List<T> fetchPage(PageQueries queries, Long firstId, List<Object> cursor) {
+        if (isCompositeKeyMode()) {
+            // 커서가 없으면 seek 조건 없이 첫 페이지를 조회합니다.
+            if (cursor == null) {
+                return queries.firstPage.getResultList();
+            }
+            for (int i = 0; i < cursor.size(); i++) {
+                queries.seek.setParameter("cursor" + i, cursor.get(i));
+            }
+            return queries.seek.getResultList();
+        }
+
+        // 내부 상태인 firstId 파라미터 설정
+        queries.seek.setParameter("firstId", firstId);
+        return queries.seek.getResultList();
+    }
+
+    /**
+     * 한 EntityManager에서 페이지 조회에 사용하는 쿼리.
+     * 외부에서 주입된 파라미터(e.g., paymentDate)와 id 범위, 페이지 크기, 읽기 전용 힌트는 생성 시점에 한 번만 설정합니다.
+     * EntityManager와 마찬가지로 여러 스레드에서 공유하지 않습니다.
+     */
+    private class PageQueries {
+        private final TypedQuery<T> firstPage; // 복합 키 모드에서 커서가 없을 때 사용, 단일 id 모드이면 null
+        private final TypedQuery<T> seek;
+
+        private PageQueries(EntityManager entityManager) {
+            this.firstPage = isCompositeKeyMode() ? createPageQuery(entityManager, firstPageQuery) : null;
+            this.seek = createPageQuery(entityManager, seekQuery);
+            if (isIdRangeMode()) {
+                seek.setParameter("minId", minId);
+                seek.setParameter("maxId", maxId);
+            }
+        }
+
+        private TypedQuery<T> createPageQuery(EntityManager entityManager, String queryString) {
+            TypedQuery<T> query = entityManager
+                    .createQuery(queryString, targetType)
+                    .setMaxResults(chunkSize);
+            parameterValues.forEach(query::setParameter);
+            if (readOnly) {
+                // 읽기 전용으로 조회하면 Hibernate가 dirty checking용 스냅샷을 만들지 않습니다.
+                query.setHint(HibernateHints.HINT_READ_ONLY, true);
+            }
+            return query;
+        }
+    }
+
+    /**
+     * 조회된 페이지의 마지막 아이템으로 다음 페이지 조회 위치(firstId 또는 cursor)를 이동합니다.
+     *
+     * @param results 비어있지 않은 조회 결과
+     */
+    private void moveTo(List<T> results) {
+        T last = results.get(results.size() - 1);
+        if (isCompositeKeyMode()) {
+            this.cursor = extractSortKeys(last);
+        } else {
+            this.firstId = idExtractor.apply(last);
+        }
+    }
+
+    private List<Object> extractSortKeys(T item) {
+        List<Object> keys = sortKeyExtractor.apply(item);
+        if (keys.size() != sortKeys.size()) {
+            throw new ItemStreamException("Sort key extractor must return " + sortKeys.size() + " values but was " + keys.size());
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * 다음 페이지들을 미리 조회하는 백그라운드 스레드를 시작합니다.
+     * 스레드는 Step의 EntityManager와 분리된 자체 EntityManager를 사용하며, 큐가 가득 차면 Chunk가 페이지를 가져갈 때까지 대기합니다.
+     * 조회된 엔티티는 다른 스레드로 전달되므로 페이지마다 영속성 컨텍스트를 비워 준영속 상태로 넘깁니다.
+     */
+    private void startPrefetch() {
+        this.prefetchedPages = new ArrayBlockingQueue<>(prefetchPages);
+        this.prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name + "-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final Long startFirstId = this.firstId;
+        final List<Object> startCursor = this.cursor;
+        prefetchExecutor.execute(() -> {
+            EntityManager prefetchEntityManager = entityManagerFactory.createEntityManager();
+            Long nextFirstId = startFirstId;
+            List<Object> nextCursor = startCursor;
+            try {
+                PageQueries prefetchQueries = new PageQueries(prefetchEntityManager);
+                while (!Thread.currentThread().isInterrupted()) {
+                    List<T> results = fetchPage(prefetchQueries, nextFirstId, nextCursor);
+                    prefetchEntityManager.clear();
+                    prefetchedPages.put(new PrefetchedPage<>(results, null));
+                    if (results.isEmpty()) {
+                        return;
+                    }
+                    T last = results.get(results.size() - 1);
+                    if (isCompositeKeyMode()) {
+                        nextCursor = extractSortKeys(last);
+                    } else {
+                        nextFirstId = idExtractor.apply(last);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // 조회 실패는 Chunk 스레드의 read()에서 다시 던지도록 큐에 전달합니다.
+                try {
+                    prefetchedPages.put(new PrefetchedPage<>(List.of(), e));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            } finally {
+                prefetchEntityManager.close();
+            }
+        });
+    }
+
     /**
      * ItemStream의 상태를 업데이트합니다. Step 실행 중간에 주기적으로 호출됩니다.
      * 현재 페이지의 마지막 ID를 `firstId`로 ExecutionContext에 저장하여 Job 실패 시 복구할 수 있도록 합니다.
+     * 복합 키 모드에서는 정렬 키 값 전체를 `cursor`로 저장합니다.
      *
      * @param executionContext Job 실행 컨텍스트
      * @throws ItemStreamException
      */
     @Override
     public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (isCompositeKeyMode()) {
+            if (this.cursor != null) {
+                executionContext.put("cursor", new ArrayList<>(this.cursor));
+            }
+            return;
+        }
         executionContext.putLong("firstId", this.firstId);
     }
 
     /**
      * ItemStream을 닫습니다. Job 실행 완료 또는 실패 시 호출됩니다.
-     * 사용된 EntityManager를 닫습니다.
+     * prefetch 스레드를 중단하고 사용된 EntityManager를 닫습니다.
      *
      * @throws ItemStreamException
      */
     @Override
     public void close() throws ItemStreamException {
+        if (prefetchExecutor != null) {
+            prefetchExecutor.shutdownNow();
+        }
         if (entityManager != null) {
             entityManager.close();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 백그라운드 스레드가 조회한 한 페이지. 빈 페이지는 마지막 페이지를, error는 조회 실패를 의미합니다.
+     */
+    private record PrefetchedPage<T>(List<T> items, Throwable error) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.springbatch5.job;
 
 import jakarta.persistence.EntityManagerFactory;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -22,6 +25,13 @@ public class NoOffsetItemReaderBuilder<T> {
     private Function<T, Long> idExtractor;
     private String name;
     private Class<T> targetType;
+    private List<String> sortKeys = new ArrayList<>();
+    private Function<T, List<Object>> sortKeyExtractor;
+    private int prefetchPages = 0;
+    private Long minId;
+    private Long maxId;
+    private boolean readOnly = false;
+    private Sort.Direction sortDirection;
 
     /**
      * ItemReader의 이름을 설정합니다. Spring Batch 메타데이터에 저장될 이름입니다.
@@ -55,6 +65,7 @@ public class NoOffsetItemReaderBuilder<T> {
 
     /**
      * 데이터를 조회할 JPQL 쿼리 문자열을 설정합니다.
+     * seek 조건이 WHERE 절에 AND로 연결되므로 WHERE 절이 정확히 하나 있어야 합니다.
      * @param queryString JPQL 쿼리
      * @return 빌더 인스턴스
      */
@@ -86,7 +97,8 @@ public class NoOffsetItemReaderBuilder<T> {
 
     /**
      * 조회할 대상 엔티티의 클래스 타입을 설정합니다.
-     * @param targetType 대상 엔티티 클래스
+     * 생성자 프로젝션 쿼리({@code SELECT new ...})를 사용하는 경우 DTO 클래스를 설정합니다.
+     * @param targetType 대상 엔티티 또는 DTO 클래스
      * @return 빌더 인스턴스
      */
     public NoOffsetItemReaderBuilder<T> targetType(Class<T> targetType) {
@@ -94,6 +106,75 @@ public class NoOffsetItemReaderBuilder<T> {
         return this;
     }
 
+    /**
+     * 복합 키 모드의 정렬 키를 설정합니다. 쿼리의 ORDER BY 절과 같은 순서의 JPQL 경로여야 합니다.
+     * e.g. {@code sortKeys("ps.paymentDate", "ps.id")}
+     * @param sortKeys 정렬 키 목록
+     * @return 빌더 인스턴스
+     */
+    public NoOffsetItemReaderBuilder<T> sortKeys(String... sortKeys) {
+        this.sortKeys = List.of(sortKeys);
+        return this;
+    }
+
+    /**
+     * 아이템에서 정렬 키 값을 추출하는 함수를 설정합니다.
+     * 반환되는 값의 순서는 {@link #sortKeys(String...)}와 같아야 합니다.
+     * @param sortKeyExtractor 정렬 키 값 추출 함수
+     * @return 빌더 인스턴스
+     */
+    public NoOffsetItemReaderBuilder<T> sortKeyExtractor(Function<T, List<Object>> sortKeyExtractor) {
+        this.sortKeyExtractor = sortKeyExtractor;
+        return this;
+    }
+
+    /**
+     * 백그라운드 스레드에서 미리 조회해 둘 최대 페이지 수를 설정합니다. 0이면 prefetch 하지 않습니다.
+     * 미리 조회된 페이지만큼 메모리를 더 사용하므로 1~2 정도면 충분합니다.
+     * @param prefetchPages 미리 조회할 최대 페이지 수
+     * @return 빌더 인스턴스
+     */
+    public NoOffsetItemReaderBuilder<T> prefetchPages(int prefetchPages) {
+        this.prefetchPages = prefetchPages;
+        return this;
+    }
+
+    /**
+     * 조회할 id 범위를 설정합니다. [minId, maxId] 범위의 아이템만 조회합니다.
+     * {@link IdRangePartitioner}가 StepExecutionContext에 저장한 범위로 파티션별 리더를 생성할 때 사용합니다.
+     * @param minId 조회할 id의 하한 (포함)
+     * @param maxId 조회할 id의 상한 (포함)
+     * @return 빌더 인스턴스
+     */
+    public NoOffsetItemReaderBuilder<T> idRange(Long minId, Long maxId) {
+        this.minId = minId;
+        this.maxId = maxId;
+        return this;
+    }
+
+    /**
+     * 읽기 전용 모드를 설정합니다.
+     * 읽기 전용 힌트로 조회하고 페이지마다 영속성 컨텍스트를 비워, 조회한 엔티티가 메모리에 누적되지 않도록 합니다.
+     * 조회한 엔티티는 다음 페이지 조회 시 준영속 상태가 되므로 지연 로딩이 필요한 연관관계가 있다면 fetch join으로 함께 조회해야 합니다.
+     * @param readOnly 읽기 전용 모드 여부
+     * @return 빌더 인스턴스
+     */
+    public NoOffsetItemReaderBuilder<T> readOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+        return this;
+    }
+
+    /**
+     * 정렬 방향을 설정합니다. 설정하면 리더가 정렬 키(단일 id 모드는 id)로 ORDER BY 절을 생성하므로
+     * 쿼리 문자열에는 ORDER BY 절을 포함하지 않아야 합니다. 설정하지 않으면 쿼리의 ORDER BY가 내림차순이라고 가정합니다.
+     * @param sortDirection 정렬 방향
+     * @return 빌더 인스턴스
+     */
+    public NoOffsetItemReaderBuilder<T> sortDirection(Sort.Direction sortDirection) {
+        this.sortDirection = sortDirection;
+        return this;
+    }
+
     /**
      * 설정된 값들을 기반으로 {@link NoOffsetItemReader} 인스턴스를 생성합니다.
      * 필수 값이 설정되었는지 검증합니다.
@@ -102,10 +183,29 @@ public class NoOffsetItemReaderBuilder<T> {
     public NoOffsetItemReader<T> build() {
         Assert.notNull(entityManagerFactory, "EntityManagerFactory is required.");
         Assert.notNull(queryString, "Query string is required.");
-        Assert.notNull(idExtractor, "ID extractor function is required.");
+        if (sortKeys.isEmpty()) {
+            Assert.notNull(idExtractor, "ID extractor function is required.");
+        } else {
+            Assert.notNull(sortKeyExtractor, "Sort key extractor function is required when sortKeys are set.");
+        }
         Assert.notNull(targetType, "Target type is required.");
         Assert.notNull(name, "name is required.");
         Assert.state(chunkSize > 0, "chunkSize must be greater than 0.");
+        Assert.state(prefetchPages >= 0, "prefetchPages must not be negative.");
+        // seek 조건을 WHERE 절에 AND로 연결하므로 WHERE 절이 없으면 매 페이지 첫 페이지를 다시 읽고, 서브쿼리가 있으면 엉뚱한 WHERE에 연결됩니다.
+        Assert.state(NoOffsetItemReader.WHERE_CLAUSE.matcher(queryString).results().count() == 1,
+                "Query string must contain exactly one WHERE clause to append the seek predicate to.");
+        boolean hasOrderBy = NoOffsetItemReader.ORDER_BY_CLAUSE.matcher(queryString).find();
+        if (sortDirection != null) {
+            Assert.state(!hasOrderBy, "Query string must not contain ORDER BY when sortDirection is set.");
+        } else {
+            Assert.state(hasOrderBy, "Query string must contain ORDER BY matching the seek keys when sortDirection is not set.");
+        }
+        if (minId != null || maxId != null) {
+            Assert.state(minId != null && maxId != null, "minId and maxId must be set together.");
+            Assert.state(minId <= maxId, "minId must be less than or equal to maxId.");
+            Assert.state(sortKeys.isEmpty(), "idRange is only supported with idExtractor.");
+        }
 
         return new NoOffsetItemReader<>(
                 this.entityManagerFactory,
@@ -114,7 +214,14 @@ public class NoOffsetItemReaderBuilder<T> {
                 this.chunkSize,
                 this.idExtractor,
                 this.targetType,
-                this.name
+                this.name,
+                this.sortKeys,
+                this.sortKeyExtractor,
+                this.prefetchPages,
+                this.minId,
+                this.maxId,
+                this.readOnly,
+                this.sortDirection
         );
     }
 }
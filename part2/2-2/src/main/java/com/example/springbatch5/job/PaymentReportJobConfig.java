@@ -2,6 +2,7 @@ package com.example.springbatch5.job;
 
 import com.example.springbatch5.entity.Payment;
 import com.example.springbatch5.entity.PaymentSource;
+import com.example.springbatch5.entity.PaymentSourceProjection;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,16 +14,21 @@ import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 
 @Slf4j
 @Configuration
@@ -33,6 +39,7 @@ public class PaymentReportJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final int chunkSize = 1_000;
+    private final int partitionGridSize = 8;
 
     @Bean
     public Job paymentReportJob(
@@ -44,17 +51,37 @@ public class PaymentReportJobConfig {
                 .build();
     }
 
+    /**
+     * 결제 원천 데이터를 읽어 Payment로 변환하는 Step을 생성합니다.
+     * `payment.reader`로 사용할 ItemReader를 선택합니다.
+     * - `no-offset` (기본값): id 기준 No Offset ItemReader
+     * - `composite-key`: (사업자 번호, id) 복합 키 기준 No Offset ItemReader
+     * - `prefetch`: 다음 페이지를 미리 조회하는 No Offset ItemReader
+     * - `projection`: 필요한 컬럼만 DTO로 조회하는 읽기 전용 No Offset ItemReader
+     * - `limit-offset`: 비교용 JpaPagingItemReader
+     *
+     * @param readerType `payment.reader` 설정 값
+     * @return Step
+     */
     @Bean
     public Step paymentReportStep(
-//            JpaPagingItemReader<PaymentSource> limitOffsetItemReader
-            NoOffsetItemReader<PaymentSource> noOffsetItemReader
+            @Value("${payment.reader:no-offset}") String readerType
     ) {
+        if ("projection".equals(readerType)) {
+            return new StepBuilder("paymentReportStep", jobRepository)
+                    .<PaymentSourceProjection, Payment>chunk(chunkSize, transactionManager)
+                    .listener(new StepDurationTrackerListener())
+                    .reader(projectionNoOffsetItemReader(null))
+                    .processor(projectionPaymentReportProcessor())
+                    .writer(paymentReportWriter())
+                    .listener(new ChunkDurationTrackerListener())
+                    .build();
+        }
         return new StepBuilder("paymentReportStep", jobRepository)
                 .<PaymentSource, Payment>chunk(chunkSize, transactionManager)
                 // Step 소요 시간 측정
                 .listener(new StepDurationTrackerListener())
-//                .reader(limitOffsetItemReader)
-                .reader(noOffsetItemReader)
+                .reader(paymentReportReader(readerType))
                 .processor(paymentReportProcessor())
                 .writer(paymentReportWriter())
                 // Chunk 소요 시간 측장
@@ -62,6 +89,120 @@ public class PaymentReportJobConfig {
                 .build();
     }
 
+    /**
+     * `payment.reader` 설정 값에 해당하는 PaymentSource ItemReader를 반환합니다.
+     * StepScope Bean이므로 인자는 무시되고 Step 실행 시점의 JobParameter가 주입됩니다.
+     */
+    private ItemStreamReader<PaymentSource> paymentReportReader(String readerType) {
+        return switch (readerType) {
+            case "no-offset" -> noOffsetItemReader(null);
+            case "composite-key" -> compositeKeyNoOffsetItemReader(null);
+            case "prefetch" -> prefetchNoOffsetItemReader(null);
+            case "limit-offset" -> limitOffsetItemReader(null);
+            default -> throw new IllegalArgumentException("Unknown payment.reader: " + readerType);
+        };
+    }
+
+    /**
+     * id 범위 파티셔닝을 사용하는 Job을 생성합니다.
+     * 결제일의 id 공간을 나누어 파티션별로 범위가 제한된 No Offset ItemReader를 병렬로 실행합니다.
+     *
+     * @param paymentReportManagerStep 파티션을 관리하는 매니저 스텝
+     * @return Job
+     */
+    @Bean
+    public Job partitionedPaymentReportJob(
+            Step paymentReportManagerStep
+    ) {
+        return new JobBuilder("partitionedPaymentReportJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(paymentReportManagerStep)
+                .build();
+    }
+
+    @Bean
+    public Step paymentReportManagerStep(
+            Step paymentReportWorkerStep
+    ) {
+        return new StepBuilder("paymentReportManagerStep", jobRepository)
+                .partitioner("paymentReportWorkerStep", idRangePartitioner(null))
+                .step(paymentReportWorkerStep)
+                .gridSize(partitionGridSize)
+                .taskExecutor(paymentReportTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step paymentReportWorkerStep(
+            NoOffsetItemReader<PaymentSource> idRangeNoOffsetItemReader
+    ) {
+        return new StepBuilder("paymentReportWorkerStep", jobRepository)
+                .<PaymentSource, Payment>chunk(chunkSize, transactionManager)
+                .listener(new StepDurationTrackerListener())
+                .reader(idRangeNoOffsetItemReader)
+                .processor(paymentReportProcessor())
+                .writer(paymentReportWriter())
+                .listener(new ChunkDurationTrackerListener())
+                .build();
+    }
+
+    /**
+     * 결제일의 최소/최대 id를 조회하여 gridSize개의 id 범위로 나누는 Partitioner를 생성합니다.
+     *
+     * @param paymentDate JobParameter로 전달받은 조회할 결제 날짜
+     * @return IdRangePartitioner
+     */
+    @Bean
+    @StepScope
+    public IdRangePartitioner idRangePartitioner(
+            @Value("#{jobParameters['paymentDate']}") LocalDate paymentDate
+    ) {
+        return new IdRangePartitioner(
+                entityManagerFactory,
+                "SELECT MIN(ps.id), MAX(ps.id) FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate",
+                Collections.singletonMap("paymentDate", paymentDate)
+        );
+    }
+
+    @Bean
+    public TaskExecutor paymentReportTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(partitionGridSize);
+        taskExecutor.setMaxPoolSize(partitionGridSize);
+        taskExecutor.setThreadNamePrefix("partition-thread-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    /**
+     * StepExecutionContext로부터 `minId`, `maxId`를 주입받아 해당 id 범위만 조회하는 No Offset ItemReader를 생성합니다.
+     *
+     * @param paymentDate JobParameter로 전달받은 조회할 결제 날짜
+     * @param minId       파티션의 id 하한
+     * @param maxId       파티션의 id 상한
+     * @return NoOffsetItemReader 인스턴스
+     */
+    @Bean
+    @StepScope
+    public NoOffsetItemReader<PaymentSource> idRangeNoOffsetItemReader(
+            @Value("#{jobParameters['paymentDate']}") LocalDate paymentDate,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
+        return new NoOffsetItemReaderBuilder<PaymentSource>()
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate")
+                .parameterValues(Collections.singletonMap("paymentDate", paymentDate))
+                .chunkSize(chunkSize)
+                .name("idRangeNoOffsetItemReader")
+                .idExtractor(PaymentSource::getId)
+                .targetType(PaymentSource.class)
+                .sortDirection(Sort.Direction.DESC)
+                .idRange(minId, maxId)
+                .build();
+    }
+
     @Bean
     @StepScope
     public JpaPagingItemReader<PaymentSource> limitOffsetItemReader(
@@ -92,15 +233,88 @@ public class PaymentReportJobConfig {
     ) {
         return new NoOffsetItemReaderBuilder<PaymentSource>()
                 .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate ORDER BY ps.id DESC")
+                .queryString("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate")
                 .parameterValues(Collections.singletonMap("paymentDate", paymentDate))
                 .chunkSize(chunkSize)
                 .name("noOffsetItemReader")
                 .idExtractor(PaymentSource::getId)
                 .targetType(PaymentSource.class)
+                .sortDirection(Sort.Direction.DESC)
+                .build();
+    }
+
+    /**
+     * 복합 키 기반의 No Offset ItemReader를 생성합니다.
+     * (partnerBusinessRegistrationNumber, id) 순서로 정렬하고, 마지막으로 읽은 아이템의 두 값을 커서로 사용하여 다음 페이지를 조회합니다.
+     *
+     * @param paymentDate JobParameter로 전달받은 조회할 결제 날짜
+     * @return NoOffsetItemReader 인스턴스
+     */
+    @Bean
+    @StepScope
+    public NoOffsetItemReader<PaymentSource> compositeKeyNoOffsetItemReader(
+            @Value("#{jobParameters['paymentDate']}") LocalDate paymentDate
+    ) {
+        return new NoOffsetItemReaderBuilder<PaymentSource>()
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate ORDER BY ps.partnerBusinessRegistrationNumber DESC, ps.id DESC")
+                .parameterValues(Collections.singletonMap("paymentDate", paymentDate))
+                .chunkSize(chunkSize)
+                .name("compositeKeyNoOffsetItemReader")
+                .sortKeys("ps.partnerBusinessRegistrationNumber", "ps.id")
+                .sortKeyExtractor(ps -> List.of(ps.getPartnerBusinessRegistrationNumber(), ps.getId()))
+                .targetType(PaymentSource.class)
+                .build();
+    }
+
+    /**
+     * 다음 페이지를 미리 조회하는 No Offset ItemReader를 생성합니다.
+     * Chunk가 현재 페이지를 처리하는 동안 별도 스레드가 최대 2 페이지까지 미리 조회합니다.
+     *
+     * @param paymentDate JobParameter로 전달받은 조회할 결제 날짜
+     * @return NoOffsetItemReader 인스턴스
+     */
+    @Bean
+    @StepScope
+    public NoOffsetItemReader<PaymentSource> prefetchNoOffsetItemReader(
+            @Value("#{jobParameters['paymentDate']}") LocalDate paymentDate
+    ) {
+        return new NoOffsetItemReaderBuilder<PaymentSource>()
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate ORDER BY ps.id DESC")
+                .parameterValues(Collections.singletonMap("paymentDate", paymentDate))
+                .chunkSize(chunkSize)
+                .name("prefetchNoOffsetItemReader")
+                .idExtractor(PaymentSource::getId)
+                .targetType(PaymentSource.class)
+                .prefetchPages(2)
                 .build();
     }
 
+    /**
+     * 필요한 컬럼만 DTO로 조회하는 읽기 전용 No Offset ItemReader를 생성합니다.
+     * 엔티티를 영속성 컨텍스트에 올리지 않고, 페이지마다 영속성 컨텍스트를 비워 긴 Step에서도 힙 사용량이 일정하게 유지됩니다.
+     *
+     * @param paymentDate JobParameter로 전달받은 조회할 결제 날짜
+     * @return NoOffsetItemReader 인스턴스
+     */
+    @Bean
+    @StepScope
+    public NoOffsetItemReader<PaymentSourceProjection> projectionNoOffsetItemReader(
+            @Value("#{jobParameters['paymentDate']}") LocalDate paymentDate
+    ) {
+        return new NoOffsetItemReaderBuilder<PaymentSourceProjection>()
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT new com.example.springbatch5.entity.PaymentSourceProjection(ps.id, ps.finalAmount, ps.paymentDate) " +
+                        "FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate ORDER BY ps.id DESC")
+                .parameterValues(Collections.singletonMap("paymentDate", paymentDate))
+                .chunkSize(chunkSize)
+                .name("projectionNoOffsetItemReader")
+                .idExtractor(PaymentSourceProjection::getId)
+                .targetType(PaymentSourceProjection.class)
+                .readOnly(true)
+                .build();
+    }
 
     private ItemProcessor<PaymentSource, Payment> paymentReportProcessor() {
         return paymentSource -> {
@@ -116,6 +330,16 @@ public class PaymentReportJobConfig {
         };
     }
 
+    private ItemProcessor<PaymentSourceProjection, Payment> projectionPaymentReportProcessor() {
+        return projection -> new Payment(
+                null,
+                projection.getFinalAmount(),
+                projection.getPaymentDate(),
+                "partnerCorpName",
+                "PAYMENT"
+        );
+    }
+
     @Bean
     public ItemWriter<Payment> paymentReportWriter() {
         return chunk -> {
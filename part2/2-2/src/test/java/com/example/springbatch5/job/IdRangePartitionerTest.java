@@ -0,0 +1,110 @@
+package com.example.springbatch5.job;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdRangePartitionerTest {
+
+    private static final String MIN_MAX_QUERY = "SELECT MIN(ps.id), MAX(ps.id) FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate";
+
+    @Test
+    void 범위_크기는_올림_처리되고_마지막_파티션이_나머지_범위를_포함한다() {
+        Map<String, ExecutionContext> partitions = partitioner(1L, 10L).partition(3);
+
+        // (10 - 1) / 3 + 1 = 4
+        assertThat(partitions).hasSize(3);
+        assertRange(partitions.get("partition0"), 1L, 4L);
+        assertRange(partitions.get("partition1"), 5L, 8L);
+        assertRange(partitions.get("partition2"), 9L, 10L);
+    }
+
+    @Test
+    void 범위가_나누어떨어지면_같은_크기의_파티션을_만든다() {
+        Map<String, ExecutionContext> partitions = partitioner(101L, 109L).partition(3);
+
+        assertThat(partitions).hasSize(3);
+        assertRange(partitions.get("partition0"), 101L, 103L);
+        assertRange(partitions.get("partition1"), 104L, 106L);
+        assertRange(partitions.get("partition2"), 107L, 109L);
+    }
+
+    @Test
+    void id_범위가_gridSize보다_작으면_id당_하나의_파티션만_만든다() {
+        Map<String, ExecutionContext> partitions = partitioner(7L, 8L).partition(5);
+
+        assertThat(partitions).hasSize(2);
+        assertRange(partitions.get("partition0"), 7L, 7L);
+        assertRange(partitions.get("partition1"), 8L, 8L);
+    }
+
+    @Test
+    void 최소와_최대_id가_같으면_하나의_파티션을_만든다() {
+        Map<String, ExecutionContext> partitions = partitioner(42L, 42L).partition(4);
+
+        assertThat(partitions).hasSize(1);
+        assertRange(partitions.get("partition0"), 42L, 42L);
+    }
+
+    @Test
+    void 조회_대상이_없으면_빈_파티션을_반환한다() {
+        Map<String, ExecutionContext> partitions = partitioner(null, null).partition(4);
+
+        assertThat(partitions).isEmpty();
+    }
+
+    @Test
+    void 최소_최대_조회에_파라미터를_바인딩하고_EntityManager를_닫는다() {
+        TypedQuery<Object[]> query = minMaxQuery(1L, 10L);
+        EntityManager entityManager = entityManager(query);
+        LocalDate paymentDate = LocalDate.of(2025, 1, 1);
+
+        new IdRangePartitioner(entityManagerFactory(entityManager), MIN_MAX_QUERY, Map.of("paymentDate", paymentDate))
+                .partition(2);
+
+        verify(query).setParameter("paymentDate", paymentDate);
+        verify(entityManager).close();
+    }
+
+    private static void assertRange(ExecutionContext context, long minId, long maxId) {
+        assertThat(context.getLong("minId")).isEqualTo(minId);
+        assertThat(context.getLong("maxId")).isEqualTo(maxId);
+    }
+
+    private static IdRangePartitioner partitioner(Long minId, Long maxId) {
+        EntityManager entityManager = entityManager(minMaxQuery(minId, maxId));
+        return new IdRangePartitioner(entityManagerFactory(entityManager), MIN_MAX_QUERY, Map.of());
+    }
+
+    private static EntityManagerFactory entityManagerFactory(EntityManager entityManager) {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        return entityManagerFactory;
+    }
+
+    private static EntityManager entityManager(TypedQuery<Object[]> query) {
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(query);
+        return entityManager;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypedQuery<Object[]> minMaxQuery(Long minId, Long maxId) {
+        TypedQuery<Object[]> query = mock(TypedQuery.class);
+        // MIN/MAX 집계는 조회 대상이 없어도 한 행(NULL, NULL)을 반환합니다.
+        when(query.getSingleResult()).thenReturn(new Object[]{minId, maxId});
+        return query;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.entity.PaymentSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class NoOffsetItemReaderBuilderTest {
+
+    @Test
+    void WHERE_절이_없는_쿼리는_거부한다() {
+        assertThatThrownBy(() -> builder("SELECT ps FROM PaymentSource ps ORDER BY ps.id DESC").build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("WHERE");
+    }
+
+    @Test
+    void WHERE_절이_여러_개인_쿼리는_거부한다() {
+        String queryString = "SELECT ps FROM PaymentSource ps WHERE ps.id IN (SELECT p.id FROM Payment p WHERE p.status = 'PAID') ORDER BY ps.id DESC";
+
+        assertThatThrownBy(() -> builder(queryString).build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("WHERE");
+    }
+
+    @Test
+    void sortDirection과_ORDER_BY를_함께_설정하면_거부한다() {
+        assertThatThrownBy(() -> builder("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate order by ps.id DESC")
+                .sortDirection(Sort.Direction.ASC)
+                .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ORDER BY");
+    }
+
+    @Test
+    void sortDirection이_없으면_ORDER_BY가_필요하다() {
+        assertThatThrownBy(() -> builder("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate").build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ORDER BY");
+    }
+
+    @Test
+    void 소문자_where_절도_허용한다() {
+        assertThatCode(() -> builder("select ps from PaymentSource ps where ps.paymentDate = :paymentDate")
+                .sortDirection(Sort.Direction.DESC)
+                .build())
+                .doesNotThrowAnyException();
+    }
+
+    private static NoOffsetItemReaderBuilder<PaymentSource> builder(String queryString) {
+        return new NoOffsetItemReaderBuilder<PaymentSource>()
+                .entityManagerFactory(mock(EntityManagerFactory.class))
+                .queryString(queryString)
+                .chunkSize(10)
+                .name("noOffsetItemReader")
+                .idExtractor(PaymentSource::getId)
+                .targetType(PaymentSource.class);
+    }
+}
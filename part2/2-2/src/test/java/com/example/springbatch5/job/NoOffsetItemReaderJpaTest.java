@@ -0,0 +1,197 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.entity.PaymentSource;
+import com.example.springbatch5.entity.PaymentSourceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link NoOffsetItemReader}가 실제 DB에서 페이지 경계와 재시작을 올바르게 처리하는지 검증합니다.
+ */
+@SpringBootTest(properties = {"spring.batch.job.enabled=false"})
+class NoOffsetItemReaderJpaTest {
+
+    private static final LocalDate PAYMENT_DATE = LocalDate.of(2025, 1, 1);
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PaymentSourceRepository paymentSourceRepository;
+
+    private List<PaymentSource> saved;
+
+    @BeforeEach
+    void setUp() {
+        paymentSourceRepository.deleteAllInBatch();
+        // 선행 키(사업자번호)가 같은 행이 페이지 경계(2건)를 넘어 이어지도록 저장합니다.
+        saved = paymentSourceRepository.saveAll(List.of(
+                paymentSource("333"),
+                paymentSource("222"),
+                paymentSource("222"),
+                paymentSource("222"),
+                paymentSource("222"),
+                paymentSource("111"),
+                paymentSource("111")
+        ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentSourceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 복합_키_모드는_선행_키가_같은_행이_페이지_경계를_넘어도_빠짐없이_한_번씩_읽는다() {
+        NoOffsetItemReader<PaymentSource> reader = compositeKeyReader();
+        reader.open(new ExecutionContext());
+
+        List<Long> readIds = readAll(reader);
+        reader.close();
+
+        assertThat(readIds).containsExactlyElementsOf(expectedIdsInOrder());
+    }
+
+    @Test
+    void 재시작하면_ExecutionContext의_cursor_이후부터_읽는다() {
+        ExecutionContext executionContext = new ExecutionContext();
+        NoOffsetItemReader<PaymentSource> firstRun = compositeKeyReader();
+        firstRun.open(executionContext);
+
+        // 두 번째 Chunk까지 처리한 뒤 체크포인트를 저장하고 실패한 상황을 가정합니다.
+        List<Long> firstRunIds = new ArrayList<>();
+        for (int i = 0; i < CHUNK_SIZE * 2; i++) {
+            firstRunIds.add(firstRun.read().getId());
+        }
+        firstRun.update(executionContext);
+        firstRun.close();
+
+        List<Long> expected = expectedIdsInOrder();
+        PaymentSource lastRead = paymentSourceRepository.findById(firstRunIds.get(firstRunIds.size() - 1)).orElseThrow();
+        assertThat(executionContext.get("cursor"))
+                .isEqualTo(List.of(lastRead.getPartnerBusinessRegistrationNumber(), lastRead.getId()));
+
+        NoOffsetItemReader<PaymentSource> secondRun = compositeKeyReader();
+        secondRun.open(executionContext);
+        List<Long> secondRunIds = readAll(secondRun);
+        secondRun.close();
+
+        assertThat(firstRunIds).containsExactlyElementsOf(expected.subList(0, CHUNK_SIZE * 2));
+        assertThat(secondRunIds).containsExactlyElementsOf(expected.subList(CHUNK_SIZE * 2, expected.size()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Sort.Direction.class)
+    void 단일_id_모드는_sortDirection_방향으로_페이지를_넘기며_모두_읽는다(Sort.Direction direction) {
+        NoOffsetItemReader<PaymentSource> reader = idReader(direction, null, null);
+        reader.open(new ExecutionContext());
+
+        List<Long> readIds = readAll(reader);
+        reader.close();
+
+        assertThat(readIds).containsExactlyElementsOf(sortedIds(direction));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Sort.Direction.class)
+    void id_범위_모드는_sortDirection_방향으로_범위_안의_id만_읽는다(Sort.Direction direction) {
+        List<Long> ascending = sortedIds(Sort.Direction.ASC);
+        Long minId = ascending.get(1);
+        Long maxId = ascending.get(5);
+        NoOffsetItemReader<PaymentSource> reader = idReader(direction, minId, maxId);
+        reader.open(new ExecutionContext());
+
+        List<Long> readIds = readAll(reader);
+        reader.close();
+
+        List<Long> expected = sortedIds(direction).stream()
+                .filter(id -> id >= minId && id <= maxId)
+                .toList();
+        assertThat(readIds).containsExactlyElementsOf(expected);
+    }
+
+    private NoOffsetItemReader<PaymentSource> idReader(Sort.Direction direction, Long minId, Long maxId) {
+        return new NoOffsetItemReaderBuilder<PaymentSource>()
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate")
+                .parameterValues(Collections.singletonMap("paymentDate", PAYMENT_DATE))
+                .chunkSize(CHUNK_SIZE)
+                .name("noOffsetItemReader")
+                .idExtractor(PaymentSource::getId)
+                .targetType(PaymentSource.class)
+                .sortDirection(direction)
+                .idRange(minId, maxId)
+                .build();
+    }
+
+    private List<Long> sortedIds(Sort.Direction direction) {
+        List<Long> ids = new ArrayList<>(saved.stream().map(PaymentSource::getId).sorted().toList());
+        if (direction.isDescending()) {
+            Collections.reverse(ids);
+        }
+        return ids;
+    }
+
+    private NoOffsetItemReader<PaymentSource> compositeKeyReader() {
+        return new NoOffsetItemReaderBuilder<PaymentSource>()
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT ps FROM PaymentSource ps WHERE ps.paymentDate = :paymentDate ORDER BY ps.partnerBusinessRegistrationNumber DESC, ps.id DESC")
+                .parameterValues(Collections.singletonMap("paymentDate", PAYMENT_DATE))
+                .chunkSize(CHUNK_SIZE)
+                .name("compositeKeyNoOffsetItemReader")
+                .sortKeys("ps.partnerBusinessRegistrationNumber", "ps.id")
+                .sortKeyExtractor(ps -> List.of(ps.getPartnerBusinessRegistrationNumber(), ps.getId()))
+                .targetType(PaymentSource.class)
+                .build();
+    }
+
+    /**
+     * (사업자번호 DESC, id DESC) 순서의 기대 id 목록
+     */
+    private List<Long> expectedIdsInOrder() {
+        return saved.stream()
+                .sorted((a, b) -> {
+                    int compared = b.getPartnerBusinessRegistrationNumber().compareTo(a.getPartnerBusinessRegistrationNumber());
+                    return compared != 0 ? compared : b.getId().compareTo(a.getId());
+                })
+                .map(PaymentSource::getId)
+                .toList();
+    }
+
+    private static List<Long> readAll(NoOffsetItemReader<PaymentSource> reader) {
+        List<Long> ids = new ArrayList<>();
+        PaymentSource item;
+        while ((item = reader.read()) != null) {
+            ids.add(item.getId());
+        }
+        return ids;
+    }
+
+    private static PaymentSource paymentSource(String businessRegistrationNumber) {
+        return new PaymentSource(
+                null,
+                "partner-" + businessRegistrationNumber,
+                businessRegistrationNumber,
+                BigDecimal.valueOf(1000),
+                BigDecimal.ZERO,
+                BigDecimal.valueOf(1000),
+                PAYMENT_DATE
+        );
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.springbatch5.job;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoOffsetItemReaderTest {
+
+    private static final List<Long> IDS = LongStream.iterate(10, id -> id - 1).limit(10).boxed().toList(); // 10, 9, ..., 1
+
+    @Test
+    void 단일_정렬키는_단순_비교_조건을_만든다() {
+        String predicate = NoOffsetItemReader.createSeekPredicate(List.of("id"), ">");
+
+        assertThat(predicate).isEqualTo("(id > :cursor0)");
+    }
+
+    @Test
+    void 복합_정렬키는_앞선_키가_같을_때만_다음_키를_비교한다() {
+        String predicate = NoOffsetItemReader.createSeekPredicate(List.of("paymentDateTime", "id"), ">");
+
+        assertThat(predicate).isEqualTo(
+                "(paymentDateTime > :cursor0 OR (paymentDateTime = :cursor0 AND id > :cursor1))");
+    }
+
+    @Test
+    void 세_개_이상의_정렬키도_사전순으로_확장된다() {
+        String predicate = NoOffsetItemReader.createSeekPredicate(List.of("a", "b", "c"), "<");
+
+        assertThat(predicate).isEqualTo(
+                "(a < :cursor0 OR (a = :cursor0 AND b < :cursor1) OR (a = :cursor0 AND b = :cursor1 AND c < :cursor2))");
+    }
+
+    @Test
+    void prefetch_스레드는_prefetchPages를_넘어서_미리_조회하지_않는다() throws InterruptedException {
+        AtomicInteger seekQueries = new AtomicInteger();
+        NoOffsetItemReader<Long> reader = prefetchReader(entityManagerFactory(seekQueries, null), 1);
+        reader.open(new ExecutionContext());
+
+        // 큐에 1페이지가 들어가고, 2페이지는 조회된 뒤 큐가 빌 때까지 대기합니다.
+        waitUntil(() -> seekQueries.get() == 2);
+        Thread.sleep(200);
+        assertThat(seekQueries).hasValue(2);
+
+        assertThat(reader.read()).isEqualTo(10L);
+        assertThat(reader.read()).isEqualTo(9L);
+
+        // Chunk가 한 페이지를 가져가야 다음 페이지를 조회합니다.
+        waitUntil(() -> seekQueries.get() == 3);
+        Thread.sleep(200);
+        assertThat(seekQueries).hasValue(3);
+        reader.close();
+    }
+
+    @Test
+    void prefetch_스레드의_조회_실패는_read에서_ItemStreamException으로_전달된다() {
+        // 두 번째 페이지(firstId = 9) 조회부터 실패합니다.
+        NoOffsetItemReader<Long> reader = prefetchReader(entityManagerFactory(new AtomicInteger(), 9L), 2);
+        reader.open(new ExecutionContext());
+
+        assertThat(reader.read()).isEqualTo(10L);
+        assertThat(reader.read()).isEqualTo(9L);
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(ItemStreamException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    @Test
+    void 재시작하면_미리_조회만_된_페이지가_아니라_Chunk에_전달된_페이지_이후부터_읽는다() {
+        AtomicInteger seekQueries = new AtomicInteger();
+        EntityManagerFactory entityManagerFactory = entityManagerFactory(seekQueries, null);
+        ExecutionContext executionContext = new ExecutionContext();
+
+        NoOffsetItemReader<Long> firstRun = prefetchReader(entityManagerFactory, 2);
+        firstRun.open(executionContext);
+        assertThat(firstRun.read()).isEqualTo(10L);
+        assertThat(firstRun.read()).isEqualTo(9L);
+        waitUntil(() -> seekQueries.get() >= 3);
+        firstRun.update(executionContext);
+        firstRun.close();
+
+        assertThat(executionContext.getLong("firstId")).isEqualTo(9L);
+
+        NoOffsetItemReader<Long> secondRun = prefetchReader(entityManagerFactory, 2);
+        secondRun.open(executionContext);
+        List<Long> secondRunIds = new ArrayList<>();
+        Long id;
+        while ((id = secondRun.read()) != null) {
+            secondRunIds.add(id);
+        }
+        secondRun.close();
+
+        assertThat(secondRunIds).containsExactlyElementsOf(IDS.subList(2, IDS.size()));
+    }
+
+    private static NoOffsetItemReader<Long> prefetchReader(EntityManagerFactory entityManagerFactory, int prefetchPages) {
+        return new NoOffsetItemReaderBuilder<Long>()
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT p.id FROM Payment p WHERE p.amount > 0 ORDER BY p.id DESC")
+                .chunkSize(2)
+                .name("prefetchNoOffsetItemReader")
+                .idExtractor(id -> id)
+                .targetType(Long.class)
+                .prefetchPages(prefetchPages)
+                .build();
+    }
+
+    /**
+     * {@link #IDS}를 id 내림차순으로 조회하는 EntityManagerFactory.
+     * EntityManager와 쿼리는 호출마다 새로 만들어 prefetch 스레드와 Chunk 스레드가 공유하지 않습니다.
+     *
+     * @param seekQueries     firstId가 바인딩된 페이지 조회 횟수
+     * @param failFromFirstId 이 값 이하의 firstId로 조회하면 실패, 실패하지 않으면 null
+     */
+    @SuppressWarnings("unchecked")
+    private static EntityManagerFactory entityManagerFactory(AtomicInteger seekQueries, Long failFromFirstId) {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.createEntityManager()).thenAnswer(invocation -> {
+            EntityManager entityManager = mock(EntityManager.class);
+            when(entityManager.createQuery(anyString(), eq(Long.class)))
+                    .thenAnswer(createQuery -> pageQuery(seekQueries, failFromFirstId));
+            return entityManager;
+        });
+        return entityManagerFactory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TypedQuery<Long> pageQuery(AtomicInteger seekQueries, Long failFromFirstId) {
+        TypedQuery<Long> query = mock(TypedQuery.class, RETURNS_SELF);
+        AtomicReference<Long> firstId = new AtomicReference<>();
+        AtomicInteger maxResults = new AtomicInteger(Integer.MAX_VALUE);
+        when(query.setParameter(eq("firstId"), any())).thenAnswer(invocation -> {
+            firstId.set(invocation.getArgument(1));
+            return query;
+        });
+        when(query.setMaxResults(anyInt())).thenAnswer(invocation -> {
+            maxResults.set(invocation.getArgument(0));
+            return query;
+        });
+        when(query.getResultList()).thenAnswer(invocation -> {
+            if (firstId.get() == null) {
+                return IDS.stream().limit(maxResults.get()).toList();
+            }
+            seekQueries.incrementAndGet();
+            if (failFromFirstId != null && firstId.get() <= failFromFirstId) {
+                throw new IllegalStateException("Connection is not available");
+            }
+            return IDS.stream().filter(id -> id < firstId.get()).limit(maxResults.get()).toList();
+        });
+        return query;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition was not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.springbatch5.entity.User;
 import com.example.springbatch5.entity.UserRepository;
 import com.example.springbatch5.service.OrderClient;
 import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
@@ -18,8 +19,11 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaCursorItemReader;
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.stream.Collectors;
@@ -36,8 +40,11 @@ public class UserGradleApplyJobConfiguration {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final OrderClient orderClient;
+    private final Environment environment;
     private final UserRepository userRepository;
     private final int chunkSize = 1_000;
+    // 가상 스레드 모드에서 동시에 보낼 등급 조회 요청 수
+    private static final int VIRTUAL_THREAD_PARALLELISM = 200;
 
     @Bean
     public Job userGradleApplyJob(
@@ -75,12 +82,24 @@ public class UserGradleApplyJobConfiguration {
     }
 
 
+    /**
+     * 등급 조회(외부 API 호출)를 병렬로 실행하는 Writer를 생성합니다.
+     *
+     * 기본값은 `Schedulers.io()`의 플랫폼 스레드에서 CPU 코어 수만큼 병렬로 호출합니다.
+     * `spring.threads.virtual.enabled=true`로 설정하면 요청마다 가상 스레드를 사용하고 {@value #VIRTUAL_THREAD_PARALLELISM}개까지 동시에 호출합니다.
+     * 등급 조회는 응답을 기다리는 시간이 대부분이므로, 가상 스레드를 사용하면 OS 스레드를 늘리지 않고 동시 호출 수를 늘릴 수 있습니다.
+     *
+     * @return ItemWriter<User>
+     */
     @Bean
     public ItemWriter<User> writer() {
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        int parallelism = virtualThreads ? VIRTUAL_THREAD_PARALLELISM : Runtime.getRuntime().availableProcessors();
+        Scheduler scheduler = virtualThreads ? virtualThreadScheduler() : Schedulers.io();
         return users -> {
             var appliedGradeUsers = Flowable.fromIterable(users.getItems())
-                    .parallel()
-                    .runOn(Schedulers.io())
+                    .parallel(parallelism)
+                    .runOn(scheduler)
                     .map(user -> {
                         final var grade = orderClient.getGrade(user.getId());
                         user.setGrade(grade);
@@ -99,4 +118,11 @@ public class UserGradleApplyJobConfiguration {
                     );
         };
     }
+
+    private static Scheduler virtualThreadScheduler() {
+        // 가상 스레드는 요청마다 새로 만들어도 비용이 작으므로 스레드 풀을 두지 않는다.
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("order-client-vthread-");
+        executor.setVirtualThreads(true);
+        return Schedulers.from(executor);
+    }
 }
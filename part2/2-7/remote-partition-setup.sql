@@ -0,0 +1,18 @@
+-- 원격 파티셔닝(batch.partition.transport=jdbc)에서 매니저와 워커가 파티션 실행 요청을 주고받는 큐 테이블
+CREATE TABLE IF NOT EXISTS batch_partition_request
+(
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_execution_id  BIGINT       NOT NULL,
+    step_execution_id BIGINT       NOT NULL,
+    step_name         VARCHAR(100) NOT NULL,
+    status            VARCHAR(10)  NOT NULL, -- READY, CLAIMED
+    created_at        DATETIME     NOT NULL,
+    claimed_at        DATETIME     NULL,
+    heartbeat_at      DATETIME     NULL,     -- 워커가 실행 중에 주기적으로 갱신, 실행이 끝나면 행을 삭제
+    INDEX idx_batch_partition_request_status (status, id),
+    INDEX idx_batch_partition_request_job_execution_id (job_execution_id, status),
+    UNIQUE KEY uk_batch_partition_request_step_execution_id (step_execution_id)
+);
+
+-- heartbeat_at 컬럼이 없는 기존 테이블은 아래 DDL로 컬럼을 추가합니다.
+-- ALTER TABLE batch_partition_request ADD COLUMN heartbeat_at DATETIME NULL AFTER claimed_at;
@@ -1,5 +1,6 @@
 -- 기존 테이블 drop
 DROP TABLE IF EXISTS payment_source;
+DROP TABLE IF EXISTS payment;
 
 -- payment_source 테이블 생성
 CREATE TABLE payment_source
@@ -18,6 +19,20 @@ CREATE TABLE payment_source
 CREATE INDEX idx_payment_date
     ON payment_source (payment_date);
 
+-- payment 테이블 생성 (파티션 워커 스텝의 저장 대상)
+CREATE TABLE payment
+(
+    id                BIGINT AUTO_INCREMENT
+        PRIMARY KEY,
+    amount            DECIMAL(38, 2) NOT NULL,
+    payment_date      DATE           NOT NULL,
+    partner_corp_name VARCHAR(100)   NULL,
+    status            VARCHAR(50)    NOT NULL
+);
+
+CREATE INDEX idx_payment_payment_date
+    ON payment (payment_date);
+
 
 -- 구분자 변경
 DELIMITER $$
@@ -0,0 +1,209 @@
+package com.example.springbatch5.job;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀의 크기와 CPU 코어 수로 동시 실행 파티션 수를 정하고, 실행 중 커넥션 대기 상황에 따라 동시 실행 수를 조절하는 TaskExecutor 입니다.
+ *
+ * 파티션 워커는 대부분 DB 커넥션을 잡고 동작하므로, 커넥션 풀보다 많은 스레드를 띄우면 남는 스레드는 `getConnection()`에서 대기만 합니다.
+ * - 최대 동시 실행 수: 커넥션 풀 크기 - `reservedConnections` (JobRepository 메타데이터 갱신 등에 사용할 커넥션을 남겨 둡니다)
+ * - 시작 동시 실행 수: 최대 동시 실행 수와 CPU 코어 수 x 2 중 작은 값
+ * - `adjustInterval`마다 커넥션 대기 여부를 확인하여, 커넥션 대기가 {@value #SUSTAINED_WAIT_SAMPLES}번 연속으로 관측되면 동시 실행 수를 1 줄이고,
+ *   대기 중인 파티션이 있는데 커넥션 대기가 없고 유휴 커넥션이 남아 있으면 1 늘립니다.
+ *
+ * 커넥션 대기는 Hikari가 Micrometer에 등록하는 `hikaricp.connections.acquire` 타이머로 판단합니다.
+ * 한 주기 동안 커넥션을 얻는 데 걸린 평균 시간이 `ACQUIRE_TIME_THRESHOLD`를 넘으면 대기로 봅니다.
+ * 타이머가 없거나 그 주기에 커넥션을 얻은 스레드가 없으면, 확인 시점에 커넥션을 기다리는 스레드 수(`getThreadsAwaitingConnection()`)로 판단합니다.
+ * 순간 값 한 번으로는 줄이지 않으므로 짧은 커넥션 경합에 동시 실행 수가 흔들리지 않습니다.
+ *
+ * 실행 중인 파티션은 중단할 수 없으므로, 동시 실행 수를 줄이면 실행 중인 파티션이 끝난 뒤부터 적용됩니다.
+ *
+ * 제공하는 메트릭 (생성자로 전달된 MeterRegistry에 등록)
+ * - batch.partition.executor.concurrency: 현재 동시 실행 수
+ * - batch.partition.executor.active: 실행 중인 파티션 수
+ * - batch.partition.executor.queue.depth: 실행을 기다리는 파티션 수
+ * - batch.partition.executor.db.awaiting: 커넥션을 기다리는 스레드 수
+ */
+@Slf4j
+public class LoadAwarePartitionTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final int CPU_MULTIPLIER = 2;
+    // 동시 실행 수를 줄이기 위해 연속으로 관측되어야 하는 커넥션 대기 횟수
+    static final int SUSTAINED_WAIT_SAMPLES = 3;
+    // 한 주기 동안의 평균 커넥션 획득 시간이 이 값을 넘으면 커넥션 대기로 판단한다.
+    static final Duration ACQUIRE_TIME_THRESHOLD = Duration.ofMillis(50);
+    private static final String HIKARI_ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int reservedConnections;
+    private final Duration adjustInterval;
+    private final int maxConcurrency;
+
+    // 현재 동시 실행 수
+    private volatile int concurrency;
+
+    // 동시 실행 수를 조절하는 모니터 스레드
+    private ScheduledExecutorService monitor;
+
+    // 커넥션 대기가 연속으로 관측된 횟수와 직전 주기의 acquire 타이머 값 (모니터 스레드에서만 사용)
+    private int waitSamples;
+    private long lastAcquireCount;
+    private double lastAcquireNanos;
+
+    /**
+     * LoadAwarePartitionTaskExecutor 생성자
+     *
+     * @param dataSource          파티션 워커가 사용하는 커넥션 풀
+     * @param meterRegistry       메트릭을 등록할 MeterRegistry
+     * @param reservedConnections 파티션 워커 외의 용도로 남겨 둘 커넥션 수
+     * @param adjustInterval      동시 실행 수를 조절하는 주기
+     */
+    public LoadAwarePartitionTaskExecutor(HikariDataSource dataSource, MeterRegistry meterRegistry,
+                                          int reservedConnections, Duration adjustInterval) {
+        Assert.notNull(dataSource, "DataSource는 필수입니다.");
+        Assert.notNull(meterRegistry, "MeterRegistry는 필수입니다.");
+        Assert.isTrue(reservedConnections >= 0, "reservedConnections는 0 이상이어야 합니다.");
+        Assert.isTrue(!adjustInterval.isNegative() && !adjustInterval.isZero(), "adjustInterval은 0보다 커야 합니다.");
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.reservedConnections = reservedConnections;
+        this.adjustInterval = adjustInterval;
+        this.maxConcurrency = Math.max(1, dataSource.getMaximumPoolSize() - reservedConnections);
+        this.concurrency = Math.min(maxConcurrency, Runtime.getRuntime().availableProcessors() * CPU_MULTIPLIER);
+
+        setCorePoolSize(concurrency);
+        setMaxPoolSize(concurrency);
+        setThreadNamePrefix("partition-thread-");
+        setWaitForTasksToCompleteOnShutdown(true);
+    }
+
+    @Override
+    public void initialize() {
+        super.initialize();
+        if (monitor != null) {
+            return;
+        }
+        registerMetrics();
+        this.monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-executor-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = adjustInterval.toMillis();
+        monitor.scheduleWithFixedDelay(this::adjustConcurrency, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Partition executor started with concurrency {} (max {}, pool size {}, cores {})",
+                concurrency, maxConcurrency, dataSource.getMaximumPoolSize(), Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public void shutdown() {
+        if (monitor != null) {
+            monitor.shutdownNow();
+            this.monitor = null;
+        }
+        super.shutdown();
+    }
+
+    /**
+     * 커넥션 풀 상태를 확인하여 동시 실행 수를 1만큼 조절합니다.
+     * 줄인 뒤에는 다시 {@value #SUSTAINED_WAIT_SAMPLES}번 연속으로 대기가 관측되어야 한 번 더 줄입니다.
+     */
+    void adjustConcurrency() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // 아직 커넥션 풀이 시작되지 않았다.
+            return;
+        }
+
+        int awaiting = pool.getThreadsAwaitingConnection();
+        boolean waiting = isWaitingForConnection(awaiting);
+        this.waitSamples = waiting ? waitSamples + 1 : 0;
+
+        int current = concurrency;
+        int next = current;
+        if (waitSamples >= SUSTAINED_WAIT_SAMPLES) {
+            next = Math.max(1, current - 1);
+            this.waitSamples = 0;
+        } else if (!waiting && getQueueDepth() > 0 && getActiveCount() >= current && pool.getIdleConnections() > reservedConnections) {
+            next = Math.min(maxConcurrency, current + 1);
+        }
+
+        if (next != current) {
+            applyConcurrency(next);
+            log.info("Partition concurrency changed {} -> {} (awaiting connection {}, queued partitions {})",
+                    current, next, awaiting, getQueueDepth());
+        }
+    }
+
+    /**
+     * 직전 확인 이후 커넥션을 얻은 스레드들의 평균 대기 시간으로 커넥션 대기 여부를 판단합니다.
+     */
+    private boolean isWaitingForConnection(int awaiting) {
+        Timer acquireTimer = meterRegistry.find(HIKARI_ACQUIRE_TIMER).tag("pool", dataSource.getPoolName()).timer();
+        if (acquireTimer == null) {
+            return awaiting > 0;
+        }
+
+        long count = acquireTimer.count();
+        double totalNanos = acquireTimer.totalTime(TimeUnit.NANOSECONDS);
+        long acquired = count - lastAcquireCount;
+        double acquireNanos = totalNanos - lastAcquireNanos;
+        this.lastAcquireCount = count;
+        this.lastAcquireNanos = totalNanos;
+        if (acquired <= 0) {
+            // 이번 주기에 커넥션을 얻은 스레드가 없으면 지금 기다리는 스레드가 있는지로 판단한다.
+            return awaiting > 0;
+        }
+        return acquireNanos / acquired > ACQUIRE_TIME_THRESHOLD.toNanos();
+    }
+
+    private synchronized void applyConcurrency(int next) {
+        // ThreadPoolExecutor는 core <= max를 유지해야 하므로 늘릴 때는 max부터, 줄일 때는 core부터 변경한다.
+        if (next > concurrency) {
+            setMaxPoolSize(next);
+            setCorePoolSize(next);
+        } else {
+            setCorePoolSize(next);
+            setMaxPoolSize(next);
+        }
+        this.concurrency = next;
+    }
+
+    /**
+     * 커넥션 풀 크기로 정해진 최대 동시 실행 수를 반환합니다.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    private int getQueueDepth() {
+        ThreadPoolExecutor executor = getThreadPoolExecutor();
+        return executor.getQueue().size();
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("batch.partition.executor.concurrency", this, executor -> executor.concurrency)
+                .register(meterRegistry);
+        Gauge.builder("batch.partition.executor.active", this, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("batch.partition.executor.queue.depth", this, LoadAwarePartitionTaskExecutor::getQueueDepth)
+                .register(meterRegistry);
+        Gauge.builder("batch.partition.executor.db.awaiting", dataSource,
+                        ds -> ds.getHikariPoolMXBean() == null ? 0 : ds.getHikariPoolMXBean().getThreadsAwaitingConnection())
+                .register(meterRegistry);
+    }
+}
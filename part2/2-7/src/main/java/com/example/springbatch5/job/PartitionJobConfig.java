@@ -2,30 +2,48 @@ package com.example.springbatch5.job;
 
 import com.example.springbatch5.entity.Payment;
 import com.example.springbatch5.entity.PaymentSource;
+import com.example.springbatch5.partition.InMemoryPartitionRequestTransport;
+import com.example.springbatch5.partition.JdbcPartitionRequestTransport;
+import com.example.springbatch5.partition.PartitionRequestTransport;
+import com.example.springbatch5.partition.RemotePartitionHandler;
+import com.example.springbatch5.partition.RemotePartitionWorker;
+import com.example.springbatch5.writer.PaymentStagingItemWriter;
+import com.example.springbatch5.writer.PaymentStagingMergeTasklet;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.JpaCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JpaCursorItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.Map;
 
 /**
  * Spring Batch 파티셔닝을 사용하여 특정 기간의 결제 데이터를 병렬로 처리하는 Job 설정 클래스입니다.
@@ -37,8 +55,24 @@ import java.util.Collections;
 public class PartitionJobConfig {
     private final EntityManagerFactory entityManagerFactory;
     private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
     private final PlatformTransactionManager transactionManager;
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
     private final int chunkSize = 1_000;
+    // 커넥션 2개는 JobRepository의 메타데이터 갱신용으로 남겨 둔다.
+    private static final int RESERVED_CONNECTIONS = 2;
+    // 날짜별 파티션의 gridSize (한 달의 최대 일수)
+    private static final int DATE_GRID_SIZE = 31;
+    // 날짜별 파티션을 처리하는 워커 스텝의 이름 (원격 파티션 요청에 담겨 워커가 실행할 스텝을 찾는다)
+    private static final String WORKER_STEP_NAME = "workerStep";
+    // 원격 파티션 워커가 heartbeat 없이 파티션을 점유할 수 있는 시간과 heartbeat 주기
+    private static final Duration REMOTE_PARTITION_LEASE = Duration.ofMinutes(1);
+    private static final Duration REMOTE_PARTITION_HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    // 매니저가 원격 파티션의 결과를 JobRepository에서 조회하는 주기와 모든 파티션이 끝나기를 기다리는 최대 시간
+    private static final Duration REMOTE_PARTITION_POLL_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration REMOTE_PARTITION_TIMEOUT = Duration.ofHours(6);
 
     /**
      * 파티셔닝을 사용하는 Job을 생성합니다.
@@ -64,11 +98,11 @@ public class PartitionJobConfig {
     public Step managerStep(Step workerStep) {
         return new StepBuilder("managerStep", jobRepository)
                 // "workerStep"이라는 이름으로 파티셔너를 설정합니다.
-                .partitioner("workerStep", partitioner(null, null))
+                .partitioner(WORKER_STEP_NAME, partitioner(null, null))
                 // 각 파티션에서 실행될 스텝을 지정합니다.
                 .step(workerStep)
                 // 동시에 실행할 파티션의 수를 설정합니다.
-                .gridSize(31)
+                .gridSize(DATE_GRID_SIZE)
                 // 파티션을 병렬로 처리하기 위한 TaskExecutor를 설정합니다.
                 .taskExecutor(taskExecutor())
                 .build();
@@ -92,36 +126,57 @@ public class PartitionJobConfig {
 
     /**
      * 파티션 처리를 위한 스레드 풀을 생성합니다.
+     * 동시 실행 수는 커넥션 풀 크기와 CPU 코어 수로 정해지고, 커넥션 대기가 발생하면 5초 주기로 조절됩니다.
+     * gridSize보다 동시 실행 수가 작으면 나머지 파티션은 큐에서 기다렸다가 실행됩니다.
+     *
+     * `spring.threads.virtual.enabled=true`로 설정하면 파티션마다 가상 스레드를 사용합니다.
+     * 가상 스레드는 블로킹 비용이 작지만 커넥션 수는 그대로이므로, 커넥션 풀의 connectionTimeout 안에 커넥션을 받을 수 있도록
+     * 동시 실행 수를 커넥션 풀 크기 - 예비 커넥션 수(최소 1)로 제한합니다.
      *
      * @return TaskExecutor
      */
     @Bean
     public TaskExecutor taskExecutor() {
-        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
-        taskExecutor.setCorePoolSize(31); // 기본 스레드 수
-        taskExecutor.setMaxPoolSize(50);  // 최대 스레드 수
-        taskExecutor.setThreadNamePrefix("partition-thread-"); // 스레드 이름 접두사
-        taskExecutor.setWaitForTasksToCompleteOnShutdown(true); // 종료 시 모든 태스크가 완료될 때까지 대기
-        taskExecutor.initialize();
-        return taskExecutor;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("partition-vthread-");
+            taskExecutor.setVirtualThreads(true);
+            taskExecutor.setConcurrencyLimit(Math.max(1, dataSource.getMaximumPoolSize() - RESERVED_CONNECTIONS));
+            return taskExecutor;
+        }
+        return new LoadAwarePartitionTaskExecutor(dataSource, meterRegistry, RESERVED_CONNECTIONS, Duration.ofSeconds(5));
+    }
+
+    /**
+     * 가상 스레드 모드에서 JDBC 드라이버나 synchronized 구간에 가상 스레드가 고정되는 상황을 감지합니다.
+     *
+     * @return VirtualThreadPinningMonitor
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor() {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20), meterRegistry);
+        monitor.start();
+        return monitor;
     }
 
     /**
      * 각 파티션에서 실제 데이터 처리를 수행하는 워커 스텝을 생성합니다.
      *
      * @param cursorItemReader 각 파티션의 데이터를 읽는 JpaCursorItemReader
+     * @param paymentWriter    Payment 저장 방식 (`payment.writer` 설정 값)
      * @return Step
      */
     @Bean
     public Step workerStep(
-            JpaCursorItemReader<PaymentSource> cursorItemReader
+            JpaCursorItemReader<PaymentSource> cursorItemReader,
+            @Value("${payment.writer:print}") String paymentWriter
     ) {
-        return new StepBuilder("workerStep", jobRepository)
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
                 .<PaymentSource, Payment>chunk(chunkSize, transactionManager)
                 .listener(new StepDurationTrackerListener())
                 .reader(cursorItemReader)
                 .processor(paymentReportProcessor())
-                .writer(paymentReportWriter())
+                .writer(paymentReportWriter(paymentWriter))
                 .listener(new ChunkDurationTrackerListener())
                 .build();
     }
@@ -146,6 +201,293 @@ public class PartitionJobConfig {
                 .build();
     }
 
+    /**
+     * 파티션을 여러 배치 서버의 워커에게 나누어 실행하는 Job을 생성합니다.
+     *
+     * @param remoteManagerStep 파티션 실행 요청을 보내는 매니저 스텝
+     * @return Job
+     */
+    @Bean
+    public Job remotePartitionerJob(Step remoteManagerStep) {
+        return new JobBuilder("remotePartitionerJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(remoteManagerStep)
+                .build();
+    }
+
+    /**
+     * 파티션을 생성한 뒤 {@link RemotePartitionHandler}로 각 파티션의 실행 요청을 보내는 매니저 스텝을 생성합니다.
+     * 파티션은 `batch.partition.worker.enabled=true`로 실행된 배치 서버의 workerStep이 실행합니다.
+     * 워커가 {@link #REMOTE_PARTITION_LEASE} 동안 heartbeat를 보내지 않으면 해당 파티션을 실패 처리하고 나머지 파티션을 기다립니다.
+     *
+     * @param transport 파티션 실행 요청을 보낼 transport
+     * @return Step
+     */
+    @Bean
+    public Step remoteManagerStep(PartitionRequestTransport transport) {
+        return new StepBuilder("remoteManagerStep", jobRepository)
+                .partitioner(WORKER_STEP_NAME, partitioner(null, null))
+                .partitionHandler(new RemotePartitionHandler(
+                        transport,
+                        jobExplorer,
+                        jobRepository,
+                        WORKER_STEP_NAME,
+                        DATE_GRID_SIZE,
+                        REMOTE_PARTITION_POLL_INTERVAL,
+                        REMOTE_PARTITION_LEASE,
+                        REMOTE_PARTITION_TIMEOUT
+                ))
+                .build();
+    }
+
+    /**
+     * 파티션 실행 요청을 주고받을 transport를 생성합니다.
+     * 기본값은 MySQL 테이블을 큐로 사용하는 `jdbc`이며, 매니저와 워커를 한 JVM에서 실행하는 테스트에서는 `in-memory`를 사용합니다.
+     *
+     * @param transportType `batch.partition.transport` 설정 값 (jdbc, in-memory)
+     * @return PartitionRequestTransport
+     */
+    @Bean
+    public PartitionRequestTransport partitionRequestTransport(
+            @Value("${batch.partition.transport:jdbc}") String transportType
+    ) {
+        return switch (transportType) {
+            case "jdbc" -> new JdbcPartitionRequestTransport(dataSource, transactionManager);
+            case "in-memory" -> new InMemoryPartitionRequestTransport();
+            default -> throw new IllegalArgumentException("Unknown partition transport: " + transportType);
+        };
+    }
+
+    /**
+     * 파티션 실행 요청을 받아 workerStep을 실행하는 워커를 생성합니다.
+     * 동시에 실행하는 파티션 수는 커넥션 풀 크기를 넘지 않도록 `batch.partition.worker.consumers`로 설정합니다.
+     * 워커 서버는 Job을 실행하지 않으므로 `--spring.batch.job.enabled=false --batch.partition.worker.enabled=true`로 실행합니다.
+     *
+     * @param transport  파티션 실행 요청을 받을 transport
+     * @param workerStep 파티션을 처리할 워커 스텝
+     * @param consumers  동시에 실행할 파티션의 수
+     * @return RemotePartitionWorker
+     */
+    @Bean
+    @ConditionalOnProperty(name = "batch.partition.worker.enabled", havingValue = "true")
+    public RemotePartitionWorker remotePartitionWorker(
+            PartitionRequestTransport transport,
+            Step workerStep,
+            @Value("${batch.partition.worker.consumers:8}") int consumers
+    ) {
+        return new RemotePartitionWorker(
+                transport,
+                jobExplorer,
+                jobRepository,
+                Map.of(WORKER_STEP_NAME, workerStep),
+                Math.max(1, Math.min(consumers, dataSource.getMaximumPoolSize() - RESERVED_CONNECTIONS)),
+                REMOTE_PARTITION_HEARTBEAT_INTERVAL
+        );
+    }
+
+    /**
+     * 파티션마다 스테이징 테이블에 저장한 뒤 마지막 스텝에서 `payment` 테이블로 옮기는 Job을 생성합니다.
+     *
+     * @param stagedManagerStep 스테이징 테이블에 저장하는 파티션을 관리하는 매니저 스텝
+     * @param paymentMergeStep  스테이징 테이블을 `payment` 테이블로 옮기는 스텝
+     * @return Job
+     */
+    @Bean
+    public Job stagedPartitionerJob(Step stagedManagerStep, Step paymentMergeStep) {
+        return new JobBuilder("stagedPartitionerJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(stagedManagerStep)
+                .next(paymentMergeStep)
+                .build();
+    }
+
+    /**
+     * 날짜별 파티션을 생성하고 각 파티션을 스테이징 워커 스텝에 위임하는 매니저 스텝을 생성합니다.
+     *
+     * @param stagedWorkerStep 각 파티션에서 실행될 워커 스텝
+     * @return Step
+     */
+    @Bean
+    public Step stagedManagerStep(Step stagedWorkerStep) {
+        return new StepBuilder("stagedManagerStep", jobRepository)
+                .partitioner("stagedWorkerStep", partitioner(null, null))
+                .step(stagedWorkerStep)
+                .gridSize(DATE_GRID_SIZE)
+                .taskExecutor(taskExecutor())
+                .build();
+    }
+
+    /**
+     * 각 파티션의 데이터를 파티션 전용 스테이징 테이블에 저장하는 워커 스텝을 생성합니다.
+     *
+     * @param cursorItemReader     각 파티션의 데이터를 읽는 JpaCursorItemReader
+     * @param paymentStagingWriter 파티션의 스테이징 테이블에 저장하는 ItemWriter
+     * @return Step
+     */
+    @Bean
+    public Step stagedWorkerStep(
+            JpaCursorItemReader<PaymentSource> cursorItemReader,
+            PaymentStagingItemWriter paymentStagingWriter
+    ) {
+        return new StepBuilder("stagedWorkerStep", jobRepository)
+                .<PaymentSource, Payment>chunk(chunkSize, transactionManager)
+                .listener(new StepDurationTrackerListener())
+                .reader(cursorItemReader)
+                .processor(paymentReportProcessor())
+                .writer(paymentStagingWriter)
+                .listener(new ChunkDurationTrackerListener())
+                .build();
+    }
+
+    /**
+     * JobInstance id와 파티션 StepExecution의 이름으로 스테이징 테이블을 정하는 PaymentStagingItemWriter를 생성합니다.
+     * 재시작해도 JobInstance id는 바뀌지 않으므로, 재시작된 파티션은 이전 실행에서 커밋한 chunk가 남아 있는 테이블에 이어서 저장합니다.
+     *
+     * @param jobInstanceId     JobInstance id
+     * @param partitionStepName 파티션 StepExecution의 이름
+     * @return PaymentStagingItemWriter
+     */
+    @Bean
+    @StepScope
+    public PaymentStagingItemWriter paymentStagingWriter(
+            @Value("#{stepExecution.jobExecution.jobInstance.instanceId}") Long jobInstanceId,
+            @Value("#{stepExecution.stepName}") String partitionStepName
+    ) {
+        String tableName = PaymentStagingItemWriter.tableName(jobInstanceId, partitionStepName);
+        return new PaymentStagingItemWriter(dataSource, tableName, paymentJdbcWriter(tableName));
+    }
+
+    /**
+     * 모든 파티션의 스테이징 테이블을 `payment` 테이블로 옮기는 스텝을 생성합니다.
+     *
+     * @return Step
+     */
+    @Bean
+    public Step paymentMergeStep() {
+        return new StepBuilder("paymentMergeStep", jobRepository)
+                .tasklet(new PaymentStagingMergeTasklet(dataSource), transactionManager)
+                .build();
+    }
+
+    /**
+     * 날짜별 건수에 따라 비슷한 크기로 나눈 파티션을 병렬로 처리하는 Job을 생성합니다.
+     *
+     * @param balancedManagerStep 건수 기반 파티션을 관리하는 매니저 스텝
+     * @return Job
+     */
+    @Bean
+    public Job balancedPartitionerJob(Step balancedManagerStep) {
+        return new JobBuilder("balancedPartitionerJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(balancedManagerStep)
+                .build();
+    }
+
+    /**
+     * {@link RowCountAwareDatePartitioner}로 파티션을 생성하고 각 파티션을 워커 스텝에 위임하는 매니저 스텝을 생성합니다.
+     * 데이터가 몰린 날짜도 여러 파티션으로 나뉘므로, TaskExecutor의 최대 동시 실행 수를 gridSize로 사용하여 모든 스레드가 비슷한 시간에 끝납니다.
+     *
+     * @param balancedWorkerStep 각 파티션에서 실행될 워커 스텝
+     * @return Step
+     */
+    @Bean
+    public Step balancedManagerStep(Step balancedWorkerStep) {
+        return new StepBuilder("balancedManagerStep", jobRepository)
+                .partitioner("balancedWorkerStep", rowCountAwarePartitioner(null, null))
+                .step(balancedWorkerStep)
+                .gridSize(partitionConcurrency(taskExecutor()))
+                .taskExecutor(taskExecutor())
+                .build();
+    }
+
+    /**
+     * 파티션 TaskExecutor가 동시에 실행할 수 있는 최대 파티션 수를 반환합니다.
+     *
+     * @param taskExecutor 파티션 TaskExecutor
+     * @return 최대 동시 실행 수 (제한이 없는 TaskExecutor이면 한 달의 최대 일수)
+     */
+    private int partitionConcurrency(TaskExecutor taskExecutor) {
+        if (taskExecutor instanceof LoadAwarePartitionTaskExecutor loadAwareTaskExecutor) {
+            return loadAwareTaskExecutor.getMaxConcurrency();
+        }
+        if (taskExecutor instanceof SimpleAsyncTaskExecutor simpleAsyncTaskExecutor && simpleAsyncTaskExecutor.isThrottleActive()) {
+            return simpleAsyncTaskExecutor.getConcurrencyLimit();
+        }
+        return DATE_GRID_SIZE;
+    }
+
+    /**
+     * JobParameter로 받은 시작일과 종료일을 사용하여 RowCountAwareDatePartitioner를 생성합니다.
+     *
+     * @param startDate JobParameter로 전달되는 시작일 문자열 (yyyy-MM-dd 형식)
+     * @param endDate   JobParameter로 전달되는 종료일 문자열 (yyyy-MM-dd 형식)
+     * @return RowCountAwareDatePartitioner
+     */
+    @Bean
+    @StepScope
+    public RowCountAwareDatePartitioner rowCountAwarePartitioner(
+            @Value("#{jobParameters['startDate']}") LocalDate startDate,
+            @Value("#{jobParameters['endDate']}") LocalDate endDate
+    ) {
+        return new RowCountAwareDatePartitioner(entityManagerFactory, startDate, endDate);
+    }
+
+    /**
+     * 건수 기반 파티션의 데이터를 처리하는 워커 스텝을 생성합니다.
+     *
+     * @param rangeCursorItemReader 각 파티션의 날짜/id 범위를 읽는 JpaCursorItemReader
+     * @param paymentWriter         Payment 저장 방식 (`payment.writer` 설정 값)
+     * @return Step
+     */
+    @Bean
+    public Step balancedWorkerStep(
+            JpaCursorItemReader<PaymentSource> rangeCursorItemReader,
+            @Value("${payment.writer:print}") String paymentWriter
+    ) {
+        return new StepBuilder("balancedWorkerStep", jobRepository)
+                .<PaymentSource, Payment>chunk(chunkSize, transactionManager)
+                .listener(new StepDurationTrackerListener())
+                .reader(rangeCursorItemReader)
+                .processor(paymentReportProcessor())
+                .writer(paymentReportWriter(paymentWriter))
+                .listener(new ChunkDurationTrackerListener())
+                .build();
+    }
+
+    /**
+     * StepExecutionContext로부터 날짜 범위와 id 범위를 주입받아 결제 원천 데이터를 조회하는 JpaCursorItemReader를 생성합니다.
+     *
+     * @param startDateStr StepExecutionContext에서 전달되는 시작일 문자열 (yyyy-MM-dd 형식)
+     * @param endDateStr   StepExecutionContext에서 전달되는 종료일 문자열 (yyyy-MM-dd 형식)
+     * @param minId        StepExecutionContext에서 전달되는 최소 id
+     * @param maxId        StepExecutionContext에서 전달되는 최대 id
+     * @return JpaCursorItemReader<PaymentSource>
+     */
+    @Bean
+    @StepScope
+    public JpaCursorItemReader<PaymentSource> rangeCursorItemReader(
+            @Value("#{stepExecutionContext['startDate']}") String startDateStr,
+            @Value("#{stepExecutionContext['endDate']}") String endDateStr,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
+        return new JpaCursorItemReaderBuilder<PaymentSource>()
+                .name("rangeCursorItemReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("""
+                        SELECT ps FROM PaymentSource ps
+                        WHERE ps.paymentDate BETWEEN :startDate AND :endDate
+                        AND ps.id BETWEEN :minId AND :maxId
+                        """)
+                .parameterValues(Map.of(
+                        "startDate", LocalDate.parse(startDateStr, DateTimeFormatter.ISO_LOCAL_DATE),
+                        "endDate", LocalDate.parse(endDateStr, DateTimeFormatter.ISO_LOCAL_DATE),
+                        "minId", minId,
+                        "maxId", maxId
+                ))
+                .build();
+    }
+
     /**
      * PaymentSource를 Payment로 변환하는 ItemProcessor를 생성합니다.
      *
@@ -162,17 +504,39 @@ public class PartitionJobConfig {
     }
 
     /**
-     * 처리된 Payment 데이터를 기록하는 ItemWriter를 생성합니다. (현재는 비어 있음)
+     * 처리된 Payment 데이터를 기록하는 ItemWriter를 생성합니다.
+     * `payment.writer=jdbc`이면 `payment` 테이블에 chunk 단위 JDBC 배치로 저장하고, 기본값(`print`)이면 chunk의 첫 아이템의 결제일만 로그로 남깁니다.
      *
+     * @param paymentWriter Payment 저장 방식 (jdbc, print)
      * @return ItemWriter<Payment>
      */
-
-    private ItemWriter<Payment> paymentReportWriter() {
-        return chunk -> {
-
-            var item = chunk.getItems().stream().findFirst().get();
-            System.out.println(item.getPaymentDate());
-
+    private ItemWriter<Payment> paymentReportWriter(String paymentWriter) {
+        return switch (paymentWriter) {
+            case "jdbc" -> paymentJdbcWriter("payment");
+            case "print" -> chunk -> chunk.getItems().stream()
+                    .findFirst()
+                    .ifPresent(item -> log.info("Payment chunk of {} items for {}", chunk.size(), item.getPaymentDate()));
+            default -> throw new IllegalArgumentException("Unknown payment writer: " + paymentWriter);
         };
     }
+
+    /**
+     * Payment를 주어진 테이블에 저장하는 JdbcBatchItemWriter를 생성합니다.
+     * chunk의 아이템을 하나의 JDBC 배치로 보내며, `rewriteBatchedStatements=true` 설정으로 MySQL 드라이버가 multi-row INSERT로 변환합니다.
+     *
+     * @param tableName 저장할 테이블 이름 (payment 또는 스테이징 테이블)
+     * @return JdbcBatchItemWriter<Payment>
+     */
+    private JdbcBatchItemWriter<Payment> paymentJdbcWriter(String tableName) {
+        JdbcBatchItemWriter<Payment> writer = new JdbcBatchItemWriterBuilder<Payment>()
+                .dataSource(dataSource)
+                .sql("""
+                        INSERT INTO %s (amount, payment_date, partner_corp_name, status)
+                        VALUES (:amount, :paymentDate, :partnerCorpName, :status)
+                        """.formatted(tableName))
+                .beanMapped()
+                .build();
+        writer.afterPropertiesSet();
+        return writer;
+    }
 }
@@ -0,0 +1,192 @@
+package com.example.springbatch5.job;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날짜별 데이터 건수를 기준으로 비슷한 처리량의 파티션을 생성하는 Partitioner 구현체입니다.
+ *
+ * {@link LocalDatePartitioner}는 날짜마다 하나의 파티션을 만들기 때문에, 월말처럼 데이터가 몰린 날짜의 파티션이 끝날 때까지 Step이 끝나지 않습니다.
+ * 이 Partitioner는 먼저 날짜별 건수와 id 범위를 한 번에 조회한 뒤(`payment_date` 인덱스만 사용), 전체 건수를 gridSize로 나눈 값을
+ * 파티션 하나의 목표 건수로 정하고 다음과 같이 나눕니다.
+ *
+ * - 목표 건수보다 많은 날짜는 id 범위를 나누어 여러 파티션으로 분할합니다.
+ * - 목표 건수보다 적은 날짜는 날짜 단위를 유지하며, 연속된 날짜를 목표 건수를 넘지 않는 범위에서 하나의 파티션으로 묶습니다.
+ * - 데이터가 없는 날짜는 파티션을 만들지 않습니다.
+ *
+ * 생성된 각 파티션은 `startDate`, `endDate`, `minId`, `maxId` 키로 범위를 StepExecutionContext에 저장합니다.
+ * 분할과 묶음 단위가 날짜/id 경계에 맞춰지므로 파티션 수는 gridSize와 정확히 같지 않고 조금 많을 수 있습니다.
+ */
+@Slf4j
+public class RowCountAwareDatePartitioner implements Partitioner {
+    // 파티션 번호를 식별하기 위한 키
+    private static final String PARTITION_KEY = "partition";
+    // StepExecutionContext에 저장될 범위 데이터의 키
+    private static final String EXECUTION_CONTEXT_KEY_START_DATE = "startDate";
+    private static final String EXECUTION_CONTEXT_KEY_END_DATE = "endDate";
+    private static final String EXECUTION_CONTEXT_KEY_MIN_ID = "minId";
+    private static final String EXECUTION_CONTEXT_KEY_MAX_ID = "maxId";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * RowCountAwareDatePartitioner 생성자
+     *
+     * @param entityManagerFactory JPA EntityManagerFactory
+     * @param startDate            파티션 생성 시작일
+     * @param endDate              파티션 생성 종료일
+     */
+    public RowCountAwareDatePartitioner(EntityManagerFactory entityManagerFactory, LocalDate startDate, LocalDate endDate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * 날짜별 건수를 기준으로 약 gridSize개의 파티션을 생성합니다.
+     *
+     * @param gridSize 목표 파티션 개수
+     * @return 각 파티션의 이름과 ExecutionContext를 담은 Map
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        return partition(findDailyCounts(), gridSize);
+    }
+
+    /**
+     * 날짜별 건수와 id 범위로 약 gridSize개의 파티션을 생성합니다.
+     *
+     * @param dailyCounts 날짜 순으로 정렬된 날짜별 건수와 id 범위 (데이터가 없는 날짜는 포함되지 않음)
+     * @param gridSize    목표 파티션 개수
+     * @return 각 파티션의 이름과 ExecutionContext를 담은 Map
+     */
+    Map<String, ExecutionContext> partition(List<DailyCount> dailyCounts, int gridSize) {
+        long totalCount = dailyCounts.stream().mapToLong(DailyCount::count).sum();
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (totalCount == 0) {
+            log.info("No rows to partition between {} and {}", startDate, endDate);
+            return partitions;
+        }
+
+        // 파티션 하나가 처리할 목표 건수 (올림)
+        long targetCount = (totalCount + gridSize - 1) / gridSize;
+        log.info("Partitioning {} rows between {} and {} into partitions of about {} rows", totalCount, startDate, endDate, targetCount);
+
+        // 연속된 작은 날짜들을 묶는 중인 범위
+        DailyCount pendingStart = null;
+        DailyCount pendingEnd = null;
+        long pendingCount = 0;
+        long pendingMinId = Long.MAX_VALUE;
+        long pendingMaxId = Long.MIN_VALUE;
+
+        for (DailyCount day : dailyCounts) {
+            if (day.count() > targetCount) {
+                // 큰 날짜는 앞서 묶은 범위를 먼저 파티션으로 만든 뒤, id 범위로 분할한다.
+                if (pendingStart != null) {
+                    addPartition(partitions, pendingStart.paymentDate(), pendingEnd.paymentDate(), pendingMinId, pendingMaxId, pendingCount);
+                    pendingStart = null;
+                }
+                splitDay(partitions, day, targetCount);
+                continue;
+            }
+
+            if (pendingStart != null && pendingCount + day.count() > targetCount) {
+                addPartition(partitions, pendingStart.paymentDate(), pendingEnd.paymentDate(), pendingMinId, pendingMaxId, pendingCount);
+                pendingStart = null;
+            }
+            if (pendingStart == null) {
+                pendingStart = day;
+                pendingCount = 0;
+                pendingMinId = Long.MAX_VALUE;
+                pendingMaxId = Long.MIN_VALUE;
+            }
+            pendingEnd = day;
+            pendingCount += day.count();
+            pendingMinId = Math.min(pendingMinId, day.minId());
+            pendingMaxId = Math.max(pendingMaxId, day.maxId());
+        }
+        if (pendingStart != null) {
+            addPartition(partitions, pendingStart.paymentDate(), pendingEnd.paymentDate(), pendingMinId, pendingMaxId, pendingCount);
+        }
+
+        return partitions;
+    }
+
+    /**
+     * 하나의 날짜를 id 범위로 나누어 여러 파티션을 생성합니다.
+     * 같은 날짜의 id가 고르게 분포되어 있다고 보고 id 공간을 같은 크기로 나눕니다.
+     */
+    private void splitDay(Map<String, ExecutionContext> partitions, DailyCount day, long targetCount) {
+        long sliceCount = (day.count() + targetCount - 1) / targetCount;
+        long rangeSize = (day.maxId() - day.minId()) / sliceCount + 1;
+
+        long rangeStart = day.minId();
+        while (rangeStart <= day.maxId()) {
+            long rangeEnd = Math.min(rangeStart + rangeSize - 1, day.maxId());
+            addPartition(partitions, day.paymentDate(), day.paymentDate(), rangeStart, rangeEnd, day.count() / sliceCount);
+            rangeStart = rangeEnd + 1;
+        }
+    }
+
+    private void addPartition(
+            Map<String, ExecutionContext> partitions,
+            LocalDate partitionStartDate,
+            LocalDate partitionEndDate,
+            long minId,
+            long maxId,
+            long estimatedCount
+    ) {
+        String partitionName = PARTITION_KEY + partitions.size();
+        ExecutionContext context = new ExecutionContext();
+        context.putString(EXECUTION_CONTEXT_KEY_START_DATE, partitionStartDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        context.putString(EXECUTION_CONTEXT_KEY_END_DATE, partitionEndDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        context.putLong(EXECUTION_CONTEXT_KEY_MIN_ID, minId);
+        context.putLong(EXECUTION_CONTEXT_KEY_MAX_ID, maxId);
+        partitions.put(partitionName, context);
+
+        log.info("Created partition {} with paymentDate [{}, {}], id range [{}, {}] (about {} rows)",
+                partitionName, partitionStartDate, partitionEndDate, minId, maxId, estimatedCount);
+    }
+
+    private List<DailyCount> findDailyCounts() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("""
+                            SELECT ps.paymentDate, COUNT(ps), MIN(ps.id), MAX(ps.id)
+                            FROM PaymentSource ps
+                            WHERE ps.paymentDate BETWEEN :startDate AND :endDate
+                            GROUP BY ps.paymentDate
+                            ORDER BY ps.paymentDate
+                            """, Object[].class)
+                    .setParameter("startDate", startDate)
+                    .setParameter("endDate", endDate)
+                    .getResultStream()
+                    .map(row -> new DailyCount(
+                            (LocalDate) row[0],
+                            ((Number) row[1]).longValue(),
+                            ((Number) row[2]).longValue(),
+                            ((Number) row[3]).longValue()
+                    ))
+                    .toList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * 날짜별 데이터 건수와 id 범위
+     */
+    record DailyCount(LocalDate paymentDate, long count, long minId, long maxId) {
+    }
+}
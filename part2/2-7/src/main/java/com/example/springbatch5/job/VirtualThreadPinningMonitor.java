@@ -0,0 +1,92 @@
+package com.example.springbatch5.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 캐리어(플랫폼) 스레드에 고정(pinning)되는 상황을 JFR 이벤트(`jdk.VirtualThreadPinned`)로 감지하는 모니터입니다.
+ *
+ * 가상 스레드가 `synchronized` 블록이나 네이티브 호출 안에서 블로킹되면 캐리어 스레드를 놓지 못해, 적은 수의 캐리어 스레드가 모두 묶일 수 있습니다.
+ * 파티션 워커에서는 주로 JDBC 드라이버나 커넥션 풀 내부의 `synchronized` 구간에서 발생하므로,
+ * 고정된 위치를 `jdbc`, `application`, `other`로 분류하여 경고 로그와 `batch.virtual.thread.pinned` 카운터(생성자로 전달된 MeterRegistry)로 남깁니다.
+ *
+ * JFR 스트리밍은 JDK 14부터 사용할 수 있지만 `jdk.VirtualThreadPinned` 이벤트는 JDK 21부터 발생합니다.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+    private static final List<String> JDBC_PACKAGES = List.of("com.mysql.", "com.zaxxer.hikari.", "java.sql.", "org.hibernate.");
+
+    private final RecordingStream recordingStream;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * VirtualThreadPinningMonitor 생성자
+     *
+     * @param threshold     이 시간 이상 고정된 경우만 기록합니다.
+     * @param meterRegistry 카운터를 등록할 MeterRegistry
+     */
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        Assert.notNull(meterRegistry, "MeterRegistry는 필수입니다.");
+        this.meterRegistry = meterRegistry;
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    /**
+     * 별도의 스레드에서 이벤트 수집을 시작합니다.
+     */
+    public void start() {
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started");
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String source = classify(frames);
+
+        Counter.builder("batch.virtual.thread.pinned")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+        log.warn("Virtual thread pinned for {}ms ({}) at\n\t{}", event.getDuration().toMillis(), source, format(frames));
+    }
+
+    private String classify(List<RecordedFrame> frames) {
+        boolean application = false;
+        for (RecordedFrame frame : frames) {
+            String className = frame.getMethod().getType().getName();
+            if (JDBC_PACKAGES.stream().anyMatch(className::startsWith)) {
+                return "jdbc";
+            }
+            application |= className.startsWith("com.example.");
+        }
+        return application ? "application" : "other";
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\t"));
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+}
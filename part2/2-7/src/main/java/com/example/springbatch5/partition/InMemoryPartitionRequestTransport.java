@@ -0,0 +1,40 @@
+package com.example.springbatch5.partition;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 JVM 안에서 파티션 실행 요청을 전달하는 transport 입니다.
+ * 별도의 브로커나 테이블 없이 매니저와 워커를 함께 실행하는 테스트/로컬 환경에서 사용합니다.
+ * 워커가 매니저와 같은 JVM에서 실행되므로 점유 기간을 관리하지 않습니다.
+ */
+public class InMemoryPartitionRequestTransport implements PartitionRequestTransport {
+
+    private final BlockingQueue<PartitionRequest> requests = new LinkedBlockingQueue<>();
+
+    @Override
+    public void send(PartitionRequest request) {
+        requests.add(request);
+    }
+
+    @Override
+    public PartitionRequest receive(Duration timeout) throws InterruptedException {
+        return requests.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void heartbeat(PartitionRequest request) {
+    }
+
+    @Override
+    public void complete(PartitionRequest request) {
+    }
+
+    @Override
+    public List<PartitionRequest> findExpired(Long jobExecutionId, Duration lease) {
+        return List.of();
+    }
+}
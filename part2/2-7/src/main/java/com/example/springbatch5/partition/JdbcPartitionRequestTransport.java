@@ -0,0 +1,114 @@
+package com.example.springbatch5.partition;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * `batch_partition_request` 테이블을 큐로 사용하여 파티션 실행 요청을 전달하는 transport 입니다.
+ * JobRepository와 같은 MySQL을 사용하므로 별도의 메시지 브로커 없이 여러 배치 서버가 파티션을 나누어 실행할 수 있습니다.
+ *
+ * 워커는 `SELECT ... FOR UPDATE SKIP LOCKED`로 대기 중인 요청 하나를 잠그고 `CLAIMED`로 변경하므로,
+ * 여러 워커가 동시에 요청을 가져가도 같은 요청을 두 번 받지 않습니다. (MySQL 8.0 이상)
+ * 워커는 실행 중에 `heartbeat_at`을 갱신하고 실행이 끝나면 요청을 삭제합니다.
+ * 점유 기간은 DB의 `NOW()`로 비교하므로 매니저와 워커 서버의 시계가 달라도 영향을 받지 않습니다.
+ * 테이블은 `remote-partition-setup.sql`로 생성합니다.
+ */
+public class JdbcPartitionRequestTransport implements PartitionRequestTransport {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO batch_partition_request (job_execution_id, step_execution_id, step_name, status, created_at)
+            VALUES (?, ?, ?, 'READY', NOW())
+            """;
+    private static final String SELECT_READY_SQL = """
+            SELECT id, job_execution_id, step_execution_id, step_name
+            FROM batch_partition_request
+            WHERE status = 'READY'
+            ORDER BY id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """;
+    private static final String CLAIM_SQL = """
+            UPDATE batch_partition_request SET status = 'CLAIMED', claimed_at = NOW(), heartbeat_at = NOW() WHERE id = ?
+            """;
+    private static final String HEARTBEAT_SQL = """
+            UPDATE batch_partition_request SET heartbeat_at = NOW() WHERE step_execution_id = ? AND status = 'CLAIMED'
+            """;
+    private static final String COMPLETE_SQL = """
+            DELETE FROM batch_partition_request WHERE step_execution_id = ?
+            """;
+    private static final String SELECT_EXPIRED_SQL = """
+            SELECT job_execution_id, step_execution_id, step_name
+            FROM batch_partition_request
+            WHERE job_execution_id = ?
+              AND status = 'CLAIMED'
+              AND heartbeat_at < NOW() - INTERVAL ? SECOND
+            """;
+
+    // 요청이 없을 때 테이블을 다시 조회하기 전까지 기다리는 시간
+    private static final long POLL_INTERVAL_MILLIS = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcPartitionRequestTransport(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void send(PartitionRequest request) {
+        jdbcTemplate.update(INSERT_SQL, request.getJobExecutionId(), request.getStepExecutionId(), request.getStepName());
+    }
+
+    @Override
+    public PartitionRequest receive(Duration timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (true) {
+            PartitionRequest request = transactionTemplate.execute(status -> claimNext());
+            if (request != null) {
+                return request;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            Thread.sleep(Math.min(POLL_INTERVAL_MILLIS, remaining));
+        }
+    }
+
+    @Override
+    public void heartbeat(PartitionRequest request) {
+        jdbcTemplate.update(HEARTBEAT_SQL, request.getStepExecutionId());
+    }
+
+    @Override
+    public void complete(PartitionRequest request) {
+        jdbcTemplate.update(COMPLETE_SQL, request.getStepExecutionId());
+    }
+
+    @Override
+    public List<PartitionRequest> findExpired(Long jobExecutionId, Duration lease) {
+        return jdbcTemplate.query(SELECT_EXPIRED_SQL,
+                (rs, rowNum) -> new PartitionRequest(rs.getLong("job_execution_id"), rs.getLong("step_execution_id"), rs.getString("step_name")),
+                jobExecutionId, lease.toSeconds());
+    }
+
+    private PartitionRequest claimNext() {
+        try {
+            Object[] row = jdbcTemplate.queryForObject(SELECT_READY_SQL, (rs, rowNum) -> new Object[]{
+                    rs.getLong("id"),
+                    new PartitionRequest(rs.getLong("job_execution_id"), rs.getLong("step_execution_id"), rs.getString("step_name"))
+            });
+            jdbcTemplate.update(CLAIM_SQL, row[0]);
+            return (PartitionRequest) row[1];
+        } catch (EmptyResultDataAccessException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.springbatch5.partition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 매니저가 워커에게 전달하는 파티션 실행 요청입니다.
+ * 파티션의 입력 값(ExecutionContext)은 JobRepository에 저장되어 있으므로, 워커는 StepExecution의 id만으로 파티션을 실행할 수 있습니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PartitionRequest {
+    private final Long jobExecutionId;
+    private final Long stepExecutionId;
+    private final String stepName;
+}
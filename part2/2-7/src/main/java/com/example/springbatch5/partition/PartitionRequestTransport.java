@@ -0,0 +1,53 @@
+package com.example.springbatch5.partition;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 매니저와 워커 사이에서 파티션 실행 요청을 전달하는 통로입니다.
+ * 요청은 한 번만 전달되어야 하며, 하나의 요청을 여러 워커가 받아서는 안 됩니다.
+ *
+ * 워커는 요청을 실행하는 동안 {@link #heartbeat(PartitionRequest)}로 점유 기간(lease)을 갱신하고, 실행이 끝나면
+ * {@link #complete(PartitionRequest)}로 요청을 정리합니다. 워커가 실행 중에 죽으면 갱신이 멈추므로,
+ * 매니저는 {@link #findExpired(Long, Duration)}로 점유 기간이 지난 요청을 찾아 실패 처리할 수 있습니다.
+ */
+public interface PartitionRequestTransport {
+
+    /**
+     * 파티션 실행 요청을 보냅니다.
+     *
+     * @param request 파티션 실행 요청
+     */
+    void send(PartitionRequest request);
+
+    /**
+     * 파티션 실행 요청을 하나 받습니다.
+     *
+     * @param timeout 요청이 없을 때 기다릴 최대 시간
+     * @return 받은 요청, 시간 안에 요청이 없으면 null
+     */
+    PartitionRequest receive(Duration timeout) throws InterruptedException;
+
+    /**
+     * 워커가 아직 요청을 실행 중임을 기록하여 점유 기간을 연장합니다.
+     *
+     * @param request 실행 중인 파티션 실행 요청
+     */
+    void heartbeat(PartitionRequest request);
+
+    /**
+     * 실행이 끝난 요청을 정리합니다. 이미 정리된 요청이면 아무것도 하지 않습니다.
+     *
+     * @param request 실행이 끝난 파티션 실행 요청
+     */
+    void complete(PartitionRequest request);
+
+    /**
+     * 워커가 받아 갔지만 마지막 heartbeat 이후 `lease`가 지난 요청을 조회합니다.
+     *
+     * @param jobExecutionId 요청을 보낸 JobExecution의 id
+     * @param lease          워커가 heartbeat 없이 요청을 점유할 수 있는 최대 시간
+     * @return 점유 기간이 지난 요청
+     */
+    List<PartitionRequest> findExpired(Long jobExecutionId, Duration lease);
+}
@@ -0,0 +1,149 @@
+package com.example.springbatch5.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 파티션을 현재 JVM에서 실행하지 않고 {@link PartitionRequestTransport}로 보내 다른 배치 서버의 워커가 실행하도록 하는 PartitionHandler 입니다.
+ *
+ * 매니저는 파티션마다 생성된 StepExecution의 id를 요청으로 보낸 뒤, JobRepository를 주기적으로 조회하여
+ * 모든 파티션의 StepExecution이 종료될 때까지 기다립니다. 워커는 {@link RemotePartitionWorker}가 실행하며,
+ * 실행 결과는 같은 JobRepository에 기록되므로 별도의 응답 채널이 필요 없습니다.
+ * 재시작 시에는 실패한 파티션의 StepExecution만 다시 생성되어 요청됩니다.
+ *
+ * 워커가 파티션을 실행하는 중에 죽으면 StepExecution이 STARTED로 남아 매니저가 timeout까지 기다리게 되므로,
+ * 워커가 `lease` 동안 heartbeat를 갱신하지 않은 요청은 해당 StepExecution을 FAILED로 기록하고 요청을 정리합니다.
+ * 이렇게 실패 처리된 파티션은 Job을 재시작하면 다시 실행됩니다.
+ */
+@Slf4j
+public class RemotePartitionHandler extends AbstractPartitionHandler {
+
+    private final PartitionRequestTransport transport;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final String stepName;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final Duration timeout;
+
+    /**
+     * RemotePartitionHandler 생성자
+     *
+     * @param transport    파티션 실행 요청을 보낼 transport
+     * @param jobExplorer   파티션 실행 결과를 조회할 JobExplorer
+     * @param jobRepository 워커가 죽은 파티션을 실패로 기록할 JobRepository
+     * @param stepName      워커가 실행할 스텝 이름
+     * @param gridSize      파티션의 개수
+     * @param pollInterval  JobRepository를 조회하는 주기
+     * @param lease         워커가 heartbeat 없이 파티션을 점유할 수 있는 최대 시간
+     * @param timeout       모든 파티션이 끝나기를 기다리는 최대 시간
+     */
+    public RemotePartitionHandler(
+            PartitionRequestTransport transport,
+            JobExplorer jobExplorer,
+            JobRepository jobRepository,
+            String stepName,
+            int gridSize,
+            Duration pollInterval,
+            Duration lease,
+            Duration timeout
+    ) {
+        Assert.notNull(transport, "transport는 필수입니다.");
+        Assert.notNull(jobExplorer, "jobExplorer는 필수입니다.");
+        Assert.notNull(jobRepository, "jobRepository는 필수입니다.");
+        Assert.hasText(stepName, "stepName은 필수입니다.");
+        Assert.isTrue(!pollInterval.isNegative() && !pollInterval.isZero(), "pollInterval은 0보다 커야 합니다.");
+        Assert.isTrue(lease.compareTo(pollInterval) >= 0, "lease는 pollInterval보다 작을 수 없습니다.");
+        Assert.isTrue(timeout.compareTo(pollInterval) >= 0, "timeout은 pollInterval보다 작을 수 없습니다.");
+        this.transport = transport;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.stepName = stepName;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.timeout = timeout;
+        setGridSize(gridSize);
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution, Set<StepExecution> partitionStepExecutions) throws Exception {
+        if (partitionStepExecutions.isEmpty()) {
+            return partitionStepExecutions;
+        }
+        for (StepExecution partition : partitionStepExecutions) {
+            transport.send(new PartitionRequest(partition.getJobExecutionId(), partition.getId(), stepName));
+        }
+        log.info("Sent {} partition requests for step {}", partitionStepExecutions.size(), stepName);
+        return pollResults(managerStepExecution, partitionStepExecutions);
+    }
+
+    /**
+     * 모든 파티션이 종료될 때까지 JobRepository를 조회합니다.
+     * 점유 기간이 지난 파티션은 워커가 죽은 것으로 보고 실패 처리합니다.
+     * 시간 안에 끝나지 않으면 예외를 던져 매니저 스텝을 실패 처리하며, 이 경우 아직 실행 중인 파티션은 재시작 전에 정리해야 합니다.
+     */
+    private Set<StepExecution> pollResults(StepExecution managerStepExecution, Set<StepExecution> partitionStepExecutions) throws InterruptedException {
+        Long jobExecutionId = managerStepExecution.getJobExecutionId();
+        List<Long> pending = new ArrayList<>(partitionStepExecutions.stream().map(StepExecution::getId).toList());
+        Set<StepExecution> results = new HashSet<>();
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+
+        while (!pending.isEmpty()) {
+            Thread.sleep(pollInterval.toMillis());
+            Collection<Long> finished = new ArrayList<>();
+            for (Long stepExecutionId : pending) {
+                StepExecution partition = jobExplorer.getStepExecution(jobExecutionId, stepExecutionId);
+                if (partition != null && !partition.getStatus().isRunning()) {
+                    results.add(partition);
+                    finished.add(stepExecutionId);
+                    // 워커가 실행을 끝내고 요청을 정리하기 전에 죽은 경우를 위해 매니저도 정리한다.
+                    transport.complete(new PartitionRequest(jobExecutionId, stepExecutionId, stepName));
+                }
+            }
+            pending.removeAll(finished);
+            for (PartitionRequest expired : transport.findExpired(jobExecutionId, lease)) {
+                if (pending.remove(expired.getStepExecutionId())) {
+                    results.add(failExpired(expired));
+                }
+            }
+            if (!finished.isEmpty()) {
+                log.info("Partitions finished: {}/{}", results.size(), partitionStepExecutions.size());
+            }
+            if (!pending.isEmpty() && System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Timed out waiting for partitions " + pending + " of step " + stepName);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 점유 기간이 지난 파티션의 StepExecution을 FAILED로 기록하고 요청을 정리합니다.
+     */
+    private StepExecution failExpired(PartitionRequest request) {
+        StepExecution partition = jobExplorer.getStepExecution(request.getJobExecutionId(), request.getStepExecutionId());
+        if (partition.getStatus().isRunning()) {
+            log.warn("Partition {} has not sent a heartbeat for {}, marking it as failed", partition.getStepName(), lease);
+            partition.addFailureException(new IllegalStateException("Worker lease expired for partition " + partition.getStepName()));
+            partition.setStatus(BatchStatus.FAILED);
+            partition.setExitStatus(ExitStatus.FAILED.addExitDescription("Worker lease expired after " + lease));
+            partition.setEndTime(LocalDateTime.now());
+            jobRepository.update(partition);
+        }
+        transport.complete(request);
+        return partition;
+    }
+}
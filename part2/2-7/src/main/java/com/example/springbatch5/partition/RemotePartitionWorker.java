@@ -0,0 +1,192 @@
+package com.example.springbatch5.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobInterruptedException;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PartitionRequestTransport}에서 파티션 실행 요청을 받아 실행하는 워커입니다.
+ *
+ * 요청의 StepExecution을 JobRepository에서 조회하여 이름이 같은 스텝으로 실행하고, 결과는 스텝 실행 과정에서 JobRepository에 기록됩니다.
+ * 스텝 실행 중 예외가 발생하면 StepExecution을 FAILED로 기록하여 매니저가 결과를 기다리다 멈추지 않도록 합니다.
+ * 애플리케이션이 시작되면 consumers 개수만큼의 스레드로 요청을 받기 시작하고, 종료될 때 실행 중인 파티션이 끝나기를 기다립니다.
+ *
+ * 실행 중인 요청은 `heartbeatInterval`마다 {@link PartitionRequestTransport#heartbeat(PartitionRequest)}로 점유 기간을 갱신하고,
+ * 실행이 끝나면 성공/실패와 관계없이 요청을 정리합니다. heartbeatInterval은 매니저의 lease보다 충분히 짧아야 합니다.
+ *
+ * 워커 서버는 Job을 직접 실행하지 않으므로 `spring.batch.job.enabled=false`로 실행해야 합니다.
+ * Job이 여러 개인 애플리케이션에서 `spring.batch.job.name`이 존재하지 않는 Job 이름(NONE 등)이면 Spring Boot가 시작 단계에서 실패합니다.
+ */
+@Slf4j
+public class RemotePartitionWorker implements SmartLifecycle {
+
+    // 요청을 기다리는 최대 시간. 종료 요청을 확인하는 주기이기도 하다.
+    private static final Duration RECEIVE_TIMEOUT = Duration.ofSeconds(1);
+
+    private final PartitionRequestTransport transport;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final Map<String, Step> steps;
+    private final int consumers;
+    private final Duration heartbeatInterval;
+
+    private final List<Thread> threads = new ArrayList<>();
+    // 실행 중인 요청 (heartbeat 대상)
+    private final Set<PartitionRequest> inFlightRequests = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService heartbeatScheduler;
+    private volatile boolean running = false;
+
+    /**
+     * RemotePartitionWorker 생성자
+     *
+     * @param transport     파티션 실행 요청을 받을 transport
+     * @param jobExplorer   요청의 StepExecution을 조회할 JobExplorer
+     * @param jobRepository 실패한 StepExecution을 기록할 JobRepository
+     * @param steps         이 워커가 실행할 수 있는 스텝 (스텝 이름 - 스텝)
+     * @param consumers         동시에 실행할 파티션의 수
+     * @param heartbeatInterval 실행 중인 요청의 점유 기간을 갱신하는 주기
+     */
+    public RemotePartitionWorker(
+            PartitionRequestTransport transport,
+            JobExplorer jobExplorer,
+            JobRepository jobRepository,
+            Map<String, Step> steps,
+            int consumers,
+            Duration heartbeatInterval
+    ) {
+        Assert.notEmpty(steps, "steps는 비어 있을 수 없습니다.");
+        Assert.isTrue(consumers > 0, "consumers는 0보다 커야 합니다.");
+        Assert.isTrue(!heartbeatInterval.isNegative() && !heartbeatInterval.isZero(), "heartbeatInterval은 0보다 커야 합니다.");
+        this.transport = transport;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.steps = steps;
+        this.consumers = consumers;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-worker-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = heartbeatInterval.toMillis();
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < consumers; i++) {
+            Thread thread = new Thread(this::consume, "partition-worker-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("Remote partition worker started with {} consumers for steps {}", consumers, steps.keySet());
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        threads.clear();
+        if (heartbeatScheduler != null) {
+            heartbeatScheduler.shutdownNow();
+            heartbeatScheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void consume() {
+        while (running) {
+            try {
+                PartitionRequest request = transport.receive(RECEIVE_TIMEOUT);
+                if (request != null) {
+                    handle(request);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // transport 오류로 워커가 멈추지 않도록 다음 요청을 계속 기다린다.
+                log.error("Failed to receive partition request", e);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (PartitionRequest request : inFlightRequests) {
+            try {
+                transport.heartbeat(request);
+            } catch (Exception e) {
+                // 한 번 실패해도 lease가 끝나기 전에 다시 갱신하므로 다음 주기를 기다린다.
+                log.warn("Failed to send heartbeat for {}", request, e);
+            }
+        }
+    }
+
+    private void handle(PartitionRequest request) {
+        inFlightRequests.add(request);
+        try {
+            execute(request);
+        } finally {
+            inFlightRequests.remove(request);
+            transport.complete(request);
+        }
+    }
+
+    private void execute(PartitionRequest request) {
+        StepExecution stepExecution = jobExplorer.getStepExecution(request.getJobExecutionId(), request.getStepExecutionId());
+        if (stepExecution == null) {
+            log.warn("No step execution found for {}", request);
+            return;
+        }
+        Step step = steps.get(request.getStepName());
+        if (step == null) {
+            stepExecution.addFailureException(new IllegalStateException("No step named " + request.getStepName()));
+            stepExecution.setStatus(BatchStatus.FAILED);
+            jobRepository.update(stepExecution);
+            return;
+        }
+
+        log.info("Executing partition {}", stepExecution.getStepName());
+        try {
+            step.execute(stepExecution);
+        } catch (JobInterruptedException e) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            jobRepository.update(stepExecution);
+        } catch (Throwable e) {
+            stepExecution.addFailureException(e);
+            stepExecution.setStatus(BatchStatus.FAILED);
+            jobRepository.update(stepExecution);
+        }
+    }
+}
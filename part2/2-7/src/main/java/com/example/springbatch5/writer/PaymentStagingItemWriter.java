@@ -0,0 +1,93 @@
+package com.example.springbatch5.writer;
+
+import com.example.springbatch5.entity.Payment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+
+/**
+ * 파티션마다 별도의 스테이징 테이블에 Payment를 저장하는 ItemWriter 입니다.
+ *
+ * 모든 파티션이 `payment` 테이블 하나에 동시에 INSERT하면 AUTO_INCREMENT PK와 보조 인덱스의 같은 페이지에 쓰기가 몰려
+ * 파티션 수를 늘려도 처리량이 늘지 않습니다. 스테이징 테이블은 파티션 전용이고 인덱스가 없으므로 파티션끼리 경합하지 않으며,
+ * 모든 파티션이 끝난 뒤 {@link PaymentStagingMergeTasklet}이 `payment` 테이블로 옮깁니다.
+ *
+ * 테이블은 스트림을 열 때 생성합니다. 테이블 이름은 JobExecution이 아니라 JobInstance id와 파티션 이름으로 정하므로,
+ * Job을 재시작해도 파티션은 이전 실행에서 커밋된 chunk가 남아 있는 같은 테이블에 이어서 저장합니다.
+ * (chunk의 INSERT와 리더의 체크포인트는 같은 트랜잭션에서 커밋되므로 중복되거나 빠지는 행이 없습니다.)
+ */
+@Slf4j
+public class PaymentStagingItemWriter implements ItemStreamWriter<Payment> {
+
+    // 스테이징 테이블 이름의 접두사. 뒤에 JobInstance id와 파티션 이름이 붙는다.
+    static final String TABLE_PREFIX = "payment_stage_";
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE IF NOT EXISTS %s
+            (
+                amount            DECIMAL(38, 2) NOT NULL,
+                payment_date      DATE           NOT NULL,
+                partner_corp_name VARCHAR(100)   NULL,
+                status            VARCHAR(50)    NOT NULL
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tableName;
+    private final ItemWriter<Payment> delegate;
+
+    /**
+     * PaymentStagingItemWriter 생성자
+     *
+     * @param dataSource 스테이징 테이블의 DataSource
+     * @param tableName  스테이징 테이블 이름 ({@link #tableName(Long, String)})
+     * @param delegate   스테이징 테이블에 INSERT하는 ItemWriter
+     */
+    public PaymentStagingItemWriter(DataSource dataSource, String tableName, ItemWriter<Payment> delegate) {
+        Assert.notNull(dataSource, "DataSource는 필수입니다.");
+        Assert.isTrue(tableName.startsWith(TABLE_PREFIX), "스테이징 테이블 이름은 " + TABLE_PREFIX + "로 시작해야 합니다.");
+        Assert.notNull(delegate, "delegate는 필수입니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.tableName = tableName;
+        this.delegate = delegate;
+    }
+
+    /**
+     * 파티션의 스테이징 테이블 이름을 반환합니다.
+     *
+     * @param jobInstanceId     JobInstance id
+     * @param partitionStepName 파티션 StepExecution의 이름 (e.g. workerStep:partition0)
+     * @return 스테이징 테이블 이름 (e.g. payment_stage_12_partition0)
+     */
+    public static String tableName(Long jobInstanceId, String partitionStepName) {
+        String partitionName = partitionStepName.substring(partitionStepName.lastIndexOf(':') + 1);
+        return tablePrefix(jobInstanceId) + partitionName.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+
+    /**
+     * JobInstance의 모든 스테이징 테이블이 공유하는 이름의 접두사를 반환합니다.
+     *
+     * @param jobInstanceId JobInstance id
+     * @return 스테이징 테이블 이름의 접두사 (e.g. payment_stage_12_)
+     */
+    static String tablePrefix(Long jobInstanceId) {
+        return TABLE_PREFIX + jobInstanceId + "_";
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        jdbcTemplate.execute(CREATE_TABLE_SQL.formatted(tableName));
+        log.info("Staging table {} ready", tableName);
+    }
+
+    @Override
+    public void write(Chunk<? extends Payment> chunk) throws Exception {
+        delegate.write(chunk);
+    }
+}
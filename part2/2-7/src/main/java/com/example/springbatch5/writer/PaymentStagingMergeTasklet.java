@@ -0,0 +1,80 @@
+package com.example.springbatch5.writer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * {@link PaymentStagingItemWriter}가 파티션마다 저장한 스테이징 테이블을 `payment` 테이블로 옮기는 Tasklet 입니다.
+ *
+ * 한 번 실행할 때 스테이징 테이블 하나를 `INSERT ... SELECT`로 옮기고, 남은 테이블이 있으면 다시 실행됩니다.
+ * 테이블마다 트랜잭션이 나뉘므로 전체 기간을 하나의 트랜잭션으로 옮기는 것보다 undo log가 작습니다.
+ *
+ * MySQL은 DDL을 실행하기 전에 진행 중인 트랜잭션을 암묵적으로 커밋하므로, INSERT 직후에 `DROP TABLE`을 실행하면
+ * INSERT만 커밋된 채 StepExecution의 기록이 남지 않을 수 있고, 재시작하면 같은 테이블을 다시 옮기게 됩니다.
+ * 그래서 옮긴 테이블 이름을 INSERT와 같은 트랜잭션에서 StepExecution의 ExecutionContext에 기록하고,
+ * 테이블 삭제는 다음 실행의 시작(새 트랜잭션의 첫 문장)에서 수행합니다.
+ * 재시작하면 ExecutionContext에 기록된 테이블은 옮기지 않고 삭제만 하므로 같은 행이 두 번 저장되지 않습니다.
+ */
+@Slf4j
+public class PaymentStagingMergeTasklet implements Tasklet {
+
+    // 옮겼지만 아직 삭제하지 않은 스테이징 테이블 이름의 ExecutionContext 키
+    private static final String MERGED_TABLE_KEY = "PaymentStagingMergeTasklet.mergedTable";
+
+    private static final String FIND_TABLES_SQL = """
+            SELECT table_name
+            FROM information_schema.tables
+            WHERE table_schema = DATABASE() AND table_name LIKE ?
+            ORDER BY table_name
+            LIMIT 1
+            """;
+    private static final String MERGE_SQL = """
+            INSERT INTO payment (amount, payment_date, partner_corp_name, status)
+            SELECT amount, payment_date, partner_corp_name, status FROM %s
+            """;
+    private static final String DROP_TABLE_SQL = "DROP TABLE IF EXISTS %s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PaymentStagingMergeTasklet(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+
+        // 이전 실행에서 옮긴 테이블은 INSERT와 기록이 함께 커밋된 뒤이므로 이제 삭제한다.
+        if (executionContext.containsKey(MERGED_TABLE_KEY)) {
+            String mergedTable = executionContext.getString(MERGED_TABLE_KEY);
+            jdbcTemplate.execute(DROP_TABLE_SQL.formatted(mergedTable));
+            executionContext.remove(MERGED_TABLE_KEY);
+            log.info("Dropped merged staging table {}", mergedTable);
+        }
+
+        Long jobInstanceId = stepExecution.getJobExecution().getJobInstance().getInstanceId();
+        // LIKE 패턴에서 '_'는 임의의 한 글자를 뜻하므로 이스케이프한다.
+        String pattern = PaymentStagingItemWriter.tablePrefix(jobInstanceId).replace("_", "\\_") + "%";
+        List<String> tables = jdbcTemplate.queryForList(FIND_TABLES_SQL, String.class, pattern);
+        if (tables.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        String table = tables.get(0);
+        int merged = jdbcTemplate.update(MERGE_SQL.formatted(table));
+        executionContext.putString(MERGED_TABLE_KEY, table);
+        contribution.incrementWriteCount(merged);
+        log.info("Merged {} rows from {}", merged, table);
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.springbatch5.job;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class LoadAwarePartitionTaskExecutorTest {
+
+    private static final String POOL_NAME = "batch-pool";
+    private static final int MAXIMUM_POOL_SIZE = 1_000;
+    private static final int RESERVED_CONNECTIONS = 2;
+
+    private final HikariDataSource dataSource = mock(HikariDataSource.class);
+    private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private LoadAwarePartitionTaskExecutor executor;
+    private int initialConcurrency;
+
+    @BeforeEach
+    void setUp() {
+        given(dataSource.getMaximumPoolSize()).willReturn(MAXIMUM_POOL_SIZE);
+        given(dataSource.getPoolName()).willReturn(POOL_NAME);
+        given(dataSource.getHikariPoolMXBean()).willReturn(pool);
+        // 모니터 스레드가 테스트 중에 조절하지 않도록 주기를 길게 잡고 adjustConcurrency()를 직접 호출한다.
+        executor = new LoadAwarePartitionTaskExecutor(dataSource, meterRegistry, RESERVED_CONNECTIONS, Duration.ofHours(1));
+        executor.initialize();
+        initialConcurrency = executor.getCorePoolSize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void 커넥션_대기가_한_번만_관측되면_동시_실행_수를_줄이지_않는다() {
+        given(pool.getThreadsAwaitingConnection()).willReturn(3, 0, 3, 3, 0);
+
+        for (int i = 0; i < 5; i++) {
+            executor.adjustConcurrency();
+        }
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency);
+    }
+
+    @Test
+    void 커넥션_대기가_연속으로_관측되면_동시_실행_수를_1_줄이고_다시_연속으로_관측되어야_더_줄인다() {
+        given(pool.getThreadsAwaitingConnection()).willReturn(1);
+
+        for (int i = 0; i < LoadAwarePartitionTaskExecutor.SUSTAINED_WAIT_SAMPLES - 1; i++) {
+            executor.adjustConcurrency();
+        }
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency);
+
+        executor.adjustConcurrency();
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency - 1);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(initialConcurrency - 1);
+
+        executor.adjustConcurrency();
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency - 1);
+    }
+
+    @Test
+    void acquire_타이머가_있으면_주기_동안의_평균_커넥션_획득_시간으로_대기를_판단한다() {
+        Timer acquireTimer = Timer.builder("hikaricp.connections.acquire").tag("pool", POOL_NAME).register(meterRegistry);
+        // 확인 시점에는 기다리는 스레드가 없지만 주기 동안 커넥션을 얻는 데 오래 걸렸다.
+        given(pool.getThreadsAwaitingConnection()).willReturn(0);
+
+        for (int i = 0; i < LoadAwarePartitionTaskExecutor.SUSTAINED_WAIT_SAMPLES; i++) {
+            acquireTimer.record(Duration.ofMillis(1));
+            acquireTimer.record(LoadAwarePartitionTaskExecutor.ACQUIRE_TIME_THRESHOLD.multipliedBy(3));
+            executor.adjustConcurrency();
+        }
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency - 1);
+    }
+
+    @Test
+    void acquire_타이머의_평균_획득_시간이_짧으면_순간_대기_스레드가_있어도_줄이지_않는다() {
+        Timer acquireTimer = Timer.builder("hikaricp.connections.acquire").tag("pool", POOL_NAME).register(meterRegistry);
+        given(pool.getThreadsAwaitingConnection()).willReturn(1);
+
+        for (int i = 0; i < LoadAwarePartitionTaskExecutor.SUSTAINED_WAIT_SAMPLES * 2; i++) {
+            acquireTimer.record(Duration.ofMillis(1));
+            executor.adjustConcurrency();
+        }
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency);
+    }
+
+    @Test
+    void 대기_중인_파티션이_있고_커넥션이_남으면_동시_실행_수를_1_늘린다() throws InterruptedException {
+        given(pool.getThreadsAwaitingConnection()).willReturn(0);
+        given(pool.getIdleConnections()).willReturn(RESERVED_CONNECTIONS + 1);
+        occupyAllThreadsAndQueueOne();
+
+        executor.adjustConcurrency();
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency + 1);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(initialConcurrency + 1);
+    }
+
+    @Test
+    void 유휴_커넥션이_예비_커넥션_수_이하이면_늘리지_않는다() throws InterruptedException {
+        given(pool.getThreadsAwaitingConnection()).willReturn(0);
+        given(pool.getIdleConnections()).willReturn(RESERVED_CONNECTIONS);
+        occupyAllThreadsAndQueueOne();
+
+        executor.adjustConcurrency();
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency);
+    }
+
+    @Test
+    void 커넥션_풀이_시작되지_않았으면_조절하지_않는다() {
+        given(dataSource.getHikariPoolMXBean()).willReturn(null);
+
+        for (int i = 0; i < LoadAwarePartitionTaskExecutor.SUSTAINED_WAIT_SAMPLES; i++) {
+            executor.adjustConcurrency();
+        }
+
+        assertThat(executor.getCorePoolSize()).isEqualTo(initialConcurrency);
+    }
+
+    @Test
+    void 최대_동시_실행_수는_커넥션_풀_크기에서_예비_커넥션을_뺀_값이다() {
+        assertThat(executor.getMaxConcurrency()).isEqualTo(MAXIMUM_POOL_SIZE - RESERVED_CONNECTIONS);
+    }
+
+    private void occupyAllThreadsAndQueueOne() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(initialConcurrency);
+        for (int i = 0; i < initialConcurrency + 1; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
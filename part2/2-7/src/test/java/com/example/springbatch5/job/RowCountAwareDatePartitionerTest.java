@@ -0,0 +1,92 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.job.RowCountAwareDatePartitioner.DailyCount;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowCountAwareDatePartitionerTest {
+
+    private final RowCountAwareDatePartitioner partitioner =
+            new RowCountAwareDatePartitioner(null, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+    @Test
+    void 데이터가_몰린_날짜는_id_범위로_나누고_작은_연속_날짜는_묶는다() {
+        // 전체 120건, gridSize 4 => 파티션당 목표 30건
+        List<DailyCount> dailyCounts = List.of(
+                new DailyCount(LocalDate.of(2025, 1, 1), 10, 1, 10),
+                new DailyCount(LocalDate.of(2025, 1, 2), 10, 11, 20),
+                new DailyCount(LocalDate.of(2025, 1, 5), 100, 21, 120)
+        );
+
+        List<ExecutionContext> partitions = sortedByMinId(partitioner.partition(dailyCounts, 4));
+
+        // 1/1, 1/2는 하나의 파티션으로 묶인다.
+        assertThat(partitions).hasSize(5);
+        assertThat(partitions.get(0).getString("startDate")).isEqualTo("2025-01-01");
+        assertThat(partitions.get(0).getString("endDate")).isEqualTo("2025-01-02");
+        assertThat(partitions.get(0).getLong("minId")).isEqualTo(1L);
+        assertThat(partitions.get(0).getLong("maxId")).isEqualTo(20L);
+
+        // 1/5는 100건을 4개의 id 범위로 나눈다.
+        List<ExecutionContext> heavyDay = partitions.subList(1, 5);
+        assertThat(heavyDay).allSatisfy(context -> {
+            assertThat(context.getString("startDate")).isEqualTo("2025-01-05");
+            assertThat(context.getString("endDate")).isEqualTo("2025-01-05");
+        });
+        assertThat(heavyDay.get(0).getLong("minId")).isEqualTo(21L);
+        assertThat(heavyDay.get(3).getLong("maxId")).isEqualTo(120L);
+    }
+
+    @Test
+    void 파티션의_id_범위는_겹치지_않고_빈틈없이_이어진다() {
+        List<DailyCount> dailyCounts = List.of(
+                new DailyCount(LocalDate.of(2025, 1, 1), 7, 1, 7),
+                new DailyCount(LocalDate.of(2025, 1, 2), 95, 8, 102),
+                new DailyCount(LocalDate.of(2025, 1, 3), 3, 103, 105),
+                new DailyCount(LocalDate.of(2025, 1, 4), 2, 106, 107),
+                new DailyCount(LocalDate.of(2025, 1, 31), 53, 108, 160)
+        );
+
+        List<ExecutionContext> partitions = sortedByMinId(partitioner.partition(dailyCounts, 7));
+
+        long expectedMinId = 1;
+        for (ExecutionContext partition : partitions) {
+            assertThat(partition.getLong("minId")).isEqualTo(expectedMinId);
+            assertThat(partition.getLong("maxId")).isGreaterThanOrEqualTo(partition.getLong("minId"));
+            expectedMinId = partition.getLong("maxId") + 1;
+        }
+        assertThat(expectedMinId).isEqualTo(161L);
+    }
+
+    @Test
+    void 데이터가_없는_날짜는_파티션을_만들지_않는다() {
+        assertThat(partitioner.partition(List.of(), 4)).isEmpty();
+
+        // 1/10 ~ 1/19는 데이터가 없으므로 어떤 파티션의 날짜 범위에도 포함되지 않는다.
+        List<DailyCount> dailyCounts = List.of(
+                new DailyCount(LocalDate.of(2025, 1, 9), 50, 1, 50),
+                new DailyCount(LocalDate.of(2025, 1, 20), 50, 51, 100)
+        );
+
+        List<ExecutionContext> partitions = sortedByMinId(partitioner.partition(dailyCounts, 2));
+
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions.get(0).getString("startDate")).isEqualTo("2025-01-09");
+        assertThat(partitions.get(0).getString("endDate")).isEqualTo("2025-01-09");
+        assertThat(partitions.get(1).getString("startDate")).isEqualTo("2025-01-20");
+        assertThat(partitions.get(1).getString("endDate")).isEqualTo("2025-01-20");
+    }
+
+    private static List<ExecutionContext> sortedByMinId(Map<String, ExecutionContext> partitions) {
+        return partitions.values().stream()
+                .sorted(Comparator.comparingLong(context -> context.getLong("minId")))
+                .toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.springbatch5.job;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class VirtualThreadPartitionExecutorTest {
+
+    private final HikariDataSource dataSource = mock(HikariDataSource.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("spring.threads.virtual.enabled", "true");
+
+    @Test
+    void 가상_스레드_모드이면_파티션을_가상_스레드에서_실행하고_동시_실행_수를_커넥션_수로_제한한다() throws Exception {
+        given(dataSource.getMaximumPoolSize()).willReturn(10);
+
+        TaskExecutor taskExecutor = partitionJobConfig().taskExecutor();
+
+        assertThat(taskExecutor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        // 커넥션 풀 10개 - 예비 커넥션 2개
+        assertThat(((SimpleAsyncTaskExecutor) taskExecutor).getConcurrencyLimit()).isEqualTo(8);
+
+        CompletableFuture<Thread> worker = new CompletableFuture<>();
+        taskExecutor.execute(() -> worker.complete(Thread.currentThread()));
+        Thread thread = worker.get(5, TimeUnit.SECONDS);
+        assertThat(thread.isVirtual()).isTrue();
+        assertThat(thread.getName()).startsWith("partition-vthread-");
+    }
+
+    @Test
+    void 커넥션_풀이_예비_커넥션_수_이하이면_동시_실행_수를_1로_제한한다() {
+        given(dataSource.getMaximumPoolSize()).willReturn(2);
+
+        TaskExecutor taskExecutor = partitionJobConfig().taskExecutor();
+
+        assertThat(((SimpleAsyncTaskExecutor) taskExecutor).getConcurrencyLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void 가상_스레드_모드가_아니면_LoadAwarePartitionTaskExecutor를_사용한다() {
+        environment.setProperty("spring.threads.virtual.enabled", "false");
+        given(dataSource.getMaximumPoolSize()).willReturn(10);
+
+        assertThat(partitionJobConfig().taskExecutor()).isInstanceOf(LoadAwarePartitionTaskExecutor.class);
+    }
+
+    @Test
+    void 가상_스레드가_synchronized_안에서_블로킹되면_고정된_위치를_분류하여_센다() throws Exception {
+        try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20), meterRegistry)) {
+            monitor.start();
+
+            // 이벤트 수집은 비동기로 시작되므로 카운터가 증가할 때까지 고정 상황을 반복해서 만든다.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (pinnedCount("application") == 0 && System.nanoTime() < deadline) {
+                Thread.ofVirtual().start(VirtualThreadPartitionExecutorTest::sleepWhileHoldingLock).join();
+                Thread.sleep(100);
+            }
+        }
+
+        assertThat(pinnedCount("application")).isPositive();
+        assertThat(pinnedCount("jdbc")).isZero();
+    }
+
+    private PartitionJobConfig partitionJobConfig() {
+        return new PartitionJobConfig(null, null, null, null, dataSource, meterRegistry, environment);
+    }
+
+    private double pinnedCount(String source) {
+        Counter counter = meterRegistry.find("batch.virtual.thread.pinned").tag("source", source).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static synchronized void sleepWhileHoldingLock() {
+        try {
+            // JDK 21에서는 synchronized 안에서 블로킹하면 가상 스레드가 캐리어 스레드에 고정된다.
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.springbatch5.partition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 매니저({@link RemotePartitionHandler})와 같은 JVM의 워커({@link RemotePartitionWorker})가
+ * {@link InMemoryPartitionRequestTransport}로 파티션을 주고받는 과정을 검증합니다.
+ * JobRepository는 StepExecution을 메모리에 보관하는 mock으로 대신합니다.
+ */
+class RemotePartitioningTest {
+
+    private static final String STEP_NAME = "workerStep";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Duration LEASE = Duration.ofMillis(300);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofMillis(50);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final JobExplorer jobExplorer = mock(JobExplorer.class);
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    // JobRepository에 저장된 StepExecution (id - StepExecution)
+    private final Map<Long, StepExecution> stepExecutions = new ConcurrentHashMap<>();
+    private final LeaseTrackingTransport transport = new LeaseTrackingTransport();
+
+    private final JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+    private RemotePartitionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        given(jobExplorer.getStepExecution(anyLong(), anyLong()))
+                .willAnswer(invocation -> stepExecutions.get(invocation.<Long>getArgument(1)));
+        willAnswer(invocation -> {
+            StepExecution stepExecution = invocation.getArgument(0);
+            stepExecutions.put(stepExecution.getId(), stepExecution);
+            return null;
+        }).given(jobRepository).update(any(StepExecution.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (worker != null) {
+            worker.stop();
+        }
+    }
+
+    @Test
+    void 워커가_모든_요청을_받아_실행하고_매니저는_결과를_모아_반환한다() throws Exception {
+        List<String> executed = new CopyOnWriteArrayList<>();
+        startWorker(step(stepExecution -> executed.add(stepExecution.getStepName())));
+        Set<StepExecution> partitions = partitions(3);
+
+        Set<StepExecution> results = handler().doHandle(managerStepExecution(), partitions);
+
+        assertThat(results).extracting(StepExecution::getStatus).containsOnly(BatchStatus.COMPLETED);
+        assertThat(executed).containsExactlyInAnyOrder("workerStep:partition0", "workerStep:partition1", "workerStep:partition2");
+        // 보낸 요청은 한 번씩만 받아 가고, 모두 정리된다.
+        assertThat(transport.sent).extracting(PartitionRequest::getStepExecutionId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(transport.received).extracting(PartitionRequest::getStepExecutionId).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(transport.claimed).isEmpty();
+        assertThat(transport.completed).containsAll(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void 실행이_lease보다_오래_걸려도_heartbeat를_보내는_동안은_실패_처리하지_않는다() throws Exception {
+        startWorker(step(stepExecution -> sleep(LEASE.multipliedBy(3))));
+
+        Set<StepExecution> results = handler().doHandle(managerStepExecution(), partitions(1));
+
+        assertThat(results).extracting(StepExecution::getStatus).containsOnly(BatchStatus.COMPLETED);
+        assertThat(transport.heartbeats.get()).isPositive();
+    }
+
+    @Test
+    void 워커의_스텝이_실패하면_StepExecution을_FAILED로_기록하고_매니저는_나머지_파티션을_기다린다() throws Exception {
+        startWorker(step(stepExecution -> {
+            if (stepExecution.getStepName().endsWith("partition1")) {
+                throw new IllegalStateException("payment_source 조회 실패");
+            }
+        }));
+
+        Set<StepExecution> results = handler().doHandle(managerStepExecution(), partitions(3));
+
+        assertThat(results).hasSize(3);
+        StepExecution failed = find(results, "workerStep:partition1");
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(failed.getFailureExceptions()).extracting(Throwable::getMessage).containsExactly("payment_source 조회 실패");
+        assertThat(find(results, "workerStep:partition0").getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(find(results, "workerStep:partition2").getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        // 실패한 요청도 정리된다.
+        assertThat(transport.claimed).isEmpty();
+    }
+
+    @Test
+    void 워커에_없는_스텝의_요청은_FAILED로_기록한다() throws Exception {
+        worker = new RemotePartitionWorker(transport, jobExplorer, jobRepository,
+                Map.of("otherStep", step(stepExecution -> {})), 1, HEARTBEAT_INTERVAL);
+        worker.start();
+
+        Set<StepExecution> results = handler().doHandle(managerStepExecution(), partitions(1));
+
+        assertThat(results).extracting(StepExecution::getStatus).containsOnly(BatchStatus.FAILED);
+    }
+
+    @Test
+    void 요청을_받아_간_워커가_heartbeat_없이_lease를_넘기면_파티션을_실패_처리하고_요청을_정리한다() throws Exception {
+        // 요청을 받아 간 뒤 실행 도중 죽은 워커: heartbeat도 complete도 보내지 않는다.
+        Thread deadWorker = new Thread(() -> {
+            try {
+                for (int i = 0; i < 2; i++) {
+                    transport.receive(TIMEOUT);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        deadWorker.start();
+
+        Set<StepExecution> results = handler().doHandle(managerStepExecution(), partitions(2));
+        deadWorker.join();
+
+        assertThat(results).hasSize(2).allSatisfy(partition -> {
+            assertThat(partition.getStatus()).isEqualTo(BatchStatus.FAILED);
+            assertThat(partition.getExitStatus().getExitCode()).isEqualTo(ExitStatus.FAILED.getExitCode());
+            assertThat(partition.getExitStatus().getExitDescription()).contains("Worker lease expired");
+            assertThat(partition.getEndTime()).isNotNull();
+        });
+        assertThat(stepExecutions.values()).extracting(StepExecution::getStatus).containsOnly(BatchStatus.FAILED);
+        assertThat(transport.claimed).isEmpty();
+    }
+
+    private RemotePartitionHandler handler() {
+        return new RemotePartitionHandler(transport, jobExplorer, jobRepository, STEP_NAME, 3, POLL_INTERVAL, LEASE, TIMEOUT);
+    }
+
+    private void startWorker(Step step) {
+        worker = new RemotePartitionWorker(transport, jobExplorer, jobRepository, Map.of(STEP_NAME, step), 2, HEARTBEAT_INTERVAL);
+        worker.start();
+    }
+
+    private StepExecution managerStepExecution() {
+        return MetaDataInstanceFactory.createStepExecution(jobExecution, "remoteManagerStep", 100L);
+    }
+
+    private Set<StepExecution> partitions(int count) {
+        Set<StepExecution> partitions = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            StepExecution partition = MetaDataInstanceFactory.createStepExecution(jobExecution, STEP_NAME + ":partition" + i, (long) i + 1);
+            stepExecutions.put(partition.getId(), partition);
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
+    /**
+     * 스텝 실행 중에 body를 실행하고, 예외가 없으면 COMPLETED로 기록하는 스텝을 생성합니다.
+     */
+    private Step step(Consumer<StepExecution> body) {
+        return new Step() {
+            @Override
+            public String getName() {
+                return STEP_NAME;
+            }
+
+            @Override
+            public void execute(StepExecution stepExecution) {
+                stepExecution.setStatus(BatchStatus.STARTED);
+                jobRepository.update(stepExecution);
+                body.accept(stepExecution);
+                stepExecution.setStatus(BatchStatus.COMPLETED);
+                stepExecution.setExitStatus(ExitStatus.COMPLETED);
+                jobRepository.update(stepExecution);
+            }
+        };
+    }
+
+    private static StepExecution find(Set<StepExecution> results, String stepName) {
+        return results.stream().filter(result -> result.getStepName().equals(stepName)).findFirst().orElseThrow();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 받아 간 요청의 마지막 heartbeat 시각을 기록하여 점유 기간을 관리하는 in-memory transport 입니다.
+     * JdbcPartitionRequestTransport의 claimed_at/heartbeat_at 처리를 메모리에서 흉내 냅니다.
+     */
+    private static class LeaseTrackingTransport extends InMemoryPartitionRequestTransport {
+
+        private final List<PartitionRequest> sent = new CopyOnWriteArrayList<>();
+        private final List<PartitionRequest> received = new CopyOnWriteArrayList<>();
+        private final List<Long> completed = new CopyOnWriteArrayList<>();
+        // 받아 간 요청 (stepExecutionId - 요청과 마지막 heartbeat 시각)
+        private final Map<Long, Claim> claimed = new ConcurrentHashMap<>();
+        private final AtomicInteger heartbeats = new AtomicInteger();
+
+        @Override
+        public void send(PartitionRequest request) {
+            sent.add(request);
+            super.send(request);
+        }
+
+        @Override
+        public PartitionRequest receive(Duration timeout) throws InterruptedException {
+            PartitionRequest request = super.receive(timeout);
+            if (request != null) {
+                received.add(request);
+                claimed.put(request.getStepExecutionId(), new Claim(request, System.nanoTime()));
+            }
+            return request;
+        }
+
+        @Override
+        public void heartbeat(PartitionRequest request) {
+            heartbeats.incrementAndGet();
+            claimed.computeIfPresent(request.getStepExecutionId(), (id, claim) -> new Claim(claim.request(), System.nanoTime()));
+        }
+
+        @Override
+        public void complete(PartitionRequest request) {
+            completed.add(request.getStepExecutionId());
+            claimed.remove(request.getStepExecutionId());
+        }
+
+        @Override
+        public List<PartitionRequest> findExpired(Long jobExecutionId, Duration lease) {
+            long now = System.nanoTime();
+            List<PartitionRequest> expired = new ArrayList<>();
+            for (Claim claim : claimed.values()) {
+                if (claim.request().getJobExecutionId().equals(jobExecutionId) && now - claim.heartbeatAt() > lease.toNanos()) {
+                    expired.add(claim.request());
+                }
+            }
+            return expired;
+        }
+
+        private record Claim(PartitionRequest request, long heartbeatAt) {
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.springbatch5.writer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스테이징 테이블을 옮기는 도중 실패한 뒤 재시작해도 `payment`에 같은 행이 두 번 저장되지 않는지 검증합니다.
+ */
+@SpringBootTest(properties = {"spring.batch.job.enabled=false"})
+class PaymentStagingMergeTaskletTest {
+
+    private static final String JOB_NAME = "paymentStagingMergeTestJob";
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private JobLauncher jobLauncher;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private JobParameters jobParameters;
+    private Long jobInstanceId;
+    // 이 테스트에서 저장한 행을 구분하기 위한 partner_corp_name
+    private String partnerCorpName;
+
+    @BeforeEach
+    void setUp() {
+        long runId = System.nanoTime();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jobParameters = new JobParametersBuilder().addLong("run.id", runId).toJobParameters();
+        partnerCorpName = "merge-test-" + runId;
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM payment WHERE partner_corp_name = ?", partnerCorpName);
+        if (jobInstanceId != null) {
+            for (String table : stagingTables()) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+            }
+        }
+    }
+
+    @Test
+    void 옮긴_직후_실패하면_재시작할_때_옮긴_테이블은_다시_옮기지_않고_삭제만_한다() throws Exception {
+        // given: partition0(3건), partition1(2건)
+        Runnable givenStagingTables = () -> {
+            createStagingTable("stagedWorkerStep:partition0", 3);
+            createStagingTable("stagedWorkerStep:partition1", 2);
+        };
+
+        // when: partition0을 옮긴 트랜잭션이 커밋된 뒤, 테이블을 삭제하기 전에 실패한다.
+        PaymentStagingMergeTasklet tasklet = new PaymentStagingMergeTasklet(dataSource);
+        AtomicInteger calls = new AtomicInteger();
+        JobExecution failed = launch(givenStagingTables, (contribution, chunkContext) -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("merge 중단");
+            }
+            return tasklet.execute(contribution, chunkContext);
+        });
+        String partition0 = PaymentStagingItemWriter.tableName(jobInstanceId, "stagedWorkerStep:partition0");
+
+        // then: partition0은 옮겨졌지만 아직 남아 있다.
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(mergedRows()).isEqualTo(3);
+        assertThat(stagingTables()).contains(partition0);
+
+        // when: 재시작
+        JobExecution restarted = launch(new PaymentStagingMergeTasklet(dataSource));
+
+        // then: partition0은 삭제만 하고 partition1만 옮긴다.
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(mergedRows()).isEqualTo(5);
+        assertThat(stagingTables()).isEmpty();
+    }
+
+    @Test
+    void 다음_테이블을_옮기다_실패하면_재시작할_때_실패한_테이블부터_옮긴다() throws Exception {
+        // given: partition1은 status 컬럼이 없어 INSERT ... SELECT가 실패한다.
+        Runnable givenStagingTables = () -> {
+            createStagingTable("stagedWorkerStep:partition0", 3);
+            String table = PaymentStagingItemWriter.tableName(jobInstanceId, "stagedWorkerStep:partition1");
+            jdbcTemplate.execute("""
+                    CREATE TABLE %s (amount DECIMAL(38, 2) NOT NULL, payment_date DATE NOT NULL, partner_corp_name VARCHAR(100) NULL)
+                    """.formatted(table));
+            jdbcTemplate.update("INSERT INTO %s VALUES (1000, '2025-01-02', ?), (2000, '2025-01-02', ?)".formatted(table),
+                    partnerCorpName, partnerCorpName);
+        };
+
+        // when
+        JobExecution failed = launch(givenStagingTables, new PaymentStagingMergeTasklet(dataSource));
+        String partition1 = PaymentStagingItemWriter.tableName(jobInstanceId, "stagedWorkerStep:partition1");
+
+        // then: partition0만 옮겨지고 삭제되었다.
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(mergedRows()).isEqualTo(3);
+        assertThat(stagingTables()).containsExactly(partition1);
+
+        // when: partition1을 고친 뒤 재시작
+        jdbcTemplate.execute("ALTER TABLE %s ADD COLUMN status VARCHAR(50) NOT NULL DEFAULT 'PAYMENT'".formatted(partition1));
+        JobExecution restarted = launch(new PaymentStagingMergeTasklet(dataSource));
+
+        // then
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(mergedRows()).isEqualTo(5);
+        assertThat(stagingTables()).isEmpty();
+    }
+
+    @Test
+    void 옮길_테이블이_없으면_바로_끝난다() throws Exception {
+        JobExecution execution = launch(() -> {}, new PaymentStagingMergeTasklet(dataSource));
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(stagingTables()).isEmpty();
+        assertThat(mergedRows()).isZero();
+    }
+
+    /**
+     * 스테이징 테이블 이름에 JobInstance id가 필요하므로, 첫 실행의 첫 번째 호출에서 JobInstance id를 확인하고 스테이징 테이블을 만든 뒤 tasklet을 실행합니다.
+     */
+    private JobExecution launch(Runnable givenStagingTables, Tasklet tasklet) throws Exception {
+        return launch((contribution, chunkContext) -> {
+            if (jobInstanceId == null) {
+                jobInstanceId = chunkContext.getStepContext().getStepExecution().getJobExecution().getJobInstance().getInstanceId();
+                givenStagingTables.run();
+            }
+            return tasklet.execute(contribution, chunkContext);
+        });
+    }
+
+    /**
+     * 같은 JobParameters로 실행하므로 이전 실행이 실패했으면 재시작됩니다.
+     */
+    private JobExecution launch(Tasklet tasklet) throws Exception {
+        Job job = new JobBuilder(JOB_NAME, jobRepository)
+                .start(new StepBuilder("paymentMergeStep", jobRepository)
+                        .tasklet(tasklet, transactionManager)
+                        .build())
+                .build();
+        return jobLauncher.run(job, jobParameters);
+    }
+
+    private void createStagingTable(String partitionStepName, int rows) {
+        String tableName = PaymentStagingItemWriter.tableName(jobInstanceId, partitionStepName);
+        new PaymentStagingItemWriter(dataSource, tableName, chunk -> {}).open(null);
+        for (int i = 0; i < rows; i++) {
+            jdbcTemplate.update("INSERT INTO %s VALUES (?, '2025-01-01', ?, 'PAYMENT')".formatted(tableName), 1000 + i, partnerCorpName);
+        }
+    }
+
+    private int mergedRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment WHERE partner_corp_name = ?", Integer.class, partnerCorpName);
+    }
+
+    private List<String> stagingTables() {
+        return jdbcTemplate.queryForList("""
+                SELECT table_name FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name LIKE ?
+                ORDER BY table_name
+                """, String.class, PaymentStagingItemWriter.tablePrefix(jobInstanceId).replace("_", "\\_") + "%");
+    }
+}
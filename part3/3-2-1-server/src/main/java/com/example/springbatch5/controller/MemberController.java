@@ -4,10 +4,14 @@ import com.example.springbatch5.entity.Member;
 import com.example.springbatch5.entity.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,4 +28,24 @@ public class MemberController {
 //        }
         return memberRepository.findAll(pageable);
     }
+
+    /**
+     * id 기준 keyset 페이징으로 회원 목록을 조회합니다.
+     * `afterId`보다 큰 id를 id 순으로 `size`개 조회하며, OFFSET 스캔과 count 쿼리가 없어 테이블이 커져도 응답 시간이 일정합니다.
+     *
+     * @param afterId 이전 응답의 마지막 회원 id (첫 페이지는 0)
+     * @param size    페이지 크기
+     * @return 회원 목록과 다음 요청에 사용할 커서
+     */
+    @GetMapping("/keyset")
+    public SliceResponse<Member> getMembersAfter(
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Slice<Member> slice = memberRepository.findByIdGreaterThan(afterId, PageRequest.of(0, size, Sort.by("id")));
+        String nextCursor = slice.hasNext()
+                ? String.valueOf(slice.getContent().get(slice.getNumberOfElements() - 1).getId())
+                : null;
+        return new SliceResponse<>(slice.getContent(), size, !slice.hasNext(), nextCursor);
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.springbatch5.controller;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * count 쿼리 없이 다음 페이지 존재 여부만 알려주는 keyset 페이징 응답입니다.
+ * 클라이언트는 `nextCursor`를 다음 요청의 `afterId`로 그대로 전달합니다.
+ *
+ * @param <T> 응답 아이템 타입
+ */
+@Getter
+@RequiredArgsConstructor
+public class SliceResponse<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean last;
+    private final String nextCursor; // 마지막 페이지이면 null
+}
@@ -1,8 +1,15 @@
 package com.example.springbatch5.entity;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    /**
+     * id가 주어진 값보다 큰 회원을 조회합니다. Slice 반환 타입이므로 count 쿼리를 실행하지 않습니다.
+     */
+    Slice<Member> findByIdGreaterThan(Long id, Pageable pageable);
 }
\ No newline at end of file
@@ -10,7 +10,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * HTTP를 통해 외부 API로부터 페이징 처리된 데이터를 읽어오는 Spring Batch ItemReader 입니다.
@@ -19,6 +25,14 @@ import java.util.List;
  * Spring Batch가 재시작(restart) 시 상태를 올바르게 관리할 수 있도록 아이템 개수를 자동으로 카운팅합니다.
  * RestTemplate을 사용하여 지정된 URL로 GET 요청을 보내고, 페이징된 응답을 처리합니다.
  *
+ * `concurrency`가 1보다 크면 최대 `concurrency`개의 페이지 요청을 동시에 보내 둡니다.
+ * 응답은 요청한 페이지 순서대로 소비하므로 아이템의 순서와 읽은 아이템 개수(재시작 기준)는 순차 조회와 동일합니다.
+ * 이 장의 리더는 페이지 번호 조회만 지원하는 최소 구현이며, 커서 조회, 재시도, 페이지 범위와 함께 동작하는 동시 조회는
+ * 3-3-5의 `ConcurrentPageFetchStrategy`에서 다룹니다.
+ *
+ * 재시작 시에는 읽은 아이템 개수로 중단된 페이지와 페이지 내 위치를 계산하여 해당 페이지부터 다시 요청합니다.
+ * 마지막 페이지를 제외한 모든 페이지에 `size`개의 아이템이 있다고 가정하므로, 오류로 건너뛴 페이지가 있었다면 위치가 어긋날 수 있습니다.
+ *
  * @param <T> API 응답의 content 필드에 포함된 개별 아이템의 DTO(Data Transfer Object) 타입입니다.
  */
 
@@ -56,6 +70,18 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
     // - false: 오류가 발생하면 예외를 던져 Step을 즉시 실패시킵니다. (기본값)
     private final boolean ignoreErrors;
 
+    // 동시에 요청해 둘 최대 페이지 수 (1이면 순차 조회)
+    private final int concurrency;
+
+    // 동시 조회 모드에서 페이지 요청을 실행하는 스레드 풀
+    private ExecutorService fetchExecutor;
+
+    // 동시 조회 모드에서 요청을 보낸 뒤 아직 소비하지 않은 페이지들 (페이지 번호 순서)
+    private final Deque<Future<PageResponse<T>>> inFlightPages = new ArrayDeque<>();
+
+    // 동시 조회 모드에서 다음으로 요청할 페이지 번호
+    private int nextRequestPage = 0;
+
     // 현재 페이지에서 가져온 아이템들을 임시로 저장하는 리스트 (버퍼 역할)
     private List<T> items;
 
@@ -68,6 +94,9 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
     // API 응답에서 마지막 페이지인지 여부를 저장하는 플래그
     private boolean lastPage = false;
 
+    // 재시작 시 중단된 페이지에서 건너뛸 아이템 수 (재시작 후 첫 페이지에만 적용)
+    private int restartItemIndex = 0;
+
     /**
      * 빌더 패턴을 통해 HttpPageItemReader의 인스턴스를 생성합니다.
      * 필수 파라미터들이 빌더를 통해 안전하게 주입됩니다.
@@ -80,6 +109,7 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
         this.size = builder.size;
         this.responseType = builder.responseType;
         this.ignoreErrors = builder.ignoreErrors;
+        this.concurrency = builder.concurrency;
     }
 
     /**
@@ -96,25 +126,15 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
         while (items == null || currentItemIndex >= items.size()) {
             // 이미 마지막 페이지까지 모두 처리했다면, 더 이상 읽을 데이터가 없으므로 null을 반환한다.
             if (lastPage) {
+                // 마지막 페이지 이후로 미리 보낸 요청은 더 이상 필요 없으므로 취소한다.
+                cancelInFlightPages();
                 return null;
             }
 
-            // API 요청을 위한 URI를 생성한다. (e.g., http://localhost:8080/api/members?page=0&size=10)
-            UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .queryParam("page", page)
-                    .queryParam("size", size);
-
             PageResponse<T> pageResponse;
             try {
-                // 3. RestTemplate을 사용하여 API를 호출한다.
-                ResponseEntity<PageResponse<T>> response = restTemplate.exchange(
-                        uriBuilder.toUriString(),
-                        HttpMethod.GET,
-                        null, // 요청 본문(body)은 없음
-                        responseType
-                );
-                pageResponse = response.getBody();
-
+                // 3. API를 호출한다. 동시 조회 모드에서는 미리 보낸 요청의 응답을 페이지 순서대로 기다린다.
+                pageResponse = concurrency > 1 ? takeInFlightPage() : fetchPage(page);
             } catch (Exception ex) {
                 // API 호출 중 예외가 발생했을 때의 처리
                 if (ignoreErrors) {
@@ -143,7 +163,9 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
             // 5. 가져온 데이터를 내부 버퍼(items)에 저장하고 상태를 업데이트한다.
             this.items = pageResponse.getContent();
             this.lastPage = pageResponse.isLast();
-            this.currentItemIndex = 0;
+            // 재시작 후 첫 페이지이면 이전 실행에서 이미 읽은 아이템을 건너뛴다.
+            this.currentItemIndex = restartItemIndex;
+            this.restartItemIndex = 0;
         }
 
         // 6. 버퍼에서 다음 아이템을 하나씩 꺼내 반환한다.
@@ -152,6 +174,60 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
         return nextItem;
     }
 
+    /**
+     * 지정한 페이지를 API로 조회합니다.
+     *
+     * @param page 조회할 페이지 번호
+     * @return 페이지 응답
+     */
+    private PageResponse<T> fetchPage(int page) {
+        // API 요청을 위한 URI를 생성한다. (e.g., http://localhost:8080/api/members?page=0&size=10)
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("page", page)
+                .queryParam("size", size);
+
+        // RestTemplate을 사용하여 API를 호출한다.
+        ResponseEntity<PageResponse<T>> response = restTemplate.exchange(
+                uriBuilder.toUriString(),
+                HttpMethod.GET,
+                null, // 요청 본문(body)은 없음
+                responseType
+        );
+        return response.getBody();
+    }
+
+    /**
+     * 진행 중인 요청이 `concurrency`개가 되도록 다음 페이지 요청을 보낸 뒤, 가장 앞 페이지의 응답을 기다려 반환합니다.
+     *
+     * @return 현재 페이지(`page`)의 응답
+     */
+    private PageResponse<T> takeInFlightPage() {
+        while (inFlightPages.size() < concurrency) {
+            final int requestPage = nextRequestPage++;
+            // CompletableFuture와 달리 submit()이 반환한 Future는 cancel(true) 시 요청 스레드를 인터럽트한다.
+            inFlightPages.addLast(fetchExecutor.submit(() -> fetchPage(requestPage)));
+        }
+
+        Future<PageResponse<T>> inFlightPage = inFlightPages.removeFirst();
+        try {
+            return inFlightPage.get();
+        } catch (ExecutionException ex) {
+            // 비동기 호출에서 발생한 원래 예외를 그대로 전달하여 순차 조회와 같은 방식으로 처리되도록 한다.
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to fetch page " + page, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for page " + page, ex);
+        }
+    }
+
+    private void cancelInFlightPages() {
+        inFlightPages.forEach(inFlightPage -> inFlightPage.cancel(true));
+        inFlightPages.clear();
+    }
+
     /**
      * ItemStream이 열릴 때(보통 Step 시작 시) 호출됩니다.
      * 리더의 상태를 초기화하여 재시작 시에도 일관된 동작을 보장합니다.
@@ -162,20 +238,50 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
         this.currentItemIndex = 0;
         this.items = null;
         this.lastPage = false;
+        this.nextRequestPage = 0;
+        this.restartItemIndex = 0;
+        if (concurrency > 1) {
+            this.fetchExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+                Thread thread = new Thread(runnable, "http-page-fetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
         // ExecutionContext에 저장될 이 스트림의 이름을 설정합니다.
         // Spring Batch가 이 이름을 키로 사용하여 상태(예: 읽은 아이템 개수)를 저장합니다.
         setName(HttpPageItemReader.class.getSimpleName());
     }
 
+    /**
+     * 재시작 시 이전에 읽은 아이템 개수만큼 건너뜁니다.
+     * 상위 클래스처럼 아이템을 하나씩 다시 읽으면 이미 처리한 페이지를 모두 다시 요청하므로,
+     * 중단된 페이지 번호를 계산하여 그 페이지부터 요청합니다.
+     *
+     * @param itemIndex 이전 실행에서 읽은 아이템 개수
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        this.page = itemIndex / size;
+        this.nextRequestPage = page;
+        this.restartItemIndex = itemIndex % size;
+    }
+
     /**
      * ItemStream이 닫힐 때(보통 Step 종료 시) 호출됩니다.
      * 사용했던 리소스를 정리하고 상태를 초기화합니다.
      */
     @Override
     protected void doClose() throws Exception {
+        cancelInFlightPages();
+        if (fetchExecutor != null) {
+            fetchExecutor.shutdownNow();
+            this.fetchExecutor = null;
+        }
         this.items = null;
         this.page = 0;
         this.currentItemIndex = 0;
         this.lastPage = false;
+        this.nextRequestPage = 0;
+        this.restartItemIndex = 0;
     }
 }
@@ -15,6 +15,7 @@ public class HttpPageItemReaderBuilder<T> {
     protected int size = 10;
     protected ParameterizedTypeReference<PageResponse<T>> responseType;
     protected boolean ignoreErrors = false; // 기본값은 false
+    protected int concurrency = 1; // 기본값은 순차 조회
 
     public HttpPageItemReaderBuilder<T> baseUrl(String baseUrl) {
         this.baseUrl = baseUrl;
@@ -47,11 +48,23 @@ public class HttpPageItemReaderBuilder<T> {
         return this;
     }
 
+    /**
+     * 동시에 요청해 둘 최대 페이지 수를 설정합니다.
+     * 1보다 크면 현재 페이지를 처리하는 동안 다음 페이지들을 미리 요청하며, 아이템은 페이지 순서대로 반환됩니다.
+     * @param concurrency 동시에 요청할 페이지 수 (기본값 1)
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> concurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
     public HttpPageItemReader<T> build() {
         Assert.notNull(baseUrl, "Base URL은 필수입니다.");
         Assert.notNull(restTemplate, "RestTemplate은 필수입니다.");
         Assert.notNull(responseType, "응답 타입(responseType)은 필수입니다.");
         Assert.isTrue(size > 0, "size는 0보다 커야 합니다.");
+        Assert.isTrue(concurrency > 0, "concurrency는 0보다 커야 합니다.");
 
         return new HttpPageItemReader<>(this);
     }
@@ -0,0 +1,121 @@
+package com.example.springbatch5.reader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class HttpPageItemReaderTest {
+
+    private static final String MEMBER_API_URL = "http://localhost:8080/api/v1/members";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3})
+    void 페이지_순서대로_모든_아이템을_읽고_읽은_개수를_저장한다(int concurrency) throws Exception {
+        // given: 0, 1페이지는 10건, 2페이지는 5건인 마지막 페이지
+        givenPages(25);
+        HttpPageItemReader<String> reader = reader(concurrency);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        // when
+        List<String> items = readAll(reader);
+        reader.update(executionContext);
+        reader.close();
+
+        // then
+        then(items).containsExactlyElementsOf(IntStream.range(0, 25).mapToObj(String::valueOf).toList());
+        then(executionContext.getInt("HttpPageItemReader.read.count")).isEqualTo(25);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3})
+    void 재시작하면_중단된_페이지부터_요청하고_이미_읽은_아이템은_건너뛴다(int concurrency) throws Exception {
+        // given: 이전 실행에서 13건(1페이지의 3번째 아이템까지)을 읽었다.
+        givenPages(25);
+        HttpPageItemReader<String> reader = reader(concurrency);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt("HttpPageItemReader.read.count", 13);
+
+        // when
+        reader.open(executionContext);
+        List<String> items = readAll(reader);
+        reader.close();
+
+        // then
+        then(items).containsExactlyElementsOf(IntStream.range(13, 25).mapToObj(String::valueOf).toList());
+        verify(restTemplate, never()).exchange(eq(MEMBER_API_URL + "?page=0&size=10"), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void 페이지_경계에서_재시작하면_다음_페이지의_첫_아이템부터_읽는다() throws Exception {
+        givenPages(25);
+        HttpPageItemReader<String> reader = reader(1);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt("HttpPageItemReader.read.count", 20);
+
+        reader.open(executionContext);
+        List<String> items = readAll(reader);
+        reader.close();
+
+        then(items).containsExactly("20", "21", "22", "23", "24");
+    }
+
+    private HttpPageItemReader<String> reader(int concurrency) {
+        return new HttpPageItemReaderBuilder<String>()
+                .baseUrl(MEMBER_API_URL)
+                .size(10)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .concurrency(concurrency)
+                .build();
+    }
+
+    /**
+     * 전체 아이템 수가 totalItems인 페이지 응답을 준비합니다. 마지막 페이지 이후는 빈 페이지를 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void givenPages(int totalItems) {
+        given(restTemplate.exchange(startsWith(MEMBER_API_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .willAnswer(invocation -> {
+                    String uri = invocation.getArgument(0);
+                    int page = Integer.parseInt(uri.replaceAll(".*page=(\\d+).*", "$1"));
+                    int from = Math.min(page * 10, totalItems);
+                    int to = Math.min(from + 10, totalItems);
+                    PageResponse<String> pageResponse = mock(PageResponse.class);
+                    given(pageResponse.getContent()).willReturn(IntStream.range(from, to).mapToObj(String::valueOf).toList());
+                    given(pageResponse.isLast()).willReturn(to >= totalItems);
+                    return ResponseEntity.ok(pageResponse);
+                });
+    }
+
+    private static List<String> readAll(HttpPageItemReader<String> reader) throws Exception {
+        List<String> items = new ArrayList<>();
+        String item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,62 @@
+-- 시간 단위 롤업(paymentStatisticsRollupJob)을 위한 변경 로그 테이블과 payment_source 트리거
+-- payment_source의 INSERT/UPDATE/DELETE마다 변경 전후의 결제 시간을 기록하므로,
+-- 결제 시각이나 사업자가 바뀐 경우의 이전 시간과 삭제된 결제의 시간도 다시 합산됩니다.
+-- TRUNCATE TABLE과 같이 트리거가 실행되지 않는 변경은 감지하지 않습니다.
+CREATE TABLE IF NOT EXISTS payment_source_change_log
+(
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    payment_hour DATETIME(6) NOT NULL,
+    created_at   DATETIME(6) NOT NULL
+);
+
+DROP TRIGGER IF EXISTS payment_source_after_insert;
+DROP TRIGGER IF EXISTS payment_source_after_update;
+DROP TRIGGER IF EXISTS payment_source_after_delete;
+
+-- 구분자 변경
+DELIMITER //
+
+CREATE TRIGGER payment_source_after_insert
+    AFTER INSERT
+    ON payment_source
+    FOR EACH ROW
+BEGIN
+    INSERT INTO payment_source_change_log (payment_hour, created_at)
+    VALUES (DATE_FORMAT(NEW.payment_date_time, '%Y-%m-%d %H:00:00'), NOW(6));
+END //
+
+CREATE TRIGGER payment_source_after_update
+    AFTER UPDATE
+    ON payment_source
+    FOR EACH ROW
+BEGIN
+    -- 롤업에 영향이 없는 컬럼(updated_at 등)만 바뀌면 기록하지 않는다.
+    IF NOT (OLD.amount <=> NEW.amount
+        AND OLD.corp_name <=> NEW.corp_name
+        AND OLD.business_registration_number <=> NEW.business_registration_number
+        AND OLD.payment_date_time <=> NEW.payment_date_time) THEN
+        INSERT INTO payment_source_change_log (payment_hour, created_at)
+        VALUES (DATE_FORMAT(OLD.payment_date_time, '%Y-%m-%d %H:00:00'), NOW(6));
+        IF DATE_FORMAT(OLD.payment_date_time, '%Y-%m-%d %H') <> DATE_FORMAT(NEW.payment_date_time, '%Y-%m-%d %H') THEN
+            INSERT INTO payment_source_change_log (payment_hour, created_at)
+            VALUES (DATE_FORMAT(NEW.payment_date_time, '%Y-%m-%d %H:00:00'), NOW(6));
+        END IF;
+    END IF;
+END //
+
+CREATE TRIGGER payment_source_after_delete
+    AFTER DELETE
+    ON payment_source
+    FOR EACH ROW
+BEGIN
+    INSERT INTO payment_source_change_log (payment_hour, created_at)
+    VALUES (DATE_FORMAT(OLD.payment_date_time, '%Y-%m-%d %H:00:00'), NOW(6));
+END //
+
+DELIMITER ;
+
+-- 트리거를 만든 뒤 기존 결제의 모든 시간을 기록하여 첫 실행에서 전체 롤업을 생성합니다.
+-- (트리거 생성 이후의 변경은 트리거가 기록하므로 빠지는 시간이 없습니다.)
+INSERT INTO payment_source_change_log (payment_hour, created_at)
+SELECT DISTINCT DATE_FORMAT(payment_date_time, '%Y-%m-%d %H:00:00'), NOW(6)
+FROM payment_source;
@@ -0,0 +1,48 @@
+package com.example.springbatch5.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job별로 마지막으로 처리한 payment_source 변경 위치(워터마크)를 저장합니다.
+ * Job이 완료되면 이번 실행에서 처리한 마지막 위치로 갱신되며, 다음 실행은 이 위치 이후의 변경만 조회합니다.
+ */
+@Entity
+@Table(name = "payment_change_watermark")
+@Getter
+@NoArgsConstructor
+public class PaymentChangeWatermark {
+
+    // Job 이름
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    // 마지막으로 처리한 변경의 updatedAt
+    @Column(nullable = false)
+    private LocalDateTime lastUpdatedAt;
+
+    // 마지막으로 처리한 변경의 id
+    @Column(nullable = false)
+    private Long lastId;
+
+    public PaymentChangeWatermark(String jobName, PaymentSourceChangePosition position) {
+        this.jobName = jobName;
+        advance(position);
+    }
+
+    public void advance(PaymentSourceChangePosition position) {
+        this.lastUpdatedAt = position.getUpdatedAt();
+        this.lastId = position.getId();
+    }
+
+    public PaymentSourceChangePosition toPosition() {
+        return new PaymentSourceChangePosition(lastUpdatedAt, lastId);
+    }
+}
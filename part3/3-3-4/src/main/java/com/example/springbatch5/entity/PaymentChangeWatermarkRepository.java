@@ -0,0 +1,6 @@
+package com.example.springbatch5.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentChangeWatermarkRepository extends JpaRepository<PaymentChangeWatermark, String> {
+}
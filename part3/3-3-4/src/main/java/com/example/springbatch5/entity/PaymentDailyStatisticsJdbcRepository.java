@@ -0,0 +1,91 @@
+package com.example.springbatch5.entity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 일일 결제 통계를 JPA를 거치지 않고 JDBC로 저장하는 Repository 입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentDailyStatisticsJdbcRepository {
+
+    // 이미 존재하는 (사업자 번호, 결제 일자) 수를 유니크 인덱스만으로 센다.
+    private static final String COUNT_EXISTING_SQL = """
+            SELECT COUNT(*) FROM payment_daily_statistics
+            WHERE (business_registration_number, payment_date) IN (%s)
+            """;
+
+    // updated_at을 amount보다 먼저 갱신해야 변경 전 amount와 비교할 수 있다. (MySQL은 SET 절을 왼쪽부터 평가)
+    // 금액이 같으면 모든 컬럼이 현재 값 그대로이므로 MySQL은 해당 행을 변경하지 않는다.
+    private static final String UPSERT_SQL = """
+            INSERT INTO payment_daily_statistics (corp_name, business_registration_number, amount, payment_date, created_at, updated_at)
+            VALUES %s
+            ON DUPLICATE KEY UPDATE
+                updated_at = IF(amount <> VALUES(amount), NOW(6), updated_at),
+                amount = VALUES(amount)
+            """;
+    private static final String KEY_PLACEHOLDER = "(?, ?)";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, NOW(6), NOW(6))";
+
+    // 하나의 INSERT 문에 담을 최대 행 수
+    private static final int ROWS_PER_STATEMENT = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 일일 결제 통계를 `(사업자 번호, 결제 일자)` 유니크 키 기준으로 저장합니다.
+     * 없는 키는 INSERT하고, 있는 키는 금액이 다를 때만 UPDATE 합니다.
+     *
+     * 행 단위 SELECT/UPDATE 대신 `ROWS_PER_STATEMENT`개씩 하나의 `INSERT ... ON DUPLICATE KEY UPDATE`로 저장하며,
+     * 건수를 구분하기 위해 저장 전에 이미 존재하는 키의 수를 한 번 조회합니다.
+     * MySQL Connector/J의 기본 설정(useAffectedRows=false)에서 행마다 반환되는 영향 행 수는 INSERT 1, UPDATE 2, 변경 없음 1 이므로
+     * `UPDATE 건수 = 영향 행 수 - 전체 행 수`, `INSERT 건수 = 전체 행 수 - 기존 키 수` 입니다.
+     *
+     * @param statistics 저장할 일일 결제 통계 (키가 중복되지 않아야 합니다)
+     * @return 저장 결과 건수
+     */
+    public PaymentDailyStatisticsUpsertResult upsert(List<PaymentDailyStatistics> statistics) {
+        PaymentDailyStatisticsUpsertResult result = new PaymentDailyStatisticsUpsertResult(0, 0, 0);
+        for (int from = 0; from < statistics.size(); from += ROWS_PER_STATEMENT) {
+            List<PaymentDailyStatistics> rows = statistics.subList(from, Math.min(from + ROWS_PER_STATEMENT, statistics.size()));
+            result = result.plus(upsertRows(rows));
+        }
+        return result;
+    }
+
+    private PaymentDailyStatisticsUpsertResult upsertRows(List<PaymentDailyStatistics> rows) {
+        int existing = countExisting(rows);
+        int affected = jdbcTemplate.update(UPSERT_SQL.formatted(placeholders(ROW_PLACEHOLDER, rows.size())), ps -> {
+            int index = 1;
+            for (PaymentDailyStatistics row : rows) {
+                ps.setString(index++, row.getCorpName());
+                ps.setString(index++, row.getBusinessRegistrationNumber());
+                ps.setBigDecimal(index++, row.getAmount());
+                ps.setDate(index++, Date.valueOf(row.getPaymentDate()));
+            }
+        });
+        int updated = affected - rows.size();
+        return new PaymentDailyStatisticsUpsertResult(rows.size() - existing, updated, existing - updated);
+    }
+
+    private int countExisting(List<PaymentDailyStatistics> rows) {
+        Object[] args = new Object[rows.size() * 2];
+        int index = 0;
+        for (PaymentDailyStatistics row : rows) {
+            args[index++] = row.getBusinessRegistrationNumber();
+            args[index++] = Date.valueOf(row.getPaymentDate());
+        }
+        Integer count = jdbcTemplate.queryForObject(COUNT_EXISTING_SQL.formatted(placeholders(KEY_PLACEHOLDER, rows.size())), Integer.class, args);
+        return count == null ? 0 : count;
+    }
+
+    private static String placeholders(String placeholder, int count) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+}
@@ -1,18 +1,25 @@
 package com.example.springbatch5.entity;
 
 import com.example.springbatch5.support.QuerydslCustomRepositorySupport;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.StringJoiner;
 
 import static com.example.springbatch5.entity.QPaymentDailyStatistics.paymentDailyStatistics;
 
 @Repository
 public class PaymentDailyStatisticsRepositoryImpl extends QuerydslCustomRepositorySupport implements PaymentDailyStatisticsRepositoryCustom {
 
+    // 한 번의 조회에 사용할 최대 키 수 (키마다 바인드 파라미터 2개)
+    private static final int KEYS_PER_QUERY = 500;
+
     public PaymentDailyStatisticsRepositoryImpl() {
         super(PaymentDailyStatistics.class);
     }
@@ -25,24 +32,43 @@ public class PaymentDailyStatisticsRepositoryImpl extends QuerydslCustomReposito
                 .execute();
     }
 
+    /**
+     * (사업자 번호, 결제 일자) 키와 정확히 일치하는 통계만 조회합니다.
+     * 두 컬럼을 각각 IN으로 조회하면 키에 없는 조합까지 조회되므로, row value `(brn, date) IN ((?, ?), ...)`로 조회합니다.
+     * 바인드 파라미터 수가 커지지 않도록 키를 `KEYS_PER_QUERY`개씩 나누어 조회합니다.
+     */
     @Override
     public List<PaymentDailyStatistics> findBy(List<PaymentDailyStatisticsUniqueKey> keys) {
         if (keys == null || keys.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<String> businessRegistrationNumbers = keys.stream()
-                .map(PaymentDailyStatisticsUniqueKey::getBusinessRegistrationNumber)
-                .toList();
-
-        List<LocalDate> paymentDates = keys.stream()
-                .map(PaymentDailyStatisticsUniqueKey::getPaymentDate)
-                .toList();
+        List<PaymentDailyStatisticsUniqueKey> distinctKeys = keys.stream().distinct().toList();
+        List<PaymentDailyStatistics> results = new ArrayList<>();
+        for (int from = 0; from < distinctKeys.size(); from += KEYS_PER_QUERY) {
+            List<PaymentDailyStatisticsUniqueKey> batch = distinctKeys.subList(from, Math.min(from + KEYS_PER_QUERY, distinctKeys.size()));
+            results.addAll(selectFrom(paymentDailyStatistics)
+                    .where(uniqueKeyIn(batch))
+                    .fetch());
+        }
+        return results;
+    }
 
-        return selectFrom(paymentDailyStatistics)
-                .where(paymentDailyStatistics.businessRegistrationNumber.in(businessRegistrationNumbers))
-                .where(paymentDailyStatistics.paymentDate.in(paymentDates))
-                .fetch();
+    /**
+     * `(businessRegistrationNumber, paymentDate) in ((?, ?), (?, ?), ...)` 조건을 생성합니다.
+     * Querydsl의 list 연산은 중첩된 튜플의 괄호를 보장하지 않으므로 템플릿으로 직접 작성합니다.
+     */
+    private BooleanExpression uniqueKeyIn(List<PaymentDailyStatisticsUniqueKey> keys) {
+        List<Object> args = new ArrayList<>(keys.size() * 2 + 2);
+        args.add(paymentDailyStatistics.businessRegistrationNumber);
+        args.add(paymentDailyStatistics.paymentDate);
+        StringJoiner tuples = new StringJoiner(", ", "({0}, {1}) in (", ")");
+        for (PaymentDailyStatisticsUniqueKey key : keys) {
+            tuples.add("({" + args.size() + "}, {" + (args.size() + 1) + "})");
+            args.add(Expressions.constant(key.getBusinessRegistrationNumber()));
+            args.add(Expressions.constant(key.getPaymentDate()));
+        }
+        return Expressions.booleanTemplate(tuples.toString(), args.toArray());
     }
 
     @Override
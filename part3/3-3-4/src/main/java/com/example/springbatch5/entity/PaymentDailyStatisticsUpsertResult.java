@@ -0,0 +1,46 @@
+package com.example.springbatch5.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 일일 결제 통계 upsert 결과 건수입니다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PaymentDailyStatisticsUpsertResult {
+    // 건수를 누적하는 StepExecution ExecutionContext의 키
+    public static final String INSERTED_KEY = "upsert.inserted";
+    public static final String UPDATED_KEY = "upsert.updated";
+    public static final String UNCHANGED_KEY = "upsert.unchanged";
+
+    // 새로 저장된 행 수
+    private final int inserted;
+    // 금액이 달라 변경된 행 수
+    private final int updated;
+    // 금액이 같아 변경하지 않은 행 수
+    private final int unchanged;
+
+    public PaymentDailyStatisticsUpsertResult plus(PaymentDailyStatisticsUpsertResult other) {
+        return new PaymentDailyStatisticsUpsertResult(
+                inserted + other.inserted,
+                updated + other.updated,
+                unchanged + other.unchanged
+        );
+    }
+
+    /**
+     * 건수를 ExecutionContext에 누적합니다.
+     * chunk마다 StepExecution의 ExecutionContext에 누적하면 chunk와 함께 커밋되어 Step 전체의 건수가 JobRepository에 남습니다.
+     *
+     * @param executionContext 건수를 누적할 ExecutionContext
+     */
+    public void addTo(ExecutionContext executionContext) {
+        executionContext.putLong(INSERTED_KEY, executionContext.getLong(INSERTED_KEY, 0L) + inserted);
+        executionContext.putLong(UPDATED_KEY, executionContext.getLong(UPDATED_KEY, 0L) + updated);
+        executionContext.putLong(UNCHANGED_KEY, executionContext.getLong(UNCHANGED_KEY, 0L) + unchanged);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.springbatch5.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사업자별 시간 단위 결제 합계입니다.
+ * 일일 결제 통계는 payment_source 대신 이 테이블의 24개 시간 행을 합산하여 만들 수 있습니다.
+ * 행은 {@link com.example.springbatch5.job.PaymentHourlyRollupTasklet}이 JDBC로 갱신합니다.
+ */
+@Entity
+@Table(name = "payment_hourly_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        columnNames = {
+                                "paymentHour",
+                                "businessRegistrationNumber",
+                                "corpName"
+                        }
+                )
+        }
+)
+@Getter
+@NoArgsConstructor
+public class PaymentHourlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 결제 상호명
+    @Column(nullable = false, length = 100)
+    private String corpName;
+
+    // 결제 사업자 번호
+    @Column(nullable = false, length = 100)
+    private String businessRegistrationNumber;
+
+    // 결제 시각 (정시로 절삭, e.g. 2025-01-05T13:00)
+    @Column(nullable = false)
+    private LocalDateTime paymentHour;
+
+    // 해당 시간의 결제 금액 합계
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    // 해당 시간의 결제 건수
+    @Column(nullable = false)
+    private Long paymentCount;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
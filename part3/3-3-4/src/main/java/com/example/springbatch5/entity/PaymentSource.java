@@ -11,7 +11,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payment_source")
+@Table(name = "payment_source",
+        indexes = {
+                // 워터마크 이후의 변경을 조회하기 위한 인덱스
+                @Index(name = "idx_payment_source_updated_at_id", columnList = "updatedAt, id")
+        }
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,30 @@
+package com.example.springbatch5.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 단위 롤업을 다시 계산해야 하는 결제 시간의 변경 로그입니다.
+ * payment_source의 트리거(`payment-hourly-rollup-setup.sql`)가 INSERT/UPDATE/DELETE마다 변경 전후의 결제 시간을 기록하고,
+ * {@link com.example.springbatch5.job.PaymentHourlyRollupTasklet}이 해당 시간을 다시 합산한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "payment_source_change_log")
+@Getter
+@NoArgsConstructor
+public class PaymentSourceChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 변경된 결제의 결제 시각 (정시로 절삭, e.g. 2025-01-05T13:00)
+    @Column(nullable = false)
+    private LocalDateTime paymentHour;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
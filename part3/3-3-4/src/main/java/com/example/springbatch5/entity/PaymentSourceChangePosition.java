@@ -0,0 +1,26 @@
+package com.example.springbatch5.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * payment_source 변경 이력에서의 위치입니다. (updatedAt, id) 순서로 비교합니다.
+ * 같은 시각에 변경된 행이 여러 개여도 id로 구분하므로 위치 이후의 변경을 빠짐없이 조회할 수 있습니다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class PaymentSourceChangePosition {
+    private LocalDateTime updatedAt;
+    private Long id;
+
+    public boolean isAfter(PaymentSourceChangePosition other) {
+        int compared = updatedAt.compareTo(other.updatedAt);
+        return compared > 0 || (compared == 0 && id > other.id);
+    }
+}
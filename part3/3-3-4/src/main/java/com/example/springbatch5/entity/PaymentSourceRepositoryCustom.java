@@ -1,8 +1,12 @@
 package com.example.springbatch5.entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.Set;
 
 public interface PaymentSourceRepositoryCustom {
-    Set<LocalDate> findPaymentDatesByTodayUpdates();
+    Optional<PaymentSourceChangePosition> findLatestChangePosition(LocalDateTime upperBound);
+
+    Set<LocalDate> findPaymentDatesChangedBetween(PaymentSourceChangePosition from, PaymentSourceChangePosition to);
 }
@@ -1,13 +1,16 @@
 package com.example.springbatch5.entity;
 
 import com.example.springbatch5.support.QuerydslCustomRepositorySupport;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.example.springbatch5.entity.QPaymentSource.paymentSource;
 
@@ -18,16 +21,44 @@ public class PaymentSourceRepositoryImpl extends QuerydslCustomRepositorySupport
         super(PaymentSource.class);
     }
 
+    /**
+     * upperBound 이전(upperBound 포함)에 변경된 payment_source 중 가장 마지막 변경의 위치를 조회합니다.
+     *
+     * updatedAt은 커밋 시각이 아니라 애플리케이션이 행을 변경한 시각이므로, 오래 걸린 트랜잭션이 워터마크보다 이전 updatedAt으로
+     * 늦게 커밋되면 다음 실행에서도 조회되지 않습니다. upperBound를 `현재 시각 - 최대 트랜잭션 시간`으로 전달하면
+     * upperBound 이전의 변경은 모두 커밋된 뒤이므로 이런 변경을 놓치지 않습니다.
+     *
+     * @param upperBound 조회할 마지막 변경 시각
+     */
     @Override
-    public Set<LocalDate> findPaymentDatesByTodayUpdates() {
-        return selectFrom(paymentSource)
-                .where(paymentSource.updatedAt.between(
-                        LocalDate.now().atStartOfDay(),
-                        LocalDateTime.of(LocalDate.now(), LocalTime.MAX)
-                ))
-                .fetch()
-                .stream()
-                .map(it -> it.getPaymentDateTime().toLocalDate())
-                .collect(Collectors.toSet());
+    public Optional<PaymentSourceChangePosition> findLatestChangePosition(LocalDateTime upperBound) {
+        return Optional.ofNullable(
+                select(Projections.constructor(PaymentSourceChangePosition.class, paymentSource.updatedAt, paymentSource.id))
+                        .from(paymentSource)
+                        .where(paymentSource.updatedAt.loe(upperBound))
+                        .orderBy(paymentSource.updatedAt.desc(), paymentSource.id.desc())
+                        .fetchFirst()
+        );
     }
-}
\ No newline at end of file
+
+    /**
+     * from 이후부터 to까지(to 포함) 변경된 payment_source의 결제 일자를 중복 없이 조회합니다.
+     * 엔티티를 조회하지 않고 결제 일자만 DISTINCT로 조회하므로, 변경 건수가 많아도 결과는 날짜 수만큼입니다.
+     */
+    @Override
+    public Set<LocalDate> findPaymentDatesChangedBetween(PaymentSourceChangePosition from, PaymentSourceChangePosition to) {
+        return new HashSet<>(
+                select(Expressions.dateTemplate(LocalDate.class, "cast({0} as LocalDate)", paymentSource.paymentDateTime))
+                        .distinct()
+                        .from(paymentSource)
+                        .where(after(from), after(to).not())
+                        .fetch()
+        );
+    }
+
+    // (updatedAt, id) > position
+    private BooleanExpression after(PaymentSourceChangePosition position) {
+        return paymentSource.updatedAt.gt(position.getUpdatedAt())
+                .or(paymentSource.updatedAt.eq(position.getUpdatedAt()).and(paymentSource.id.gt(position.getId())));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.springbatch5.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * payment_hourly_rollup 테이블을 payment_source의 변경분만큼 갱신하는 Tasklet 입니다.
+ *
+ * payment_source의 트리거가 변경 로그(`payment_source_change_log`)에 변경 전후의 결제 시간을 기록하므로,
+ * 결제 시각/사업자/금액이 바뀐 경우 이전 시간과 새 시간을 모두, 삭제된 결제는 삭제 전 시간을 다시 합산합니다.
+ * 시간마다 롤업 행을 지우고 payment_source에서 다시 합산하므로 기존 롤업 행에 더하거나 빼는 계산이 필요 없습니다.
+ * 트리거와 첫 실행을 위한 기존 시간의 로그는 `payment-hourly-rollup-setup.sql`로 생성합니다.
+ *
+ * 한 번 실행할 때 변경 로그를 id 순서로 최대 `batchSize`건(= 최대 `batchSize`개의 시간)만 처리하고,
+ * 처리한 로그를 지운 뒤 남은 로그가 있으면 다시 실행됩니다. 실행마다 트랜잭션이 나뉘므로 첫 실행처럼 전체 기간을 합산하는 경우에도
+ * 트랜잭션 하나가 커지지 않으며, 실패하면 커밋되지 않은 로그부터 다시 처리합니다.
+ * 아직 커밋되지 않은 변경의 로그는 보이지 않으므로 다음 실행에서 처리되고, 처리한 로그는 읽은 id로만 지웁니다.
+ *
+ * 다시 합산한 시간의 결제 일자는 StepExecution의 ExecutionContext(`rollup.changedDates`)에 누적하여,
+ * 일일 결제 통계를 다시 만들 일자로 사용할 수 있게 합니다.
+ */
+@Slf4j
+public class PaymentHourlyRollupTasklet implements Tasklet {
+
+    // 다시 합산한 결제 일자를 누적하는 ExecutionContext 키 (yyyy-MM-dd를 ','로 연결)
+    public static final String CHANGED_DATES_KEY = "rollup.changedDates";
+
+    private static final String FIND_CHANGE_LOGS_SQL = """
+            SELECT id, payment_hour
+            FROM payment_source_change_log
+            ORDER BY id
+            LIMIT ?
+            """;
+    private static final String DELETE_CHANGE_LOGS_SQL = "DELETE FROM payment_source_change_log WHERE id IN (%s)";
+    private static final String DELETE_HOUR_SQL = "DELETE FROM payment_hourly_rollup WHERE payment_hour = ?";
+    private static final String INSERT_HOUR_SQL = """
+            INSERT INTO payment_hourly_rollup (corp_name, business_registration_number, payment_hour, amount, payment_count, created_at, updated_at)
+            SELECT corp_name, business_registration_number, ?, SUM(amount), COUNT(*), NOW(6), NOW(6)
+            FROM payment_source
+            WHERE payment_date_time >= ? AND payment_date_time < ?
+            GROUP BY business_registration_number, corp_name
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    /**
+     * PaymentHourlyRollupTasklet 생성자
+     *
+     * @param dataSource payment_source와 롤업 테이블의 DataSource
+     * @param batchSize  한 트랜잭션에서 처리할 최대 변경 로그 수
+     */
+    public PaymentHourlyRollupTasklet(DataSource dataSource, int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize는 0보다 커야 합니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<ChangeLog> changeLogs = jdbcTemplate.query(FIND_CHANGE_LOGS_SQL,
+                (rs, rowNum) -> new ChangeLog(rs.getLong("id"), rs.getObject("payment_hour", LocalDateTime.class)),
+                batchSize);
+        if (changeLogs.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        Set<LocalDateTime> changedHours = changeLogs.stream()
+                .map(ChangeLog::paymentHour)
+                .collect(Collectors.toCollection(TreeSet::new));
+        for (LocalDateTime hour : changedHours) {
+            jdbcTemplate.update(DELETE_HOUR_SQL, hour);
+            int rows = jdbcTemplate.update(INSERT_HOUR_SQL, hour, hour, hour.plusHours(1));
+            contribution.incrementWriteCount(rows);
+        }
+
+        Object[] ids = changeLogs.stream().map(ChangeLog::id).toArray();
+        jdbcTemplate.update(DELETE_CHANGE_LOGS_SQL.formatted(String.join(", ", Collections.nCopies(ids.length, "?"))), ids);
+        addChangedDates(chunkContext.getStepContext().getStepExecution().getExecutionContext(), changedHours);
+
+        log.info("Refreshed {} hourly rollups from {} change logs", changedHours.size(), changeLogs.size());
+        return changeLogs.size() < batchSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    private void addChangedDates(ExecutionContext executionContext, Set<LocalDateTime> changedHours) {
+        Set<LocalDate> changedDates = new TreeSet<>(parseChangedDates(executionContext.getString(CHANGED_DATES_KEY, "")));
+        changedHours.forEach(hour -> changedDates.add(hour.toLocalDate()));
+        executionContext.putString(CHANGED_DATES_KEY, changedDates.stream().map(LocalDate::toString).collect(Collectors.joining(",")));
+    }
+
+    /**
+     * {@link #CHANGED_DATES_KEY}에 저장된 값을 결제 일자 목록으로 변환합니다.
+     *
+     * @param changedDates ','로 연결된 결제 일자 (null이거나 비어 있으면 빈 목록)
+     * @return 결제 일자 목록
+     */
+    public static List<LocalDate> parseChangedDates(String changedDates) {
+        if (changedDates == null || changedDates.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(changedDates.split(",")).map(LocalDate::parse).toList();
+    }
+
+    private record ChangeLog(long id, LocalDateTime paymentHour) {
+    }
+}
@@ -30,4 +30,30 @@ public class PaymentStatisticsJobConfig {
                 .start(paymentStatisticsStep)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 재처리 대상 결제 일자마다 파티션을 나누어 일일 결제 통계 데이터를 생성하는 Job을 정의합니다.
+     */
+    @Bean
+    public Job paymentStatisticsPartitionedJob(Step paymentStatisticsPartitionStep) {
+        return new JobBuilder("paymentStatisticsPartitionedJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(prepareTargetDatesJobListener)
+                .start(paymentStatisticsPartitionStep)
+                .build();
+    }
+
+    /**
+     * 시간 단위 롤업을 변경분만큼 갱신한 뒤, 롤업을 합산하여 일일 결제 통계 데이터를 생성하는 Job을 정의합니다.
+     * 통계를 다시 계산하는 비용이 결제 건수가 아니라 (사업자 수 x 24시간)에 비례합니다.
+     */
+    @Bean
+    public Job paymentStatisticsRollupJob(Step paymentHourlyRollupStep, Step paymentStatisticsRollupStep) {
+        return new JobBuilder("paymentStatisticsRollupJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(prepareTargetDatesJobListener)
+                .start(paymentHourlyRollupStep)
+                .next(paymentStatisticsRollupStep)
+                .build();
+    }
+}
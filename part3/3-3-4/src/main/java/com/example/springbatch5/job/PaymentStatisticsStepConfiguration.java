@@ -1,26 +1,35 @@
 package com.example.springbatch5.job;
 
 import com.example.springbatch5.ArgumentProperties;
+import com.example.springbatch5.entity.PaymentDailyStatisticsUpsertResult;
 import com.example.springbatch5.service.PaymentDailyStatisticsRecoveryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.listener.ExecutionContextPromotionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Configuration
@@ -91,13 +100,227 @@ public class PaymentStatisticsStepConfiguration {
                 .build();
     }
 
+    /**
+     * 재처리 대상 결제 일자마다 워커 스텝을 실행하는 매니저 스텝을 정의합니다.
+     * 결제 일자별로 범위 조건 하나만 사용하므로 일자마다 payment_date_time 인덱스 범위 스캔으로 조회하며,
+     * 각 일자의 진행 상황은 파티션 StepExecution에 따로 저장됩니다.
+     */
+    @Bean
+    public Step paymentStatisticsPartitionStep(
+            Step paymentStatisticsWorkerStep,
+            TaskExecutor paymentStatisticsTaskExecutor
+    ) {
+        return new StepBuilder("paymentStatisticsPartitionStep", jobRepository)
+                .partitioner("paymentStatisticsWorkerStep", targetPaymentDatePartitioner())
+                .step(paymentStatisticsWorkerStep)
+                .taskExecutor(paymentStatisticsTaskExecutor)
+                .build();
+    }
+
+    /**
+     * Job 리스너가 준비한 재처리 대상 결제 일자로 파티션을 생성합니다.
+     * 대상 일자는 Job 시작 시점에 정해지므로 StepScope로 매니저 스텝이 시작될 때 생성합니다.
+     */
+    @Bean
+    @StepScope
+    public TargetPaymentDatePartitioner targetPaymentDatePartitioner() {
+        return new TargetPaymentDatePartitioner(properties.getTargetPaymentDates());
+    }
+
+    /**
+     * 결제 일자 파티션을 실행하는 스레드 풀입니다.
+     * 일자 수가 많아도 `payment.statistics.partition-concurrency`개의 일자만 동시에 처리하고, 나머지는 큐에서 기다립니다.
+     */
+    @Bean
+    public TaskExecutor paymentStatisticsTaskExecutor(
+            @Value("${payment.statistics.partition-concurrency:4}") int concurrency
+    ) {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(concurrency);
+        taskExecutor.setMaxPoolSize(concurrency);
+        taskExecutor.setThreadNamePrefix("payment-statistics-partition-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    /**
+     * 결제 일자 하나의 결제 데이터를 합산하여 저장하는 워커 스텝을 정의합니다.
+     */
+    @Bean
+    public Step paymentStatisticsWorkerStep(
+            JdbcCursorItemReader<PaymentStatisticsDailySum> paymentStatisticsDateReader,
+            ItemWriter<PaymentStatisticsDailySum> paymentStatisticsWriter
+    ) {
+        return new StepBuilder("paymentStatisticsWorkerStep", jobRepository)
+                .<PaymentStatisticsDailySum, PaymentStatisticsDailySum>chunk(PaymentStatisticsJobConfig.CHUNK_SIZE, transactionManager)
+                .listener(new StepDurationTrackerListener())
+                .reader(paymentStatisticsDateReader)
+                .writer(paymentStatisticsWriter)
+                .listener(new ChunkDurationTrackerListener())
+                .build();
+    }
+
+    /**
+     * [Reader]
+     * StepExecutionContext로 전달된 결제 일자 하루의 결제 데이터를 사업자 번호 기준으로 합산하여 읽어옵니다.
+     * 결제 일자는 SQL 문자열에 넣지 않고 바인드 파라미터로 전달합니다.
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<PaymentStatisticsDailySum> paymentStatisticsDateReader(
+            @Value("#{stepExecutionContext['paymentDate']}") String paymentDateStr
+    ) {
+        final LocalDate paymentDate = LocalDate.parse(paymentDateStr, DateTimeFormatter.ISO_LOCAL_DATE);
+
+        return new JdbcCursorItemReaderBuilder<PaymentStatisticsDailySum>()
+                .name("paymentStatisticsDateReader")
+                .dataSource(dataSource)
+                .sql("""
+                        SELECT
+                            SUM(amount) as totalAmount,
+                            corp_name as corpName,
+                            business_registration_number as businessRegistrationNumber,
+                            DATE(payment_date_time) as paymentDate
+                        FROM payment_source
+                        WHERE payment_date_time >= ? AND payment_date_time < ?
+                        GROUP BY business_registration_number, corp_name, DATE(payment_date_time)
+                        ORDER BY business_registration_number, corp_name
+                        """)
+                .queryArguments(paymentDate.atStartOfDay(), paymentDate.plusDays(1).atStartOfDay())
+                .rowMapper(new BeanPropertyRowMapper<>(PaymentStatisticsDailySum.class))
+                .fetchSize(Integer.MIN_VALUE)
+                .verifyCursorPosition(false)
+                .build();
+    }
+
+    /**
+     * payment_source의 변경 로그로 시간 단위 롤업(payment_hourly_rollup)을 갱신하는 Step을 정의합니다.
+     * 한 트랜잭션에서 최대 `payment.statistics.rollup-batch-size`개의 변경 로그를 처리하며,
+     * 다시 합산한 결제 일자는 Step이 끝나면 JobExecutionContext로 옮겨 다음 Step에서 사용합니다.
+     */
+    @Bean
+    public Step paymentHourlyRollupStep(
+            @Value("${payment.statistics.rollup-batch-size:1000}") int batchSize
+    ) {
+        final ExecutionContextPromotionListener changedDatesPromotionListener = new ExecutionContextPromotionListener();
+        changedDatesPromotionListener.setKeys(new String[]{PaymentHourlyRollupTasklet.CHANGED_DATES_KEY});
+
+        return new StepBuilder("paymentHourlyRollupStep", jobRepository)
+                .tasklet(new PaymentHourlyRollupTasklet(dataSource, batchSize), transactionManager)
+                .listener(changedDatesPromotionListener)
+                .listener(new StepDurationTrackerListener())
+                .build();
+    }
+
+    /**
+     * 시간 단위 롤업을 합산하여 일일 결제 통계를 저장하는 매니저 스텝을 정의합니다.
+     * {@link #paymentStatisticsPartitionStep}과 같이 결제 일자마다 파티션을 나누므로, 일자마다 payment_hour 범위 조건 하나로 조회하고
+     * 재시작하면 실패한 일자의 파티션만 다시 실행합니다.
+     */
+    @Bean
+    public Step paymentStatisticsRollupStep(
+            Step paymentStatisticsRollupWorkerStep,
+            TargetPaymentDatePartitioner rollupPaymentDatePartitioner,
+            TaskExecutor paymentStatisticsTaskExecutor
+    ) {
+        return new StepBuilder("paymentStatisticsRollupStep", jobRepository)
+                .partitioner("paymentStatisticsRollupWorkerStep", rollupPaymentDatePartitioner)
+                .step(paymentStatisticsRollupWorkerStep)
+                .taskExecutor(paymentStatisticsTaskExecutor)
+                .build();
+    }
+
+    /**
+     * 재처리 대상 결제 일자와 롤업 Step에서 다시 합산한 결제 일자로 파티션을 생성합니다.
+     * 롤업 Step의 결제 일자에는 결제 시각이 다른 날로 바뀌었거나 결제가 삭제된 이전 일자도 포함됩니다.
+     * 단, 어떤 일자에 사업자의 결제가 모두 삭제되면 합산할 롤업 행이 없으므로 해당 사업자의 기존 일일 통계는 그대로 남습니다.
+     *
+     * @param rollupChangedDates 롤업 Step에서 다시 합산한 결제 일자 ({@link PaymentHourlyRollupTasklet#CHANGED_DATES_KEY})
+     */
+    @Bean
+    @StepScope
+    public TargetPaymentDatePartitioner rollupPaymentDatePartitioner(
+            @Value("#{jobExecutionContext['" + PaymentHourlyRollupTasklet.CHANGED_DATES_KEY + "']}") String rollupChangedDates
+    ) {
+        return new TargetPaymentDatePartitioner(Stream.concat(
+                        properties.getTargetPaymentDates().stream(),
+                        PaymentHourlyRollupTasklet.parseChangedDates(rollupChangedDates).stream())
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * 결제 일자 하루의 시간 단위 롤업을 합산하여 저장하는 워커 스텝을 정의합니다.
+     */
+    @Bean
+    public Step paymentStatisticsRollupWorkerStep(
+            JdbcCursorItemReader<PaymentStatisticsDailySum> paymentStatisticsRollupReader,
+            ItemWriter<PaymentStatisticsDailySum> paymentStatisticsWriter
+    ) {
+        return new StepBuilder("paymentStatisticsRollupWorkerStep", jobRepository)
+                .<PaymentStatisticsDailySum, PaymentStatisticsDailySum>chunk(PaymentStatisticsJobConfig.CHUNK_SIZE, transactionManager)
+                .listener(new StepDurationTrackerListener())
+                .reader(paymentStatisticsRollupReader)
+                .writer(paymentStatisticsWriter)
+                .listener(new ChunkDurationTrackerListener())
+                .build();
+    }
+
+    /**
+     * [Reader]
+     * StepExecutionContext로 전달된 결제 일자 하루의 시간 단위 롤업을 사업자 번호 기준으로 합산하여 읽어옵니다.
+     * 결제 건수와 관계없이 사업자마다 최대 24개의 롤업 행만 읽습니다.
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<PaymentStatisticsDailySum> paymentStatisticsRollupReader(
+            @Value("#{stepExecutionContext['paymentDate']}") String paymentDateStr
+    ) {
+        final LocalDate paymentDate = LocalDate.parse(paymentDateStr, DateTimeFormatter.ISO_LOCAL_DATE);
+
+        return new JdbcCursorItemReaderBuilder<PaymentStatisticsDailySum>()
+                .name("paymentStatisticsRollupReader")
+                .dataSource(dataSource)
+                .sql("""
+                        SELECT
+                            SUM(amount) as totalAmount,
+                            corp_name as corpName,
+                            business_registration_number as businessRegistrationNumber,
+                            DATE(payment_hour) as paymentDate
+                        FROM payment_hourly_rollup
+                        WHERE payment_hour >= ? AND payment_hour < ?
+                        GROUP BY business_registration_number, corp_name, DATE(payment_hour)
+                        ORDER BY business_registration_number, corp_name
+                        """)
+                .queryArguments(paymentDate.atStartOfDay(), paymentDate.plusDays(1).atStartOfDay())
+                .rowMapper(new BeanPropertyRowMapper<>(PaymentStatisticsDailySum.class))
+                .fetchSize(Integer.MIN_VALUE)
+                .verifyCursorPosition(false)
+                .build();
+    }
+
     /**
      * [Writer]
      * Processor가 전달한 PaymentDailyStatistics 엔티티를 DB에 저장합니다.
      * JpaItemWriter는 엔티티의 상태에 따라 자동으로 INSERT 또는 UPDATE를 수행합니다.
+     * `payment.statistics.recovery-mode=upsert`이면 chunk를 하나의 `INSERT ... ON DUPLICATE KEY UPDATE`로 저장하고,
+     * 신규/변경/변경 없음 건수를 실행 중인 StepExecution의 ExecutionContext에 누적합니다.
+     * (`upsert.inserted`, `upsert.updated`, `upsert.unchanged`)
      */
     @Bean
-    public ItemWriter<PaymentStatisticsDailySum> writer() {
+    public ItemWriter<PaymentStatisticsDailySum> writer(
+            @Value("${payment.statistics.recovery-mode:entity}") String recoveryMode
+    ) {
+        if ("upsert".equals(recoveryMode)) {
+            return chunk -> {
+                @SuppressWarnings("unchecked") final List<PaymentStatisticsDailySum> items = (List<PaymentStatisticsDailySum>) chunk.getItems();
+                final PaymentDailyStatisticsUpsertResult result = paymentDailyStatisticsRecoveryService.upsertRecovery(items);
+                final StepContext stepContext = StepSynchronizationManager.getContext();
+                if (stepContext != null) {
+                    result.addTo(stepContext.getStepExecution().getExecutionContext());
+                }
+            };
+        }
         return chunk -> {
             @SuppressWarnings("unchecked") final List<PaymentStatisticsDailySum> items = (List<PaymentStatisticsDailySum>) chunk.getItems();
             paymentDailyStatisticsRecoveryService.recovery(items);
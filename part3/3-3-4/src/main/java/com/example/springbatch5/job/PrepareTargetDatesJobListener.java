@@ -1,27 +1,82 @@
 package com.example.springbatch5.job;
 
 import com.example.springbatch5.ArgumentProperties;
+import com.example.springbatch5.entity.PaymentChangeWatermark;
+import com.example.springbatch5.entity.PaymentChangeWatermarkRepository;
+import com.example.springbatch5.entity.PaymentSourceChangePosition;
 import com.example.springbatch5.entity.PaymentSourceRepository;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
+/**
+ * Job 시작 전에 재처리할 결제 일자를 준비하는 리스너입니다.
+ *
+ * Job별 워터마크(마지막으로 처리한 payment_source 변경 위치) 이후에 변경된 결제 데이터의 결제 일자를 재처리 대상으로 사용합니다.
+ * 워터마크가 없는 첫 실행은 오늘 00시 이후의 변경을 대상으로 합니다.
+ * 조회 시점의 마지막 변경 위치를 JobExecutionContext에 저장해 두었다가, Job이 완료되면 워터마크를 그 위치로 갱신합니다.
+ *
+ * updatedAt은 트랜잭션이 커밋된 시각이 아니므로, 조회 시점에 아직 커밋되지 않은 변경이 워터마크보다 이전 updatedAt으로 나중에 커밋될 수 있습니다.
+ * 그래서 `payment.statistics.change-detection-lag`(최대 트랜잭션 시간) 이전의 변경까지만 조회하며,
+ * 그 이후의 변경은 다음 실행에서 처리합니다.
+ * Job이 실패하면 워터마크는 그대로이므로 다음 실행에서 같은 변경을 다시 처리합니다.
+ */
 @Service
-@AllArgsConstructor
 @Slf4j
 public class PrepareTargetDatesJobListener implements JobExecutionListener {
 
+    // 이번 실행에서 처리할 마지막 변경 위치를 저장하는 JobExecutionContext 키
+    private static final String WATERMARK_UPDATED_AT_KEY = "watermark.updatedAt";
+    private static final String WATERMARK_ID_KEY = "watermark.id";
+
     private final PaymentSourceRepository paymentSourceRepository;
+    private final PaymentChangeWatermarkRepository paymentChangeWatermarkRepository;
     private final ArgumentProperties properties;
+    private final Duration changeDetectionLag;
+
+    public PrepareTargetDatesJobListener(
+            PaymentSourceRepository paymentSourceRepository,
+            PaymentChangeWatermarkRepository paymentChangeWatermarkRepository,
+            ArgumentProperties properties,
+            @Value("${payment.statistics.change-detection-lag:5m}") Duration changeDetectionLag
+    ) {
+        this.paymentSourceRepository = paymentSourceRepository;
+        this.paymentChangeWatermarkRepository = paymentChangeWatermarkRepository;
+        this.properties = properties;
+        this.changeDetectionLag = changeDetectionLag;
+    }
 
     @Override
     public void beforeJob(JobExecution jobExecution) {
-        final Set<LocalDate> paymentDateTargets = paymentSourceRepository.findPaymentDatesByTodayUpdates();
+        final Set<LocalDate> paymentDateTargets = new HashSet<>();
+        final String jobName = jobExecution.getJobInstance().getJobName();
+        final LocalDateTime upperBound = LocalDateTime.now().minus(changeDetectionLag);
+        final Optional<PaymentSourceChangePosition> latest = paymentSourceRepository.findLatestChangePosition(upperBound);
+        final PaymentSourceChangePosition from = paymentChangeWatermarkRepository.findById(jobName)
+                .map(PaymentChangeWatermark::toPosition)
+                .orElseGet(() -> new PaymentSourceChangePosition(LocalDate.now().atStartOfDay(), 0L));
+
+        // 워터마크 이후에 변경된 데이터가 없으면 워터마크를 그대로 둔다. (뒤로 이동하지 않도록)
+        if (latest.isPresent() && latest.get().isAfter(from)) {
+            final PaymentSourceChangePosition to = latest.get();
+            paymentDateTargets.addAll(paymentSourceRepository.findPaymentDatesChangedBetween(from, to));
+            log.info("변경 감지 범위 from={}, to={}", from, to);
+
+            final ExecutionContext executionContext = jobExecution.getExecutionContext();
+            executionContext.put(WATERMARK_UPDATED_AT_KEY, to.getUpdatedAt().toString());
+            executionContext.putLong(WATERMARK_ID_KEY, to.getId());
+        }
         log.info("재처리 대상 paymentDateTargets={}", paymentDateTargets);
 
         if (paymentDateTargets.isEmpty()){
@@ -32,5 +87,21 @@ public class PrepareTargetDatesJobListener implements JobExecutionListener {
     }
 
     @Override
-    public void afterJob(JobExecution jobExecution) {}
+    public void afterJob(JobExecution jobExecution) {
+        final ExecutionContext executionContext = jobExecution.getExecutionContext();
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED || !executionContext.containsKey(WATERMARK_ID_KEY)) {
+            return;
+        }
+
+        final String jobName = jobExecution.getJobInstance().getJobName();
+        final PaymentSourceChangePosition position = new PaymentSourceChangePosition(
+                LocalDateTime.parse(executionContext.getString(WATERMARK_UPDATED_AT_KEY)),
+                executionContext.getLong(WATERMARK_ID_KEY)
+        );
+        final PaymentChangeWatermark watermark = paymentChangeWatermarkRepository.findById(jobName)
+                .orElseGet(() -> new PaymentChangeWatermark(jobName, position));
+        watermark.advance(position);
+        paymentChangeWatermarkRepository.save(watermark);
+        log.info("워터마크 갱신 jobName={}, position={}", jobName, position);
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.springbatch5.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 재처리 대상 결제 일자마다 하나의 파티션을 생성하는 Partitioner 구현체입니다.
+ * 각 파티션은 `paymentDate` 키로 결제 일자를 StepExecutionContext에 저장하며, 워커 스텝은 해당 일자의 범위만 조회합니다.
+ * 파티션 이름에 결제 일자를 사용하므로, 재시작하면 실패한 일자의 파티션만 마지막 체크포인트부터 다시 실행됩니다.
+ * gridSize와 관계없이 결제 일자 수만큼 파티션을 생성하며, 동시 실행 수는 매니저 스텝의 TaskExecutor가 제한합니다.
+ */
+@Slf4j
+public class TargetPaymentDatePartitioner implements Partitioner {
+    // 파티션 이름의 접두사
+    private static final String PARTITION_KEY = "paymentDate-";
+    // StepExecutionContext에 저장될 결제 일자의 키
+    public static final String EXECUTION_CONTEXT_KEY_PAYMENT_DATE = "paymentDate";
+
+    private final Set<LocalDate> targetPaymentDates;
+
+    /**
+     * TargetPaymentDatePartitioner 생성자
+     *
+     * @param targetPaymentDates 재처리 대상 결제 일자
+     */
+    public TargetPaymentDatePartitioner(Set<LocalDate> targetPaymentDates) {
+        this.targetPaymentDates = targetPaymentDates;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        targetPaymentDates.stream()
+                .sorted()
+                .forEach(paymentDate -> {
+                    ExecutionContext context = new ExecutionContext();
+                    context.putString(EXECUTION_CONTEXT_KEY_PAYMENT_DATE, paymentDate.format(DateTimeFormatter.ISO_LOCAL_DATE));
+                    partitions.put(PARTITION_KEY + paymentDate, context);
+                });
+        log.info("Created {} partitions for target payment dates", partitions.size());
+        return partitions;
+    }
+}
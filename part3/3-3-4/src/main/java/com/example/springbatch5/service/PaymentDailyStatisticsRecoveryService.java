@@ -2,11 +2,14 @@ package com.example.springbatch5.service;
 
 
 import com.example.springbatch5.entity.PaymentDailyStatistics;
+import com.example.springbatch5.entity.PaymentDailyStatisticsJdbcRepository;
 import com.example.springbatch5.entity.PaymentDailyStatisticsRepository;
 import com.example.springbatch5.entity.PaymentDailyStatisticsUniqueKey;
+import com.example.springbatch5.entity.PaymentDailyStatisticsUpsertResult;
 import com.example.springbatch5.job.PaymentStatisticsDailySum;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +18,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentDailyStatisticsRecoveryService {
 
     private final PaymentDailyStatisticsRepository paymentDailyStatisticsRepository;
+    private final PaymentDailyStatisticsJdbcRepository paymentDailyStatisticsJdbcRepository;
 
     /**
      * Reader가 읽어온 일일 결제 합산 데이터(targets)를 DB에 저장하거나 업데이트합니다.
@@ -94,4 +99,22 @@ public class PaymentDailyStatisticsRecoveryService {
             paymentDailyStatisticsRepository.saveAll(newEntities);
         }
     }
+
+    /**
+     * {@link #recovery(List)}와 같은 결과를 bulk upsert로 저장합니다.
+     * 기존 데이터를 엔티티로 조회하여 비교하지 않고, chunk 전체를 하나의 `INSERT ... ON DUPLICATE KEY UPDATE`로 저장합니다.
+     * 금액이 같은 데이터는 DB에서 변경되지 않으며(updated_at 유지), 신규/변경/변경 없음 건수를 반환합니다.
+     *
+     * @param targets Reader가 조회한 일일 결제 합산 DTO 리스트
+     * @return 신규/변경/변경 없음 건수
+     */
+    @Transactional
+    public PaymentDailyStatisticsUpsertResult upsertRecovery(List<PaymentStatisticsDailySum> targets) {
+        List<PaymentDailyStatistics> statistics = targets.stream()
+                .map(PaymentStatisticsDailySum::toEntity)
+                .collect(Collectors.toList());
+        PaymentDailyStatisticsUpsertResult result = paymentDailyStatisticsJdbcRepository.upsert(statistics);
+        log.info("일일 결제 통계 upsert: 신규={}건, 변경={}건, 변경 없음={}건", result.getInserted(), result.getUpdated(), result.getUnchanged());
+        return result;
+    }
 }
@@ -0,0 +1,88 @@
+package com.example.springbatch5.entity;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.springbatch5.entity.QPaymentDailyStatistics.paymentDailyStatistics;
+import static org.assertj.core.api.BDDAssertions.then;
+
+class PaymentDailyStatisticsRepositoryTest extends SpringBatchTestSupport {
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 4);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 1, 5);
+
+    @Autowired
+    private PaymentDailyStatisticsRepository paymentDailyStatisticsRepository;
+
+    @BeforeEach
+    void setUpStatistics() {
+        deleteAll(paymentDailyStatistics);
+        saveAll(List.of(
+                new PaymentDailyStatistics("사업자1", "10002000", new BigDecimal("100"), DAY1),
+                new PaymentDailyStatistics("사업자1", "10002000", new BigDecimal("200"), DAY2),
+                new PaymentDailyStatistics("사업자2", "2002231", new BigDecimal("300"), DAY1),
+                new PaymentDailyStatistics("사업자2", "2002231", new BigDecimal("400"), DAY2)
+        ));
+    }
+
+    @AfterEach
+    void tearDownStatistics() {
+        deleteAll(paymentDailyStatistics);
+    }
+
+    @Test
+    void findBy는_사업자번호와_결제일자_조합이_정확히_일치하는_통계만_조회한다() {
+        // given: 사업자번호 IN, 결제일자 IN으로 따로 조회하면 4건 모두 조회되는 키 조합
+        final List<PaymentDailyStatisticsUniqueKey> keys = List.of(
+                new PaymentDailyStatisticsUniqueKey("10002000", DAY1),
+                new PaymentDailyStatisticsUniqueKey("2002231", DAY2),
+                new PaymentDailyStatisticsUniqueKey("10002000", DAY1),
+                new PaymentDailyStatisticsUniqueKey("99999999", DAY1)
+        );
+
+        // when
+        final List<PaymentDailyStatistics> found = paymentDailyStatisticsRepository.findBy(keys);
+
+        // then
+        then(found).extracting(PaymentDailyStatistics::toUniqueKey)
+                .containsExactlyInAnyOrder(
+                        new PaymentDailyStatisticsUniqueKey("10002000", DAY1),
+                        new PaymentDailyStatisticsUniqueKey("2002231", DAY2)
+                );
+    }
+
+    @Test
+    void findBy는_여러_번으로_나누어_조회해도_모든_키를_조회한다() {
+        // given: 한 번의 조회에 담는 키 수(500)보다 많은 키
+        final List<PaymentDailyStatisticsUniqueKey> keys = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            keys.add(new PaymentDailyStatisticsUniqueKey("NONE" + i, DAY1));
+        }
+        keys.add(new PaymentDailyStatisticsUniqueKey("2002231", DAY1));
+        keys.add(new PaymentDailyStatisticsUniqueKey("10002000", DAY2));
+
+        // when
+        final List<PaymentDailyStatistics> found = paymentDailyStatisticsRepository.findBy(keys);
+
+        // then
+        then(found).extracting(PaymentDailyStatistics::toUniqueKey)
+                .containsExactlyInAnyOrder(
+                        new PaymentDailyStatisticsUniqueKey("2002231", DAY1),
+                        new PaymentDailyStatisticsUniqueKey("10002000", DAY2)
+                );
+    }
+
+    @Test
+    void findBy는_키가_없으면_조회하지_않는다() {
+        then(paymentDailyStatisticsRepository.findBy(List.of())).isEmpty();
+        then(paymentDailyStatisticsRepository.findBy(null)).isEmpty();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+@TestPropertySource(properties = {"args.payment-date=2025-01-05"})
+@SqlGroup({
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+class PaymentHourlyRollupTaskletTest extends SpringBatchTestSupport {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUpTriggers() throws IOException {
+        PaymentHourlyRollupTriggers.install(jdbcTemplate);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+    }
+
+    @AfterEach
+    void uninstallTriggers() {
+        PaymentHourlyRollupTriggers.uninstall(jdbcTemplate);
+    }
+
+    @Test
+    void 변경_로그의_시간마다_payment_source를_다시_합산하여_롤업을_저장한다() {
+        // given
+        insertPaymentSource("2025-01-03 09:10:00", "10002000", 100);
+        insertPaymentSource("2025-01-03 09:50:00", "10002000", 200);
+        insertPaymentSource("2025-01-03 09:30:00", "2002231", 1000);
+        insertPaymentSource("2025-01-04 10:00:00", "10002000", 500);
+
+        // when
+        final RepeatStatus status = execute(new PaymentHourlyRollupTasklet(dataSource, 100));
+
+        // then
+        then(status).isEqualTo(RepeatStatus.FINISHED);
+        then(rollups()).containsExactly(
+                tuple(LocalDateTime.of(2025, 1, 3, 9, 0), "10002000", 300, 2L),
+                tuple(LocalDateTime.of(2025, 1, 3, 9, 0), "2002231", 1000, 1L),
+                tuple(LocalDateTime.of(2025, 1, 4, 10, 0), "10002000", 500, 1L)
+        );
+        then(changeLogCount()).isZero();
+        then(stepExecution.getWriteCount()).isEqualTo(3);
+        then(stepExecution.getExecutionContext().getString(PaymentHourlyRollupTasklet.CHANGED_DATES_KEY)).isEqualTo("2025-01-03,2025-01-04");
+    }
+
+    @Test
+    void 한_번에_batchSize개의_변경_로그만_처리하고_남은_로그가_있으면_다시_실행한다() {
+        // given: 서로 다른 3개의 시간
+        insertPaymentSource("2025-01-03 09:00:00", "10002000", 100);
+        insertPaymentSource("2025-01-04 10:00:00", "10002000", 200);
+        insertPaymentSource("2025-01-05 11:00:00", "10002000", 300);
+        final PaymentHourlyRollupTasklet tasklet = new PaymentHourlyRollupTasklet(dataSource, 2);
+
+        // when: 첫 실행
+        final RepeatStatus first = execute(tasklet);
+
+        // then: id 순서로 2건만 처리하고 처리한 로그만 지운다.
+        then(first).isEqualTo(RepeatStatus.CONTINUABLE);
+        then(rollups()).extracting(rollup -> rollup.toList().get(0))
+                .containsExactly(LocalDateTime.of(2025, 1, 3, 9, 0), LocalDateTime.of(2025, 1, 4, 10, 0));
+        then(changeLogHours()).containsExactly(LocalDateTime.of(2025, 1, 5, 11, 0));
+
+        // when: 다시 실행
+        final RepeatStatus second = execute(tasklet);
+
+        // then: 남은 로그를 처리하고, 다시 합산한 결제 일자는 실행마다 누적된다.
+        then(second).isEqualTo(RepeatStatus.FINISHED);
+        then(rollups()).hasSize(3);
+        then(changeLogCount()).isZero();
+        then(stepExecution.getExecutionContext().getString(PaymentHourlyRollupTasklet.CHANGED_DATES_KEY))
+                .isEqualTo("2025-01-03,2025-01-04,2025-01-05");
+    }
+
+    @Test
+    void 변경_로그가_없으면_아무것도_하지_않고_끝난다() {
+        final RepeatStatus status = execute(new PaymentHourlyRollupTasklet(dataSource, 100));
+
+        then(status).isEqualTo(RepeatStatus.FINISHED);
+        then(rollups()).isEmpty();
+        then(stepExecution.getWriteCount()).isZero();
+        then(stepExecution.getExecutionContext().containsKey(PaymentHourlyRollupTasklet.CHANGED_DATES_KEY)).isFalse();
+    }
+
+    @Test
+    void 결제_시각이_다른_날로_바뀌면_이전_시간의_롤업을_지우고_새_시간에_합산한다() {
+        // given
+        final long id = insertPaymentSource("2025-01-04 23:30:00", "10002000", 100);
+        insertPaymentSource("2025-01-05 00:20:00", "10002000", 200);
+        final PaymentHourlyRollupTasklet tasklet = new PaymentHourlyRollupTasklet(dataSource, 100);
+        execute(tasklet);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+        // when
+        jdbcTemplate.update("UPDATE payment_source SET payment_date_time = '2025-01-05 00:10:00' WHERE id = ?", id);
+        execute(tasklet);
+
+        // then: 결제가 빠져나간 일자도 다시 합산한 일자에 포함된다.
+        then(rollups()).containsExactly(tuple(LocalDateTime.of(2025, 1, 5, 0, 0), "10002000", 300, 2L));
+        then(stepExecution.getExecutionContext().getString(PaymentHourlyRollupTasklet.CHANGED_DATES_KEY)).isEqualTo("2025-01-04,2025-01-05");
+    }
+
+    @Test
+    void 결제가_삭제되면_삭제_전_시간을_다시_합산한다() {
+        // given
+        final long id = insertPaymentSource("2025-01-03 09:10:00", "10002000", 100);
+        insertPaymentSource("2025-01-03 09:20:00", "10002000", 200);
+        insertPaymentSource("2025-01-03 10:00:00", "2002231", 300);
+        final PaymentHourlyRollupTasklet tasklet = new PaymentHourlyRollupTasklet(dataSource, 100);
+        execute(tasklet);
+
+        // when
+        jdbcTemplate.update("DELETE FROM payment_source WHERE id = ?", id);
+        jdbcTemplate.update("DELETE FROM payment_source WHERE business_registration_number = '2002231'");
+        execute(tasklet);
+
+        // then: 결제가 모두 삭제된 시간은 롤업 행도 남지 않는다.
+        then(rollups()).containsExactly(tuple(LocalDateTime.of(2025, 1, 3, 9, 0), "10002000", 200, 1L));
+    }
+
+    @Test
+    void batchSize는_0보다_커야_한다() {
+        thenThrownBy(() -> new PaymentHourlyRollupTasklet(dataSource, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RepeatStatus execute(PaymentHourlyRollupTasklet tasklet) {
+        final StepContribution contribution = stepExecution.createStepContribution();
+        final RepeatStatus status = tasklet.execute(contribution, new ChunkContext(new StepContext(stepExecution)));
+        stepExecution.apply(contribution);
+        return status;
+    }
+
+    private long insertPaymentSource(String paymentDateTime, String businessRegistrationNumber, int amount) {
+        final LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 2, 10, 0);
+        jdbcTemplate.update("""
+                INSERT INTO payment_source (payment_date_time, corp_name, business_registration_number, amount, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, paymentDateTime, "사업자" + businessRegistrationNumber, businessRegistrationNumber, amount, updatedAt, updatedAt);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM payment_source", Long.class);
+    }
+
+    // (결제 시간, 사업자 번호, 금액, 결제 건수)
+    private List<Tuple> rollups() {
+        return jdbcTemplate.query("""
+                        SELECT payment_hour, business_registration_number, amount, payment_count
+                        FROM payment_hourly_rollup
+                        ORDER BY payment_hour, business_registration_number
+                        """,
+                (rs, rowNum) -> tuple(
+                        rs.getObject("payment_hour", LocalDateTime.class),
+                        rs.getString("business_registration_number"),
+                        rs.getBigDecimal("amount").intValue(),
+                        rs.getLong("payment_count")));
+    }
+
+    private List<LocalDateTime> changeLogHours() {
+        return jdbcTemplate.queryForList("SELECT payment_hour FROM payment_source_change_log ORDER BY id", LocalDateTime.class);
+    }
+
+    private int changeLogCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_source_change_log", Integer.class);
+    }
+}
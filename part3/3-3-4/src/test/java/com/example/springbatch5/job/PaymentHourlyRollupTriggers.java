@@ -0,0 +1,49 @@
+package com.example.springbatch5.job;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * `payment-hourly-rollup-setup.sql`을 실행하여 payment_source의 변경 로그 트리거를 생성하고 삭제하는 테스트 도우미입니다.
+ * 스크립트의 `DELIMITER`는 mysql 클라이언트 명령이므로, 구분자를 바꿔 가며 문장을 나누어 JDBC로 실행합니다.
+ */
+final class PaymentHourlyRollupTriggers {
+
+    // Gradle 테스트의 작업 디렉터리(프로젝트 디렉터리) 기준 경로
+    private static final Path SETUP_SCRIPT = Path.of("payment-hourly-rollup-setup.sql");
+    private static final String DELIMITER_COMMAND = "DELIMITER ";
+
+    private PaymentHourlyRollupTriggers() {
+    }
+
+    static void install(JdbcTemplate jdbcTemplate) throws IOException {
+        String delimiter = ";";
+        final StringBuilder statement = new StringBuilder();
+        for (String line : Files.readAllLines(SETUP_SCRIPT, StandardCharsets.UTF_8)) {
+            final String trimmed = line.trim();
+            if (trimmed.startsWith(DELIMITER_COMMAND)) {
+                delimiter = trimmed.substring(DELIMITER_COMMAND.length()).trim();
+                continue;
+            }
+            if (statement.isEmpty() && (trimmed.isEmpty() || trimmed.startsWith("--"))) {
+                continue;
+            }
+            statement.append(line).append('\n');
+            if (trimmed.endsWith(delimiter)) {
+                final String sql = statement.toString().trim();
+                jdbcTemplate.execute(sql.substring(0, sql.length() - delimiter.length()));
+                statement.setLength(0);
+            }
+        }
+    }
+
+    static void uninstall(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS payment_source_after_insert");
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS payment_source_after_update");
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS payment_source_after_delete");
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * `payment-hourly-rollup-setup.sql`의 payment_source 트리거가 변경 로그에 다시 합산할 결제 시간을 기록하는지 검증합니다.
+ */
+@TestPropertySource(properties = {"args.payment-date=2025-01-05"})
+@SqlGroup({
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+class PaymentSourceChangeLogTriggerTest extends SpringBatchTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void installTriggers() throws IOException {
+        PaymentHourlyRollupTriggers.install(jdbcTemplate);
+    }
+
+    @AfterEach
+    void uninstallTriggers() {
+        PaymentHourlyRollupTriggers.uninstall(jdbcTemplate);
+    }
+
+    @Test
+    void 결제를_저장하면_정시로_절삭한_결제_시간을_기록한다() {
+        // when
+        insertPaymentSource("2025-01-05 13:45:10", 100);
+
+        // then
+        then(changeLogHours()).containsExactly(LocalDateTime.of(2025, 1, 5, 13, 0));
+    }
+
+    @Test
+    void 결제_시각이_다른_시간으로_바뀌면_이전_시간과_새_시간을_모두_기록한다() {
+        // given
+        final long id = insertPaymentSource("2025-01-04 23:30:00", 100);
+        clearChangeLogs();
+
+        // when
+        jdbcTemplate.update("UPDATE payment_source SET payment_date_time = '2025-01-05 00:10:00' WHERE id = ?", id);
+
+        // then
+        then(changeLogHours()).containsExactly(LocalDateTime.of(2025, 1, 4, 23, 0), LocalDateTime.of(2025, 1, 5, 0, 0));
+    }
+
+    @Test
+    void 같은_시간_안에서_금액이나_사업자가_바뀌면_그_시간만_기록한다() {
+        // given
+        final long id = insertPaymentSource("2025-01-05 13:10:00", 100);
+        clearChangeLogs();
+
+        // when
+        jdbcTemplate.update("UPDATE payment_source SET amount = 200 WHERE id = ?", id);
+        jdbcTemplate.update("UPDATE payment_source SET business_registration_number = '2002231', payment_date_time = '2025-01-05 13:50:00' WHERE id = ?", id);
+
+        // then
+        then(changeLogHours()).containsExactly(LocalDateTime.of(2025, 1, 5, 13, 0), LocalDateTime.of(2025, 1, 5, 13, 0));
+    }
+
+    @Test
+    void 롤업에_영향이_없는_컬럼만_바뀌면_기록하지_않는다() {
+        // given
+        final long id = insertPaymentSource("2025-01-05 13:10:00", 100);
+        clearChangeLogs();
+
+        // when
+        jdbcTemplate.update("UPDATE payment_source SET updated_at = ? WHERE id = ?", LocalDateTime.of(2025, 1, 6, 0, 0), id);
+
+        // then
+        then(changeLogHours()).isEmpty();
+    }
+
+    @Test
+    void 결제를_삭제하면_삭제_전_결제_시간을_기록한다() {
+        // given
+        final long id = insertPaymentSource("2025-01-03 09:59:59", 100);
+        clearChangeLogs();
+
+        // when
+        jdbcTemplate.update("DELETE FROM payment_source WHERE id = ?", id);
+
+        // then
+        then(changeLogHours()).containsExactly(LocalDateTime.of(2025, 1, 3, 9, 0));
+    }
+
+    @Test
+    void 트리거를_만들_때_기존_결제의_모든_시간을_한_번씩_기록한다() throws IOException {
+        // given: 트리거가 없을 때 저장된 결제
+        PaymentHourlyRollupTriggers.uninstall(jdbcTemplate);
+        insertPaymentSource("2025-01-03 09:10:00", 100);
+        insertPaymentSource("2025-01-03 09:50:00", 200);
+        insertPaymentSource("2025-01-04 10:00:00", 300);
+        then(changeLogHours()).isEmpty();
+
+        // when
+        PaymentHourlyRollupTriggers.install(jdbcTemplate);
+
+        // then
+        then(changeLogHours()).containsExactlyInAnyOrder(LocalDateTime.of(2025, 1, 3, 9, 0), LocalDateTime.of(2025, 1, 4, 10, 0));
+    }
+
+    private long insertPaymentSource(String paymentDateTime, int amount) {
+        final LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 2, 10, 0);
+        jdbcTemplate.update("""
+                INSERT INTO payment_source (payment_date_time, corp_name, business_registration_number, amount, created_at, updated_at)
+                VALUES (?, '사업자1', '10002000', ?, ?, ?)
+                """, paymentDateTime, amount, updatedAt, updatedAt);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM payment_source", Long.class);
+    }
+
+    private List<LocalDateTime> changeLogHours() {
+        return jdbcTemplate.queryForList("SELECT payment_hour FROM payment_source_change_log ORDER BY id", LocalDateTime.class);
+    }
+
+    private void clearChangeLogs() {
+        jdbcTemplate.update("DELETE FROM payment_source_change_log");
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import com.example.springbatch5.entity.PaymentChangeWatermark;
+import com.example.springbatch5.entity.PaymentChangeWatermarkRepository;
+import com.example.springbatch5.entity.PaymentDailyStatistics;
+import com.example.springbatch5.entity.PaymentSourceChangePosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.springbatch5.entity.QPaymentDailyStatistics.paymentDailyStatistics;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+@TestPropertySource(properties = {"args.payment-date=2025-01-05"})
+@SqlGroup({
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+class PaymentStatisticsPartitionedJobTest extends SpringBatchTestSupport {
+
+    private static final String JOB_NAME = "paymentStatisticsPartitionedJob";
+    private static final String WORKER_STEP_NAME = "paymentStatisticsWorkerStep";
+    // 변경 감지 lag보다 충분히 이전의 변경 시각
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2025, 1, 2, 10, 0);
+    private static final LocalDate FAILING_DATE = LocalDate.of(2025, 1, 4);
+
+    @Autowired
+    private Job paymentStatisticsPartitionedJob;
+    @Autowired
+    private PaymentChangeWatermarkRepository paymentChangeWatermarkRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void givenChangedPayments() {
+        // 워터마크 이후에 변경된 결제 일자 3개가 재처리 대상이 된다.
+        paymentChangeWatermarkRepository.save(new PaymentChangeWatermark(JOB_NAME,
+                new PaymentSourceChangePosition(LocalDateTime.of(2025, 1, 1, 0, 0), 0L)));
+        insertPaymentSource("2025-01-03 09:00:00", "사업자1", "10002000", 100);
+        insertPaymentSource("2025-01-03 18:00:00", "사업자1", "10002000", 200);
+        insertPaymentSource("2025-01-04 10:00:00", "사업자1", "10002000", 500);
+        insertPaymentSource("2025-01-04 11:00:00", "사업자2", "2002231", 700);
+        insertPaymentSource("2025-01-05 00:01:02", "사업자2", "2002231", 1000);
+    }
+
+    @AfterEach
+    void dropFailingTrigger() {
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS payment_daily_statistics_fail_before_insert");
+    }
+
+    @Test
+    void 재처리_대상_결제_일자마다_파티션을_실행하여_일일_통계를_생성한다() throws Exception {
+        // when
+        launchJob(paymentStatisticsPartitionedJob);
+
+        // then
+        thenBatchCompleted();
+        then(workerStepExecutions(jobExecution))
+                .extracting(StepExecution::getStepName, StepExecution::getStatus, StepExecution::getWriteCount)
+                .containsExactlyInAnyOrder(
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-03", BatchStatus.COMPLETED, 1L),
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-04", BatchStatus.COMPLETED, 2L),
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-05", BatchStatus.COMPLETED, 1L)
+                );
+        then(workerStepExecutions(jobExecution))
+                .extracting(stepExecution -> stepExecution.getExecutionContext().getString(TargetPaymentDatePartitioner.EXECUTION_CONTEXT_KEY_PAYMENT_DATE))
+                .containsExactlyInAnyOrder("2025-01-03", "2025-01-04", "2025-01-05");
+        then(dailyStatistics())
+                .extracting(PaymentDailyStatistics::getPaymentDate, PaymentDailyStatistics::getBusinessRegistrationNumber, statistics -> statistics.getAmount().intValue())
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2025, 1, 3), "10002000", 300),
+                        tuple(LocalDate.of(2025, 1, 4), "10002000", 500),
+                        tuple(LocalDate.of(2025, 1, 4), "2002231", 700),
+                        tuple(LocalDate.of(2025, 1, 5), "2002231", 1000)
+                );
+    }
+
+    @Test
+    void 한_결제_일자의_파티션이_실패하면_재시작할_때_실패한_일자만_다시_실행한다() throws Exception {
+        // given: 2025-01-04의 일일 통계 저장이 실패한다.
+        jdbcTemplate.execute("""
+                CREATE TRIGGER payment_daily_statistics_fail_before_insert
+                    BEFORE INSERT ON payment_daily_statistics
+                    FOR EACH ROW
+                BEGIN
+                    IF NEW.payment_date = '%s' THEN
+                        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = '일일 통계 저장 실패';
+                    END IF;
+                END
+                """.formatted(FAILING_DATE));
+
+        // when
+        launchJob(paymentStatisticsPartitionedJob);
+        final JobExecution failed = jobExecution;
+
+        // then: 실패한 일자를 제외한 파티션은 완료되고, 워터마크는 그대로이다.
+        thenBatchStatus(BatchStatus.FAILED);
+        then(workerStepExecutions(failed))
+                .extracting(StepExecution::getStepName, StepExecution::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-03", BatchStatus.COMPLETED),
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-04", BatchStatus.FAILED),
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-05", BatchStatus.COMPLETED)
+                );
+        then(dailyStatistics()).extracting(PaymentDailyStatistics::getPaymentDate)
+                .containsExactlyInAnyOrder(LocalDate.of(2025, 1, 3), LocalDate.of(2025, 1, 5));
+        then(paymentChangeWatermarkRepository.findById(JOB_NAME).orElseThrow().toPosition().getUpdatedAt())
+                .isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        // when: 원인을 해결한 뒤 같은 JobParameters로 재시작
+        dropFailingTrigger();
+        launchJob(paymentStatisticsPartitionedJob, failed.getJobParameters());
+
+        // then: 완료된 일자는 건너뛰고 실패한 일자만 다시 실행한다.
+        thenBatchCompleted();
+        then(jobExecution.getJobInstance().getInstanceId()).isEqualTo(failed.getJobInstance().getInstanceId());
+        then(workerStepExecutions(jobExecution))
+                .extracting(StepExecution::getStepName, StepExecution::getStatus, StepExecution::getWriteCount)
+                .containsExactly(tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-04", BatchStatus.COMPLETED, 2L));
+        then(dailyStatistics())
+                .extracting(PaymentDailyStatistics::getPaymentDate, PaymentDailyStatistics::getBusinessRegistrationNumber, statistics -> statistics.getAmount().intValue())
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2025, 1, 3), "10002000", 300),
+                        tuple(LocalDate.of(2025, 1, 4), "10002000", 500),
+                        tuple(LocalDate.of(2025, 1, 4), "2002231", 700),
+                        tuple(LocalDate.of(2025, 1, 5), "2002231", 1000)
+                );
+        then(paymentChangeWatermarkRepository.findById(JOB_NAME).orElseThrow().toPosition().getUpdatedAt())
+                .isEqualTo(CHANGED_AT);
+    }
+
+    private static List<StepExecution> workerStepExecutions(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith(WORKER_STEP_NAME + ":"))
+                .toList();
+    }
+
+    private List<PaymentDailyStatistics> dailyStatistics() {
+        entityManager.clear();
+        return query.selectFrom(paymentDailyStatistics).fetch();
+    }
+
+    private void insertPaymentSource(String paymentDateTime, String corpName, String businessRegistrationNumber, int amount) {
+        jdbcTemplate.update("""
+                INSERT INTO payment_source (payment_date_time, corp_name, business_registration_number, amount, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, paymentDateTime, corpName, businessRegistrationNumber, BigDecimal.valueOf(amount), CHANGED_AT, CHANGED_AT);
+    }
+}
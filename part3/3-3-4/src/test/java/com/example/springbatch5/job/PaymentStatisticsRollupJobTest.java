@@ -0,0 +1,151 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.springbatch5.entity.QPaymentDailyStatistics.paymentDailyStatistics;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+
+@TestPropertySource(properties = {"args.payment-date=2025-01-05"})
+@SqlGroup({
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+class PaymentStatisticsRollupJobTest extends SpringBatchTestSupport {
+
+    private static final String WORKER_STEP_NAME = "paymentStatisticsRollupWorkerStep";
+
+    @Autowired
+    private Job paymentStatisticsRollupJob;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long movedPaymentId;
+    private long correctedPaymentId;
+
+    @BeforeEach
+    void givenPayments() throws IOException {
+        PaymentHourlyRollupTriggers.install(jdbcTemplate);
+        correctedPaymentId = insertPaymentSource("2025-01-03 09:10:00", "10002000", 100);
+        insertPaymentSource("2025-01-03 09:50:00", "10002000", 200);
+        insertPaymentSource("2025-01-04 10:00:00", "10002000", 500);
+        movedPaymentId = insertPaymentSource("2025-01-04 11:30:00", "2002231", 700);
+        insertPaymentSource("2025-01-04 15:00:00", "2002231", 300);
+        insertPaymentSource("2025-01-05 00:01:02", "2002231", 1000);
+    }
+
+    @AfterEach
+    void uninstallTriggers() {
+        PaymentHourlyRollupTriggers.uninstall(jdbcTemplate);
+    }
+
+    @Test
+    void 변경_로그로_롤업을_갱신한_뒤_결제_일자마다_롤업을_합산하여_일일_통계를_생성한다() throws Exception {
+        // when
+        launchJob(paymentStatisticsRollupJob);
+
+        // then: Job 파라미터의 결제 일자(2025-01-05)와 롤업을 다시 합산한 일자마다 파티션을 실행한다.
+        thenBatchCompleted();
+        then(workerStepExecutions(jobExecution))
+                .extracting(StepExecution::getStepName, StepExecution::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-03", BatchStatus.COMPLETED),
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-04", BatchStatus.COMPLETED),
+                        tuple(WORKER_STEP_NAME + ":paymentDate-2025-01-05", BatchStatus.COMPLETED)
+                );
+        then(changeLogCount()).isZero();
+        then(dailyStatistics()).containsExactlyInAnyOrder(
+                tuple(LocalDate.of(2025, 1, 3), "10002000", 300),
+                tuple(LocalDate.of(2025, 1, 4), "10002000", 500),
+                tuple(LocalDate.of(2025, 1, 4), "2002231", 1000),
+                tuple(LocalDate.of(2025, 1, 5), "2002231", 1000)
+        );
+    }
+
+    @Test
+    void 결제가_다른_날로_옮겨지면_이전_일자와_새_일자의_일일_통계를_모두_다시_생성한다() throws Exception {
+        // given: 첫 실행으로 전체 롤업과 일일 통계를 만든다.
+        launchJob(paymentStatisticsRollupJob);
+        thenBatchCompleted();
+
+        // when: 2025-01-04의 결제를 2025-01-05로 옮기고, 2025-01-03의 결제 금액을 정정한 뒤 다시 실행
+        jdbcTemplate.update("UPDATE payment_source SET payment_date_time = '2025-01-05 12:00:00' WHERE id = ?", movedPaymentId);
+        jdbcTemplate.update("UPDATE payment_source SET amount = 150 WHERE id = ?", correctedPaymentId);
+        launchJob(paymentStatisticsRollupJob);
+
+        // then
+        thenBatchCompleted();
+        then(workerStepExecutions(jobExecution)).extracting(StepExecution::getStepName)
+                .containsExactlyInAnyOrder(
+                        WORKER_STEP_NAME + ":paymentDate-2025-01-03",
+                        WORKER_STEP_NAME + ":paymentDate-2025-01-04",
+                        WORKER_STEP_NAME + ":paymentDate-2025-01-05"
+                );
+        then(dailyStatistics()).containsExactlyInAnyOrder(
+                tuple(LocalDate.of(2025, 1, 3), "10002000", 350),
+                tuple(LocalDate.of(2025, 1, 4), "10002000", 500),
+                tuple(LocalDate.of(2025, 1, 4), "2002231", 300),
+                tuple(LocalDate.of(2025, 1, 5), "2002231", 1700)
+        );
+    }
+
+    @Test
+    void 변경이_없으면_Job_파라미터의_결제_일자만_다시_생성한다() throws Exception {
+        // given
+        launchJob(paymentStatisticsRollupJob);
+        thenBatchCompleted();
+
+        // when
+        launchJob(paymentStatisticsRollupJob);
+
+        // then
+        thenBatchCompleted();
+        then(workerStepExecutions(jobExecution)).extracting(StepExecution::getStepName)
+                .containsExactly(WORKER_STEP_NAME + ":paymentDate-2025-01-05");
+    }
+
+    private static List<StepExecution> workerStepExecutions(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith(WORKER_STEP_NAME + ":"))
+                .toList();
+    }
+
+    // (결제 일자, 사업자 번호, 금액)
+    private List<Tuple> dailyStatistics() {
+        entityManager.clear();
+        return query.selectFrom(paymentDailyStatistics).fetch().stream()
+                .map(statistics -> tuple(statistics.getPaymentDate(), statistics.getBusinessRegistrationNumber(), statistics.getAmount().intValue()))
+                .toList();
+    }
+
+    private long insertPaymentSource(String paymentDateTime, String businessRegistrationNumber, int amount) {
+        final LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 2, 10, 0);
+        jdbcTemplate.update("""
+                INSERT INTO payment_source (payment_date_time, corp_name, business_registration_number, amount, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, paymentDateTime, "사업자" + businessRegistrationNumber, businessRegistrationNumber, amount, updatedAt, updatedAt);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM payment_source", Long.class);
+    }
+
+    private int changeLogCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_source_change_log", Integer.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.math.BigDecimal;
+
+import static com.example.springbatch5.entity.PaymentDailyStatisticsUpsertResult.INSERTED_KEY;
+import static com.example.springbatch5.entity.PaymentDailyStatisticsUpsertResult.UNCHANGED_KEY;
+import static com.example.springbatch5.entity.PaymentDailyStatisticsUpsertResult.UPDATED_KEY;
+import static com.example.springbatch5.entity.QPaymentDailyStatistics.paymentDailyStatistics;
+import static org.assertj.core.api.BDDAssertions.then;
+
+@TestPropertySource(properties = {"args.payment-date=2025-01-05", "payment.statistics.recovery-mode=upsert"})
+class PaymentStatisticsUpsertWriterTest extends SpringBatchTestSupport {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PrepareTargetDatesJobListener prepareTargetDatesJobListener;
+    @Autowired
+    private Step paymentStatisticsStep;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @SqlGroup({
+            @Sql(value = {"/sql/payment-source-cleanup.sql", "/sql/payment-source-setup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+            @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    })
+    void upsert_건수를_StepExecution에_기록한다() throws Exception {
+        // given
+        final Job paymentStatisticJob = new JobBuilder("paymentStatisticUpsertJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(prepareTargetDatesJobListener)
+                .start(paymentStatisticsStep)
+                .build();
+
+        // when: 통계가 없는 상태에서 실행하면 모두 신규
+        launchJob(paymentStatisticJob);
+
+        // then
+        thenBatchCompleted();
+        final long savedCount = query.selectFrom(paymentDailyStatistics).fetchCount();
+        then(savedCount).isPositive();
+        thenUpsertCounts(savedCount, 0, 0);
+
+        // when: 원천 데이터가 그대로이면 2025-01-05의 통계 2건은 변경 없음
+        launchJob(paymentStatisticJob);
+
+        // then
+        thenBatchCompleted();
+        thenUpsertCounts(0, 0, 2);
+
+        // when: 2025-01-05의 사업자2 금액만 바뀌면 1건 변경, 1건 변경 없음
+        jdbcTemplate.update("""
+                UPDATE payment_source SET amount = 1500
+                WHERE business_registration_number = '2002231' AND payment_date_time = '2025-01-05 00:01:02'
+                """);
+        launchJob(paymentStatisticJob);
+
+        // then
+        thenBatchCompleted();
+        thenUpsertCounts(0, 1, 1);
+        final BigDecimal amount = query.select(paymentDailyStatistics.amount)
+                .from(paymentDailyStatistics)
+                .where(paymentDailyStatistics.businessRegistrationNumber.eq("2002231"),
+                        paymentDailyStatistics.paymentDate.eq(properties.getPaymentDate()))
+                .fetchOne();
+        then(amount).isEqualByComparingTo(new BigDecimal("1500"));
+    }
+
+    private void thenUpsertCounts(long inserted, long updated, long unchanged) {
+        final ExecutionContext executionContext = jobExecution.getStepExecutions().iterator().next().getExecutionContext();
+        then(executionContext.getLong(INSERTED_KEY, 0L)).isEqualTo(inserted);
+        then(executionContext.getLong(UPDATED_KEY, 0L)).isEqualTo(updated);
+        then(executionContext.getLong(UNCHANGED_KEY, 0L)).isEqualTo(unchanged);
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import com.example.springbatch5.entity.PaymentChangeWatermark;
+import com.example.springbatch5.entity.PaymentChangeWatermarkRepository;
+import com.example.springbatch5.entity.PaymentSourceChangePosition;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+@TestPropertySource(properties = {"args.payment-date=2025-01-05", "payment.statistics.change-detection-lag=5m"})
+@SqlGroup({
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+        @Sql(value = "/sql/payment-source-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+})
+class PrepareTargetDatesJobListenerTest extends SpringBatchTestSupport {
+
+    private static final String JOB_NAME = "watermarkTestJob";
+    private static final PaymentSourceChangePosition INITIAL_WATERMARK = new PaymentSourceChangePosition(LocalDateTime.of(2025, 1, 1, 0, 0), 0L);
+
+    @Autowired
+    private PrepareTargetDatesJobListener prepareTargetDatesJobListener;
+    @Autowired
+    private PaymentChangeWatermarkRepository paymentChangeWatermarkRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 완료된_Job은_워터마크를_lag_이전의_마지막_변경으로_옮긴다() {
+        // given
+        paymentChangeWatermarkRepository.save(new PaymentChangeWatermark(JOB_NAME, INITIAL_WATERMARK));
+        final long committedId = insertPaymentSource("2025-01-03 10:00:00", LocalDateTime.of(2025, 1, 2, 10, 0));
+        // lag 안에 변경된 데이터는 아직 커밋되지 않은 변경이 있을 수 있으므로 이번 실행에서 제외된다.
+        insertPaymentSource("2025-01-04 10:00:00", LocalDateTime.now());
+
+        // when
+        final JobExecution jobExecution = runJob(BatchStatus.COMPLETED, 1L);
+
+        // then
+        then(properties.getTargetPaymentDates()).containsExactly(LocalDate.of(2025, 1, 3));
+        then(jobExecution.getExecutionContext().getLong("watermark.id")).isEqualTo(committedId);
+        then(watermark()).isEqualTo(new PaymentSourceChangePosition(LocalDateTime.of(2025, 1, 2, 10, 0), committedId));
+    }
+
+    @Test
+    void 새로운_변경이_없으면_워터마크를_옮기지_않는다() {
+        // given: 워터마크보다 이전에 변경된 데이터만 있다.
+        final PaymentSourceChangePosition current = new PaymentSourceChangePosition(LocalDateTime.of(2025, 1, 10, 0, 0), 100L);
+        paymentChangeWatermarkRepository.save(new PaymentChangeWatermark(JOB_NAME, current));
+        insertPaymentSource("2025-01-03 10:00:00", LocalDateTime.of(2025, 1, 2, 10, 0));
+
+        // when
+        final JobExecution jobExecution = runJob(BatchStatus.COMPLETED, 2L);
+
+        // then: Job 파라미터의 결제 일자를 사용하고 워터마크는 뒤로 이동하지 않는다.
+        then(properties.getTargetPaymentDates()).containsExactly(LocalDate.of(2025, 1, 5));
+        then(jobExecution.getExecutionContext().containsKey("watermark.id")).isFalse();
+        then(watermark()).isEqualTo(current);
+    }
+
+    @Test
+    void 실패한_Job은_워터마크를_옮기지_않는다() {
+        // given
+        paymentChangeWatermarkRepository.save(new PaymentChangeWatermark(JOB_NAME, INITIAL_WATERMARK));
+        insertPaymentSource("2025-01-03 10:00:00", LocalDateTime.of(2025, 1, 2, 10, 0));
+
+        // when
+        runJob(BatchStatus.FAILED, 3L);
+
+        // then: 다음 실행에서 같은 변경을 다시 처리한다.
+        then(properties.getTargetPaymentDates()).containsExactly(LocalDate.of(2025, 1, 3));
+        then(watermark()).isEqualTo(INITIAL_WATERMARK);
+    }
+
+    private JobExecution runJob(BatchStatus status, Long executionId) {
+        final JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution(JOB_NAME, executionId, executionId);
+        prepareTargetDatesJobListener.beforeJob(jobExecution);
+        jobExecution.setStatus(status);
+        prepareTargetDatesJobListener.afterJob(jobExecution);
+        return jobExecution;
+    }
+
+    private PaymentSourceChangePosition watermark() {
+        return paymentChangeWatermarkRepository.findById(JOB_NAME).orElseThrow().toPosition();
+    }
+
+    private long insertPaymentSource(String paymentDateTime, LocalDateTime updatedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO payment_source (payment_date_time, corp_name, business_registration_number, amount, created_at, updated_at)
+                VALUES (?, '사업자1', '10002000', 100, ?, ?)
+                """, paymentDateTime, updatedAt, updatedAt);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM payment_source", Long.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.springbatch5.job;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class TargetPaymentDatePartitionerTest {
+
+    @Test
+    void 결제_일자마다_일자_순서로_파티션을_생성한다() {
+        // given
+        final TargetPaymentDatePartitioner partitioner = new TargetPaymentDatePartitioner(Set.of(
+                LocalDate.of(2025, 1, 5),
+                LocalDate.of(2024, 12, 31),
+                LocalDate.of(2025, 1, 3)
+        ));
+
+        // when
+        final Map<String, ExecutionContext> partitions = partitioner.partition(1);
+
+        // then: gridSize와 관계없이 일자 수만큼 생성하며, 이름에 결제 일자를 사용한다.
+        then(partitions.keySet()).containsExactly("paymentDate-2024-12-31", "paymentDate-2025-01-03", "paymentDate-2025-01-05");
+        then(partitions.get("paymentDate-2024-12-31").getString(TargetPaymentDatePartitioner.EXECUTION_CONTEXT_KEY_PAYMENT_DATE))
+                .isEqualTo("2024-12-31");
+        then(partitions.get("paymentDate-2025-01-03").getString(TargetPaymentDatePartitioner.EXECUTION_CONTEXT_KEY_PAYMENT_DATE))
+                .isEqualTo("2025-01-03");
+        then(partitions.get("paymentDate-2025-01-05").getString(TargetPaymentDatePartitioner.EXECUTION_CONTEXT_KEY_PAYMENT_DATE))
+                .isEqualTo("2025-01-05");
+        then(partitions.values()).allSatisfy(context -> then(context.size()).isEqualTo(1));
+    }
+
+    @Test
+    void 같은_결제_일자로_다시_생성하면_파티션_이름이_같다() {
+        // given: 재시작할 때 Job 리스너가 같은 결제 일자를 다시 준비한 경우
+        final Set<LocalDate> targetPaymentDates = Set.of(LocalDate.of(2025, 1, 4), LocalDate.of(2025, 1, 3));
+
+        // when
+        final Map<String, ExecutionContext> first = new TargetPaymentDatePartitioner(targetPaymentDates).partition(4);
+        final Map<String, ExecutionContext> second = new TargetPaymentDatePartitioner(targetPaymentDates).partition(10);
+
+        // then: 이전 실행의 파티션 StepExecution을 이름으로 찾을 수 있다.
+        then(second.keySet()).containsExactlyElementsOf(first.keySet());
+    }
+
+    @Test
+    void 결제_일자가_없으면_파티션을_생성하지_않는다() {
+        final TargetPaymentDatePartitioner partitioner = new TargetPaymentDatePartitioner(Set.of());
+
+        then(partitioner.partition(4)).isEmpty();
+    }
+}
@@ -1,2 +1,5 @@
 DELETE FROM payment_daily_statistics;
-DELETE FROM payment_source;
\ No newline at end of file
+DELETE FROM payment_source;
+DELETE FROM payment_change_watermark;
+DELETE FROM payment_hourly_rollup;
+DELETE FROM payment_source_change_log;
\ No newline at end of file
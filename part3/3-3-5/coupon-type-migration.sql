@@ -0,0 +1,23 @@
+-- 같은 회원에게 같은 종류의 쿠폰이 중복 발급되지 않도록 coupon 테이블에 coupon_type 컬럼과 (member_id, coupon_type) 유니크 키를 추가한다.
+-- main 프로파일은 ddl-auto: none 이므로, 기존 coupon 테이블에 배포 전에 직접 적용해야 한다.
+
+-- 1. 쿠폰 종류 컬럼 추가 (기존 쿠폰은 모두 회원가입 쿠폰이다)
+ALTER TABLE coupon ADD COLUMN coupon_type VARCHAR(50) NOT NULL DEFAULT 'SIGNUP' AFTER coupon_name;
+ALTER TABLE coupon ALTER COLUMN coupon_type DROP DEFAULT;
+
+-- 2. 이미 중복 발급된 쿠폰 확인 (결과가 있으면 유니크 키를 추가하기 전에 정리해야 한다)
+SELECT member_id, coupon_type, COUNT(*) AS coupon_count
+FROM coupon
+GROUP BY member_id, coupon_type
+HAVING COUNT(*) > 1;
+
+-- 중복 정리: (member_id, coupon_type)마다 가장 먼저 발급된 쿠폰만 남긴다.
+DELETE c1
+FROM coupon c1
+         JOIN coupon c2
+              ON c1.member_id = c2.member_id
+                  AND c1.coupon_type = c2.coupon_type
+                  AND c1.id > c2.id;
+
+-- 3. 유니크 키 추가
+ALTER TABLE coupon ADD UNIQUE KEY uk_coupon_member_id_coupon_type (member_id, coupon_type);
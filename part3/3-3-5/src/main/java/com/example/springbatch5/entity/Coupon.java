@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,7 +16,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "coupon")
+@Table(
+        name = "coupon",
+        // 같은 회원에게 같은 종류의 쿠폰이 중복 발급되지 않도록 보장한다.
+        uniqueConstraints = @UniqueConstraint(name = "uk_coupon_member_id_coupon_type", columnNames = {"member_id", "coupon_type"})
+)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -29,6 +34,9 @@ public class Coupon {
     @Column(name = "coupon_name", nullable = false)
     private String couponName;
 
+    @Column(name = "coupon_type", nullable = false, length = 50)
+    private String couponType;
+
     @Column(name = "discount_amount", nullable = false)
     private BigDecimal discountAmount;
 
@@ -41,8 +49,9 @@ public class Coupon {
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
-    public Coupon(String couponName, BigDecimal discountAmount, LocalDate expirationDate, boolean issued, Long memberId) {
+    public Coupon(String couponName, String couponType, BigDecimal discountAmount, LocalDate expirationDate, boolean issued, Long memberId) {
         this.couponName = couponName;
+        this.couponType = couponType;
         this.discountAmount = discountAmount;
         this.expirationDate = expirationDate;
         this.issued = issued;
@@ -0,0 +1,51 @@
+package com.example.springbatch5.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * HttpPageItemReader가 재시도 후에도 조회하지 못해 건너뛴 페이지 기록
+ */
+@Entity
+@Table(name = "http_dead_page")
+@Getter
+@NoArgsConstructor
+@ToString
+public class HttpDeadPage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "base_url", nullable = false)
+    private String baseUrl;
+
+    @Column(name = "page_number", nullable = false)
+    private int pageNumber;
+
+    @Column(name = "page_size", nullable = false)
+    private int pageSize;
+
+    @Column(name = "reason", length = 1000)
+    private String reason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public HttpDeadPage(String baseUrl, int pageNumber, int pageSize, String reason) {
+        this.baseUrl = baseUrl;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+        this.reason = reason == null || reason.length() <= 1000 ? reason : reason.substring(0, 1000);
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.springbatch5.entity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface HttpDeadPageRepository extends JpaRepository<HttpDeadPage, Long> {
+
+    List<HttpDeadPage> findByBaseUrlOrderByIdAsc(String baseUrl);
+}
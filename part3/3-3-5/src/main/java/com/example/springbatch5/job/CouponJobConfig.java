@@ -1,28 +1,47 @@
 package com.example.springbatch5.job;
 
 import com.example.springbatch5.entity.Coupon;
+import com.example.springbatch5.entity.HttpDeadPageRepository;
+import com.example.springbatch5.reader.AdaptivePageSizeController;
+import com.example.springbatch5.reader.HttpPageClientBuilder;
+import com.example.springbatch5.reader.HttpPageItemReader;
 import com.example.springbatch5.reader.HttpPageItemReaderBuilder;
 import com.example.springbatch5.reader.MemberResponse;
+import com.example.springbatch5.reader.PageFetchCircuitBreaker;
+import com.example.springbatch5.writer.CouponBulkInsertItemWriter;
+import com.example.springbatch5.writer.IdempotentCouponItemWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Configuration
@@ -30,11 +49,21 @@ import java.time.LocalDate;
 public class CouponJobConfig {
 
     private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
+    private final HttpDeadPageRepository httpDeadPageRepository;
 
     private final int chunkSize = 10;
 
+    private static final String MEMBER_API_URL = "http://localhost:8080/api/v1/members";
+    private static final String SIGNUP_COUPON_TYPE = "SIGNUP";
+    private static final int MEMBER_API_MAX_CONNECTIONS = 16;
+    // concurrent 리더가 동시에 요청해 둘 페이지 수
+    private static final int COUPON_READER_CONCURRENCY = 4;
+
+    private final int partitionGridSize = 8;
+
     @Bean
     public Job couponJob(Step couponStep) {
         return new JobBuilder("couponJob", jobRepository)
@@ -43,15 +72,27 @@ public class CouponJobConfig {
                 .build();
     }
 
+    /**
+     * 쿠폰 발급 Step 입니다.
+     * `coupon.reader`로 회원 API를 읽는 방식을 고를 수 있습니다. (page, concurrent, keyset, streaming, adaptive, resilient)
+     * `coupon.writer=jdbc-bulk`로 실행하면 JpaItemWriter 대신 multi-row INSERT로 저장하는 {@link CouponBulkInsertItemWriter}를 사용합니다.
+     * `coupon.writer=idempotent`로 실행하면 이미 발급된 회원을 건너뛰는 {@link IdempotentCouponItemWriter}를 사용하므로,
+     * 중단된 Job을 정리 작업 없이 다시 실행할 수 있습니다.
+     */
     @Bean
-    public Step couponStep(ItemReader<MemberResponse> couponReader) {
+    public Step couponStep(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            @Value("${coupon.reader:page}") String couponReaderType,
+            @Value("${coupon.writer:jpa}") String couponWriterType
+    ) {
         return new StepBuilder("couponStep", jobRepository)
                 .<MemberResponse, Coupon>chunk(chunkSize, transactionManager)
                 // Step 소요 시간 측정
                 .listener(new StepDurationTrackerListener())
-                .reader(couponReader)
+                .reader(couponReader(couponReaderType, restTemplate, objectMapper))
                 .processor(couponProcessor())
-                .writer(couponWriter())
+                .writer(couponWriter(couponWriterType))
                 // Chunk 소요 시간 측정
                 .listener(new ChunkDurationTrackerListener())
                 .build();
@@ -59,10 +100,36 @@ public class CouponJobConfig {
 
     /**
      * RestTemplate을 Bean으로 등록하여 다른 곳에서도 재사용할 수 있도록 합니다.
+     * 하나의 JDK HttpClient가 연결을 유지하며 재사용하므로, 여러 리더(파티션)가 공유해도 페이지마다 TCP 연결을 맺지 않습니다.
+     * 회원 API가 HTTP/2를 지원하는 경우에만 `coupon.http.http2=true`로 실행합니다.
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${coupon.http.http2:false}") boolean http2
+    ) {
+        return new HttpPageClientBuilder()
+                .name("member-api")
+                .maxConnections(MEMBER_API_MAX_CONNECTIONS)
+                .connectTimeout(Duration.ofSeconds(3))
+                .readTimeout(Duration.ofSeconds(30))
+                .http2(http2)
+                .gzip(true)
+                .meterRegistry(meterRegistry)
+                .executor(memberApiClientExecutor())
+                .build();
+    }
+
+    /**
+     * 회원 API HttpClient의 응답 처리 스레드 풀입니다. 애플리케이션 종료 시 스레드 풀을 종료합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService memberApiClientExecutor() {
+        return Executors.newFixedThreadPool(MEMBER_API_MAX_CONNECTIONS, runnable -> {
+            Thread thread = new Thread(runnable, "http-page-client-member-api");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Bean
@@ -76,9 +143,212 @@ public class CouponJobConfig {
                 .build();
     }
 
+    /**
+     * 다음 페이지 요청을 미리 보내 두는 ItemReader 입니다.
+     * 최대 4개의 페이지를 동시에 요청하지만 페이지 순서대로 반환하므로, 아이템 순서와 재시작 위치는 `page` 리더와 같습니다.
+     */
+    @Bean
+    public ItemReader<MemberResponse> concurrentCouponReader(RestTemplate restTemplate) {
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl(MEMBER_API_URL)
+                .size(chunkSize)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .concurrency(COUPON_READER_CONCURRENCY)
+                .build();
+    }
+
+    /**
+     * 회원 서버의 keyset 페이징 API를 커서 모드로 읽는 ItemReader 입니다.
+     * 응답의 nextCursor를 다음 요청의 afterId로 전달하므로 OFFSET 스캔과 count 쿼리 없이 전체 회원을 순회합니다.
+     */
+    @Bean
+    public ItemReader<MemberResponse> keysetCouponReader(RestTemplate restTemplate) {
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl("http://localhost:8080/api/v1/members/keyset")
+                .size(chunkSize)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .cursorParameter("afterId")
+                .build();
+    }
+
+    /**
+     * 응답 본문을 스트리밍으로 디코딩하는 ItemReader 입니다.
+     * 페이지 크기를 크게 잡아 요청 횟수를 줄이면서도, 페이지 전체를 메모리에 올리지 않고 아이템을 하나씩 반환합니다.
+     */
+    @Bean
+    public ItemReader<MemberResponse> streamingCouponReader(RestTemplate restTemplate, ObjectMapper objectMapper) {
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl("http://localhost:8080/api/v1/members")
+                .size(10_000)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .streaming(true)
+                .objectMapper(objectMapper)
+                .build();
+    }
+
+    /**
+     * 회원 API의 응답 시간에 맞춰 페이지 크기를 조절하는 ItemReader 입니다.
+     * 응답이 목표 시간(1초)보다 빠르면 페이지 크기를 늘리고, 느리거나 오류가 발생하면 줄입니다.
+     */
+    @Bean
+    public ItemReader<MemberResponse> adaptiveCouponReader(RestTemplate restTemplate) {
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl("http://localhost:8080/api/v1/members")
+                .size(chunkSize)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .pageSizeController(new AdaptivePageSizeController(chunkSize, 5_120, Duration.ofSeconds(1), 0, 0.1))
+                .build();
+    }
+
+    /**
+     * 일시적인 API 오류를 재시도하고, 계속 실패하는 페이지는 기록한 뒤 건너뛰는 ItemReader 입니다.
+     * 5번 연속 실패하면 30초 동안 요청을 멈추고, 재시도 후에도 실패한 페이지는 `http_dead_page`에 기록되어
+     * {@link #couponRedriveJob(Step)}으로 다시 처리할 수 있습니다.
+     */
+    @Bean
+    public ItemReader<MemberResponse> resilientCouponReader(RestTemplate restTemplate) {
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl(MEMBER_API_URL)
+                .size(chunkSize)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .retry(5, Duration.ofMillis(500), Duration.ofSeconds(30))
+                .circuitBreaker(new PageFetchCircuitBreaker(5, Duration.ofSeconds(30)))
+                .ignoreErrors(true)
+                .deadPageLedger(memberDeadPageLedger())
+                .build();
+    }
+
+    /**
+     * 회원 API에서 건너뛴 페이지를 `http_dead_page`에 기록하는 저장소입니다.
+     */
+    @Bean
+    public HttpDeadPageLedger memberDeadPageLedger() {
+        return new HttpDeadPageLedger(MEMBER_API_URL, httpDeadPageRepository, transactionManager);
+    }
+
+    /**
+     * `http_dead_page`에 기록된 페이지의 회원에게 쿠폰을 발급하는 Job 입니다.
+     * 처리가 끝난 페이지는 쿠폰 저장과 같은 chunk 트랜잭션에서 기록이 제거되므로, 다시 실행하면 남은 페이지만 조회합니다.
+     */
+    @Bean
+    public Job couponRedriveJob(Step couponRedriveStep) {
+        return new JobBuilder("couponRedriveJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(couponRedriveStep)
+                .build();
+    }
+
+    @Bean
+    public Step couponRedriveStep(ItemReader<MemberResponse> deadPageCouponReader) {
+        return new StepBuilder("couponRedriveStep", jobRepository)
+                .<MemberResponse, Coupon>chunk(chunkSize, transactionManager)
+                .reader(deadPageCouponReader)
+                .processor(couponProcessor())
+                // 제거되기 전에 중단된 페이지를 다시 읽어도 쿠폰이 중복 발급되지 않도록 한다.
+                .writer(idempotentCouponWriter())
+                .build();
+    }
+
+    /**
+     * 기록된 페이지만 기록된 크기로 다시 조회하는 ItemReader 입니다.
+     * Step 시작 시점의 기록을 읽어야 하므로 StepScope로 생성합니다.
+     */
+    @Bean
+    @StepScope
+    public HttpPageItemReader<MemberResponse> deadPageCouponReader(RestTemplate restTemplate) {
+        HttpDeadPageLedger deadPageLedger = memberDeadPageLedger();
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl(MEMBER_API_URL)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .retry(5, Duration.ofMillis(500), Duration.ofSeconds(30))
+                .redrivePages(deadPageLedger.findAll())
+                .deadPageLedger(deadPageLedger)
+                .build();
+    }
+
+    /**
+     * 회원 API의 페이지 범위를 파티션으로 나누어 병렬로 쿠폰을 발급하는 Job 입니다.
+     */
+    @Bean
+    public Job partitionedCouponJob(Step couponManagerStep) {
+        return new JobBuilder("partitionedCouponJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(couponManagerStep)
+                .build();
+    }
+
+    /**
+     * 전체 페이지를 gridSize개의 범위로 나누고, 각 범위를 워커 스텝에 위임하는 매니저 스텝입니다.
+     */
+    @Bean
+    public Step couponManagerStep(Step couponWorkerStep, RestTemplate restTemplate) {
+        return new StepBuilder("couponManagerStep", jobRepository)
+                .partitioner("couponWorkerStep", new HttpPageRangePartitioner(restTemplate, MEMBER_API_URL, chunkSize))
+                .step(couponWorkerStep)
+                .gridSize(partitionGridSize)
+                .taskExecutor(couponTaskExecutor())
+                .build();
+    }
+
+    /**
+     * 파티션마다 별도의 리더 인스턴스와 StepExecution(체크포인트)으로 실행되는 워커 스텝입니다.
+     */
+    @Bean
+    public Step couponWorkerStep(HttpPageItemReader<MemberResponse> couponPartitionReader) {
+        return new StepBuilder("couponWorkerStep", jobRepository)
+                .<MemberResponse, Coupon>chunk(chunkSize, transactionManager)
+                .listener(new StepDurationTrackerListener())
+                .reader(couponPartitionReader)
+                .processor(couponProcessor())
+                .writer(couponWriter())
+                .listener(new ChunkDurationTrackerListener())
+                .build();
+    }
+
+    /**
+     * StepExecutionContext로부터 페이지 범위를 주입받아 해당 범위만 조회하는 ItemReader 입니다.
+     * 파티셔너와 같은 페이지 크기를 사용해야 페이지 번호가 같은 아이템을 가리킵니다.
+     */
+    @Bean
+    @StepScope
+    public HttpPageItemReader<MemberResponse> couponPartitionReader(
+            RestTemplate restTemplate,
+            @Value("#{stepExecutionContext['startPage']}") Integer startPage,
+            @Value("#{stepExecutionContext['endPage']}") Integer endPage
+    ) {
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl(MEMBER_API_URL)
+                .size(chunkSize)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {})
+                .pageRange(startPage, endPage)
+                .build();
+    }
+
+    /**
+     * 파티션 처리를 위한 스레드 풀을 생성합니다.
+     */
+    @Bean
+    public TaskExecutor couponTaskExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(partitionGridSize);
+        taskExecutor.setMaxPoolSize(partitionGridSize);
+        taskExecutor.setThreadNamePrefix("coupon-partition-thread-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
     private ItemProcessor<MemberResponse, Coupon> couponProcessor() {
         return member -> new Coupon(
                 "회원가입 쿠폰",
+                SIGNUP_COUPON_TYPE,
                 BigDecimal.valueOf(1000),
                 LocalDate.now().plusDays(30),
                 false,
@@ -86,10 +356,46 @@ public class CouponJobConfig {
         );
     }
 
+    private ItemReader<MemberResponse> couponReader(String couponReaderType, RestTemplate restTemplate, ObjectMapper objectMapper) {
+        return switch (couponReaderType) {
+            case "concurrent" -> concurrentCouponReader(restTemplate);
+            case "keyset" -> keysetCouponReader(restTemplate);
+            case "streaming" -> streamingCouponReader(restTemplate, objectMapper);
+            case "adaptive" -> adaptiveCouponReader(restTemplate);
+            case "resilient" -> resilientCouponReader(restTemplate);
+            default -> couponReader(restTemplate);
+        };
+    }
+
+    private ItemWriter<Coupon> couponWriter(String couponWriterType) {
+        return switch (couponWriterType) {
+            case "jdbc-bulk" -> couponBulkWriter();
+            case "idempotent" -> idempotentCouponWriter();
+            default -> couponWriter();
+        };
+    }
+
     @Bean
     public JpaItemWriter<Coupon> couponWriter() {
         return new JpaItemWriterBuilder<Coupon>()
                 .entityManagerFactory(entityManagerFactory)
                 .build();
     }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 chunk 단위 multi-row INSERT로 쿠폰을 저장하는 ItemWriter 입니다.
+     */
+    @Bean
+    public CouponBulkInsertItemWriter couponBulkWriter() {
+        return new CouponBulkInsertItemWriter(dataSource, 1_000);
+    }
+
+    /**
+     * 회원가입 쿠폰을 회원당 한 번만 발급하는 ItemWriter 입니다.
+     * Bloom filter는 기존 발급 건과 새로 발급할 회원 100만 명을 1% 오탐률로 담을 수 있는 크기로 생성합니다.
+     */
+    @Bean
+    public IdempotentCouponItemWriter idempotentCouponWriter() {
+        return new IdempotentCouponItemWriter(dataSource, SIGNUP_COUPON_TYPE, 1_000_000, 0.01);
+    }
 }
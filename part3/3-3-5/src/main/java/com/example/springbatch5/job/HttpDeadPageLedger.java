@@ -0,0 +1,60 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.entity.HttpDeadPage;
+import com.example.springbatch5.entity.HttpDeadPageRepository;
+import com.example.springbatch5.reader.DeadPage;
+import com.example.springbatch5.reader.DeadPageLedger;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 건너뛴 페이지를 `http_dead_page` 테이블에 기록하는 {@link DeadPageLedger} 입니다.
+ *
+ * 기록은 REQUIRES_NEW 트랜잭션으로 바로 커밋하므로, 페이지를 건너뛴 chunk가 롤백되어도 기록이 남습니다.
+ * 다시 처리한 페이지의 제거는 호출한 chunk 트랜잭션에 참여하므로, 쿠폰 저장과 함께 커밋/롤백됩니다.
+ */
+public class HttpDeadPageLedger implements DeadPageLedger {
+
+    private final String baseUrl;
+    private final HttpDeadPageRepository httpDeadPageRepository;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+
+    public HttpDeadPageLedger(String baseUrl, HttpDeadPageRepository httpDeadPageRepository, PlatformTransactionManager transactionManager) {
+        this.baseUrl = baseUrl;
+        this.httpDeadPageRepository = httpDeadPageRepository;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void record(DeadPage deadPage) {
+        requiresNewTransactionTemplate.executeWithoutResult(status -> httpDeadPageRepository.save(
+                new HttpDeadPage(baseUrl, deadPage.getPage(), deadPage.getSize(), deadPage.getReason())));
+    }
+
+    @Override
+    public void resolve(List<DeadPage> deadPages) {
+        List<Long> ids = deadPages.stream()
+                .map(DeadPage::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!ids.isEmpty()) {
+            httpDeadPageRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+
+    /**
+     * 기록된 페이지를 기록된 순서대로 조회합니다.
+     *
+     * @return 다시 조회할 페이지 목록
+     */
+    public List<DeadPage> findAll() {
+        return httpDeadPageRepository.findByBaseUrlOrderByIdAsc(baseUrl).stream()
+                .map(deadPage -> new DeadPage(deadPage.getId(), deadPage.getPageNumber(), deadPage.getPageSize(), deadPage.getReason()))
+                .toList();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.reader.PageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HTTP 페이징 API의 페이지 범위를 기준으로 파티션을 생성하는 Partitioner 구현체입니다.
+ * 크기가 1인 페이지를 한 번 조회하여 전체 아이템 수(`totalElements`)를 확인한 뒤,
+ * `pageSize` 기준의 전체 페이지를 gridSize개의 겹치지 않는 연속된 범위로 나눕니다.
+ * 생성된 각 파티션은 `startPage`, `endPage`(포함) 키로 범위를 StepExecutionContext에 저장하며,
+ * 워커 스텝은 {@link com.example.springbatch5.reader.HttpPageItemReaderBuilder#pageRange(int, int)}로 범위가 제한된 리더를 실행합니다.
+ */
+@Slf4j
+public class HttpPageRangePartitioner implements Partitioner {
+    // 파티션 번호를 식별하기 위한 키
+    private static final String PARTITION_KEY = "partition";
+    // StepExecutionContext에 저장될 페이지 범위의 키
+    private static final String EXECUTION_CONTEXT_KEY_START_PAGE = "startPage";
+    private static final String EXECUTION_CONTEXT_KEY_END_PAGE = "endPage";
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final int pageSize;
+
+    /**
+     * HttpPageRangePartitioner 생성자
+     *
+     * @param restTemplate HTTP 요청에 사용할 RestTemplate
+     * @param baseUrl      페이징 API의 기본 URL
+     * @param pageSize     워커 리더가 사용할 페이지 크기 (페이지 번호의 기준)
+     */
+    public HttpPageRangePartitioner(RestTemplate restTemplate, String baseUrl, int pageSize) {
+        this.restTemplate = restTemplate;
+        this.baseUrl = baseUrl;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * gridSize만큼의 파티션을 생성합니다.
+     * 전체 페이지를 같은 개수로 나누며, 앞쪽 파티션이 나머지 페이지를 하나씩 더 가져갑니다.
+     * 조회 대상이 없으면 빈 Map을 반환합니다.
+     *
+     * @param gridSize 파티션의 개수
+     * @return 각 파티션의 이름과 ExecutionContext를 담은 Map
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        long totalElements = findTotalElements();
+        int totalPages = (int) ((totalElements + pageSize - 1) / pageSize);
+        if (totalPages == 0) {
+            log.info("No pages to partition");
+            return partitions;
+        }
+
+        int partitionCount = Math.min(gridSize, totalPages);
+        int pagesPerPartition = totalPages / partitionCount;
+        int remainder = totalPages % partitionCount;
+
+        int startPage = 0;
+        for (int partitionIndex = 0; partitionIndex < partitionCount; partitionIndex++) {
+            int endPage = startPage + pagesPerPartition - 1 + (partitionIndex < remainder ? 1 : 0);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(EXECUTION_CONTEXT_KEY_START_PAGE, startPage);
+            context.putInt(EXECUTION_CONTEXT_KEY_END_PAGE, endPage);
+            partitions.put(PARTITION_KEY + partitionIndex, context);
+
+            log.info("Created partition {} with page range [{}, {}]", PARTITION_KEY + partitionIndex, startPage, endPage);
+
+            startPage = endPage + 1;
+        }
+
+        return partitions;
+    }
+
+    private long findTotalElements() {
+        String uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .queryParam("page", 0)
+                .queryParam("size", 1)
+                .toUriString();
+        PageResponse<Object> response = restTemplate.exchange(
+                uri,
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<PageResponse<Object>>() {}
+        ).getBody();
+        return response == null ? 0 : response.getTotalElements();
+    }
+}
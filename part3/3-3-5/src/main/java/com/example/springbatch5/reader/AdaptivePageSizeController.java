@@ -0,0 +1,120 @@
+package com.example.springbatch5.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * {@link HttpPageItemReader}의 페이지 크기를 응답 지연 시간, 응답 크기, 오류율에 따라 조절하는 컨트롤러입니다.
+ *
+ * 페이지 크기는 항상 `minSize * 2^k` 형태(`maxSize` 이하)의 값만 사용합니다.
+ * 페이지 번호로 조회하는 API는 `page * size` 위치부터 데이터를 반환하므로, 크기가 바뀌어도 이미 읽은 위치(offset)가
+ * 새 크기의 배수여야 같은 지점부터 이어서 읽을 수 있습니다. 2배 단위로만 크기를 바꾸면 줄이는 경우는 항상 배수가 되고,
+ * 늘리는 경우는 offset이 새 크기의 배수가 될 때까지 리더가 적용을 미룹니다.
+ *
+ * - 요청이 실패하거나, 응답이 목표 지연 시간보다 느리거나, 응답 크기가 최대 크기를 넘으면 페이지 크기를 절반으로 줄입니다.
+ * - 응답이 목표 지연 시간의 절반보다 빠르고 최근 오류율이 허용치 이하이면 페이지 크기를 2배로 늘립니다.
+ *
+ * 컨트롤러는 상태를 가지므로 리더마다 별도의 인스턴스를 사용해야 합니다.
+ */
+@Slf4j
+public class AdaptivePageSizeController {
+
+    // 오류율(지수 이동 평균)에서 최근 요청 결과가 차지하는 비중
+    private static final double ERROR_RATE_WEIGHT = 0.2;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyMillis;
+    private final long maxPayloadBytes;
+    private final double maxErrorRate;
+
+    // 다음 요청에 사용할 페이지 크기
+    private int pageSize;
+
+    // 최근 요청의 오류율 (지수 이동 평균, 0 ~ 1)
+    private double errorRate = 0;
+
+    /**
+     * AdaptivePageSizeController 생성자
+     *
+     * @param minSize         최소 페이지 크기
+     * @param maxSize         최대 페이지 크기
+     * @param targetLatency   페이지 요청의 목표 응답 시간
+     * @param maxPayloadBytes 디코딩된 페이지 응답 본문의 최대 크기 (0이면 확인하지 않음)
+     * @param maxErrorRate    페이지 크기를 늘릴 수 있는 최대 오류율 (0 ~ 1)
+     */
+    public AdaptivePageSizeController(int minSize, int maxSize, Duration targetLatency, long maxPayloadBytes, double maxErrorRate) {
+        Assert.isTrue(minSize > 0, "minSize는 0보다 커야 합니다.");
+        Assert.isTrue(minSize <= maxSize, "minSize는 maxSize보다 클 수 없습니다.");
+        Assert.isTrue(!targetLatency.isNegative() && !targetLatency.isZero(), "targetLatency는 0보다 커야 합니다.");
+        Assert.isTrue(maxPayloadBytes >= 0, "maxPayloadBytes는 0 이상이어야 합니다.");
+        Assert.isTrue(maxErrorRate >= 0 && maxErrorRate <= 1, "maxErrorRate는 0과 1 사이여야 합니다.");
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetLatencyMillis = targetLatency.toMillis();
+        this.maxPayloadBytes = maxPayloadBytes;
+        this.maxErrorRate = maxErrorRate;
+        this.pageSize = minSize;
+    }
+
+    /**
+     * 페이지 크기를 초기화합니다. 주어진 크기 이하의 가장 큰 `minSize * 2^k` 값으로 시작합니다.
+     *
+     * @param initialSize 시작 페이지 크기
+     */
+    public synchronized void reset(int initialSize) {
+        int size = minSize;
+        while (size * 2 <= Math.min(initialSize, maxSize)) {
+            size *= 2;
+        }
+        this.pageSize = size;
+        this.errorRate = 0;
+    }
+
+    /**
+     * @return 다음 요청에 사용할 페이지 크기
+     */
+    public synchronized int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 성공한 페이지 요청의 측정값을 반영합니다.
+     *
+     * @param latencyMillis 요청부터 응답 본문을 받을 때까지 걸린 시간
+     * @param payloadBytes  디코딩된(압축을 푼) 응답 본문의 크기 (알 수 없으면 음수)
+     */
+    public synchronized void recordSuccess(long latencyMillis, long payloadBytes) {
+        errorRate = errorRate * (1 - ERROR_RATE_WEIGHT);
+        boolean payloadTooLarge = maxPayloadBytes > 0 && payloadBytes > maxPayloadBytes;
+        if (latencyMillis > targetLatencyMillis || payloadTooLarge) {
+            shrink(payloadTooLarge ? "payload " + payloadBytes + " bytes" : "latency " + latencyMillis + "ms");
+        } else if (latencyMillis * 2 < targetLatencyMillis && errorRate <= maxErrorRate) {
+            grow(latencyMillis);
+        }
+    }
+
+    /**
+     * 실패한 페이지 요청을 반영합니다. 실패한 요청은 항상 페이지 크기를 줄입니다.
+     */
+    public synchronized void recordFailure() {
+        errorRate = errorRate * (1 - ERROR_RATE_WEIGHT) + ERROR_RATE_WEIGHT;
+        shrink("error rate " + String.format("%.2f", errorRate));
+    }
+
+    private void shrink(String reason) {
+        if (pageSize / 2 >= minSize) {
+            pageSize /= 2;
+            log.info("Page size decreased to {} ({})", pageSize, reason);
+        }
+    }
+
+    private void grow(long latencyMillis) {
+        if (pageSize * 2 <= maxSize) {
+            pageSize *= 2;
+            log.info("Page size increased to {} (latency {}ms)", pageSize, latencyMillis);
+        }
+    }
+}
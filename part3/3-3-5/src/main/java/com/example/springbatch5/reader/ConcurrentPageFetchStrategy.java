@@ -0,0 +1,107 @@
+package com.example.springbatch5.reader;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 최대 `concurrency`개의 페이지 요청을 미리 보내 두는 전략입니다.
+ * 응답은 요청한 페이지 순서대로 소비하므로 아이템의 순서와 읽은 아이템 개수(재시작 기준)는 순차 조회와 동일합니다.
+ * 마지막 페이지를 받았거나 재시작, 종료로 더 이상 필요 없는 요청은 요청 스레드를 인터럽트하여 취소합니다.
+ * 인터럽트는 재시도 대기, 서킷 브레이커 대기, 커넥션 풀 대기를 바로 끝내며, 이미 응답을 읽고 있는 요청은 읽기 타임아웃까지 진행될 수 있습니다.
+ *
+ * @param <T> 아이템 타입
+ */
+class ConcurrentPageFetchStrategy<T> extends SequentialPageFetchStrategy<T> {
+
+    // 동시에 요청해 둘 최대 페이지 수
+    private final int concurrency;
+
+    // 요청을 보낸 뒤 아직 소비하지 않은 페이지들 (페이지 번호 순서)
+    private final Deque<Future<PageResponse<T>>> inFlightPages = new ArrayDeque<>();
+
+    // 페이지 요청을 실행하는 스레드 풀
+    private ExecutorService fetchExecutor;
+
+    // 다음으로 요청할 페이지 번호
+    private int nextRequestPage;
+
+    ConcurrentPageFetchStrategy(HttpPageFetcher<T> fetcher, int size, int startPage, int endPage, int concurrency) {
+        super(fetcher, size, null, startPage, endPage);
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void open() {
+        super.open();
+        this.nextRequestPage = startPage;
+        this.fetchExecutor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "http-page-fetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 진행 중인 요청이 `concurrency`개가 되도록 다음 페이지 요청을 보낸 뒤, 가장 앞 페이지의 응답을 기다려 반환합니다.
+     *
+     * @param position 현재 페이지 위치 (가장 앞에 보낸 요청의 위치와 같습니다)
+     * @return 현재 페이지의 응답
+     */
+    @Override
+    public PageResponse<T> fetch(PagePosition position) {
+        while (inFlightPages.size() < concurrency && (endPage < 0 || nextRequestPage <= endPage)) {
+            final PagePosition requestPosition = new PagePosition(nextRequestPage++, pageSize, null);
+            // CompletableFuture와 달리 submit()이 반환한 Future는 cancel(true) 시 요청 스레드를 인터럽트한다.
+            inFlightPages.addLast(fetchExecutor.submit(() -> fetcher.fetch(requestPosition)));
+        }
+
+        Future<PageResponse<T>> inFlightPage = inFlightPages.removeFirst();
+        try {
+            return inFlightPage.get();
+        } catch (ExecutionException ex) {
+            // 비동기 호출에서 발생한 원래 예외를 그대로 전달하여 순차 조회와 같은 방식으로 처리되도록 한다.
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to fetch page " + position.getPage(), ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for page " + position.getPage(), ex);
+        }
+    }
+
+    @Override
+    public void completed(PagePosition position, int itemCount, boolean last, String nextCursor) {
+        super.completed(position, itemCount, last, nextCursor);
+        if (finished) {
+            // 마지막 페이지 이후로 미리 보낸 요청은 더 이상 필요 없으므로 취소한다.
+            cancelInFlightPages();
+        }
+    }
+
+    @Override
+    public boolean restart(PagePosition position) {
+        super.restart(position);
+        cancelInFlightPages();
+        this.nextRequestPage = position.getPage();
+        return true;
+    }
+
+    @Override
+    public void close() {
+        cancelInFlightPages();
+        if (fetchExecutor != null) {
+            fetchExecutor.shutdownNow();
+            this.fetchExecutor = null;
+        }
+    }
+
+    private void cancelInFlightPages() {
+        inFlightPages.forEach(inFlightPage -> inFlightPage.cancel(true));
+        inFlightPages.clear();
+    }
+}
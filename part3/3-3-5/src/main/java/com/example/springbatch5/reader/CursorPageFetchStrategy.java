@@ -0,0 +1,94 @@
+package com.example.springbatch5.reader;
+
+/**
+ * 페이지 번호 대신 continuation token(커서)으로 다음 페이지를 요청하는 전략입니다.
+ *
+ * 응답의 `nextCursor`를 다음 요청의 커서로 전달하며, `nextCursor`가 없으면 마지막 페이지로 판단합니다.
+ * 실패한 페이지의 다음 커서는 알 수 없으므로 오류가 발생한 페이지를 건너뛸 수 없습니다.
+ * {@link AdaptivePageSizeController}가 설정되면 컨트롤러가 제안한 크기를 다음 요청에 바로 적용합니다.
+ *
+ * @param <T> 아이템 타입
+ */
+class CursorPageFetchStrategy<T> implements PageFetchStrategy<T> {
+
+    private final HttpPageFetcher<T> fetcher;
+
+    // 설정된 페이지 크기
+    private final int size;
+
+    // 페이지 크기를 조절하는 컨트롤러 (null이면 `size`로 고정)
+    private final AdaptivePageSizeController pageSizeController;
+
+    // 지금까지 조회한 페이지 수 (체크포인트의 페이지 번호로 사용)
+    private int page;
+
+    // 다음으로 요청할 커서 (첫 페이지는 null)
+    private String cursor;
+
+    // 다음에 요청할 페이지 크기
+    private int pageSize;
+
+    // 마지막 페이지를 조회했는지 여부
+    private boolean finished;
+
+    CursorPageFetchStrategy(HttpPageFetcher<T> fetcher, int size, AdaptivePageSizeController pageSizeController) {
+        this.fetcher = fetcher;
+        this.size = size;
+        this.pageSizeController = pageSizeController;
+    }
+
+    @Override
+    public void open() {
+        this.page = 0;
+        this.cursor = null;
+        this.pageSize = size;
+        this.finished = false;
+        if (pageSizeController != null) {
+            pageSizeController.reset(size);
+        }
+    }
+
+    @Override
+    public PagePosition next() {
+        if (finished) {
+            return null;
+        }
+        if (pageSizeController != null) {
+            this.pageSize = pageSizeController.getPageSize();
+        }
+        return new PagePosition(page, pageSize, cursor);
+    }
+
+    @Override
+    public PageResponse<T> fetch(PagePosition position) {
+        return fetcher.fetch(position);
+    }
+
+    @Override
+    public void completed(PagePosition position, int itemCount, boolean last, String nextCursor) {
+        this.page = position.getPage() + 1;
+        this.cursor = nextCursor;
+        this.finished = itemCount == 0 || last || nextCursor == null;
+    }
+
+    @Override
+    public boolean isSkippable() {
+        return false;
+    }
+
+    @Override
+    public void skipped(PagePosition position) {
+        throw new IllegalStateException("커서 모드에서는 페이지를 건너뛸 수 없습니다.");
+    }
+
+    @Override
+    public boolean restart(PagePosition position) {
+        this.page = position.getPage();
+        this.cursor = position.getCursor();
+        this.pageSize = position.getSize();
+        if (pageSizeController != null) {
+            pageSizeController.reset(position.getSize());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.springbatch5.reader;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 재시도 후에도 조회에 실패하여 건너뛴 페이지입니다.
+ * 페이지 번호는 `size` 기준이므로, 나중에 다시 조회할 때도 같은 크기로 요청해야 같은 아이템을 받습니다.
+ */
+@Getter
+@ToString
+public class DeadPage {
+    // 저장소에 기록된 id (아직 기록되지 않았으면 null)
+    private final Long id;
+    private final int page;
+    private final int size;
+    private final String reason;
+
+    public DeadPage(int page, int size, String reason) {
+        this(null, page, size, reason);
+    }
+
+    public DeadPage(Long id, int page, int size, String reason) {
+        this.id = id;
+        this.page = page;
+        this.size = size;
+        this.reason = reason;
+    }
+}
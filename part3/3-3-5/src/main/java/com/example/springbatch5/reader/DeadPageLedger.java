@@ -0,0 +1,30 @@
+package com.example.springbatch5.reader;
+
+import java.util.List;
+
+/**
+ * {@link HttpPageItemReader}가 건너뛴 페이지를 기록하는 저장소입니다.
+ * 기록된 페이지는 {@link HttpPageItemReaderBuilder#redrivePages(java.util.List)}로 나중에 다시 조회할 수 있습니다.
+ *
+ * 리더의 `read()`는 chunk 트랜잭션 안에서 호출되므로, 트랜잭션을 사용하는 저장소는 기록을 별도의 트랜잭션으로 커밋해야
+ * chunk가 롤백되어도 건너뛴 페이지가 사라지지 않습니다.
+ * 반대로 {@link #resolve(List)}는 리더의 `update()`(chunk 트랜잭션)에서 호출되므로, 다시 처리한 아이템의 저장과 함께 커밋/롤백되어야 합니다.
+ */
+@FunctionalInterface
+public interface DeadPageLedger {
+
+    /**
+     * 건너뛴 페이지를 기록합니다.
+     *
+     * @param deadPage 건너뛴 페이지
+     */
+    void record(DeadPage deadPage);
+
+    /**
+     * 다시 조회하여 모든 아이템을 읽은 페이지를 기록에서 제거합니다.
+     *
+     * @param deadPages 처리가 끝난 페이지 (저장소에 기록된 id를 포함)
+     */
+    default void resolve(List<DeadPage> deadPages) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.springbatch5.reader;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link HttpPageItemReader}에서 사용할 RestTemplate을 JDK {@link HttpClient} 기반으로 생성하는 빌더 클래스.
+ *
+ * 기본 `new RestTemplate()`은 요청마다 `HttpURLConnection`을 사용하므로 연결 재사용을 제어할 수 없고 압축, HTTP/2를 지원하지 않습니다.
+ * 이 빌더로 만든 RestTemplate은 하나의 HttpClient가 연결을 유지(keep-alive)하며 재사용하므로 페이지마다 TCP 연결을 맺지 않습니다.
+ * `http2`를 설정하면 HTTP/2를 지원하는 서버와 하나의 연결로 여러 페이지 요청을 동시에 처리합니다.
+ *
+ * 생성한 RestTemplate은 스레드 안전하므로 Bean으로 등록하여 여러 리더(파티션)가 공유합니다.
+ * 동시 요청 수는 `maxConnections`로 제한되며, 연결 사용량과 요청 지연 시간은 {@link PooledRequestInterceptor}의 메트릭으로 확인할 수 있습니다.
+ * HttpClient의 응답 처리 스레드 풀(`executor`)은 빌더가 만들지 않으므로, Bean으로 등록하여 애플리케이션 종료 시 정리되도록 합니다.
+ */
+public class HttpPageClientBuilder {
+    protected String name = "default";
+    protected int maxConnections = 16;
+    protected Duration connectTimeout = Duration.ofSeconds(3);
+    protected Duration readTimeout = Duration.ofSeconds(30);
+    protected boolean http2 = false;
+    protected boolean gzip = true;
+    protected MeterRegistry meterRegistry;
+    protected Executor executor;
+
+    /**
+     * 메트릭의 `client` 태그로 사용할 이름을 설정합니다.
+     * @param name 클라이언트 이름 (e.g. member-api)
+     * @return 빌더 자신
+     */
+    public HttpPageClientBuilder name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * 동시에 진행할 수 있는 최대 요청 수를 설정합니다. 모든 연결이 사용 중이면 요청은 연결이 반환될 때까지 기다립니다.
+     * @param maxConnections 최대 동시 요청 수 (기본값 16)
+     * @return 빌더 자신
+     */
+    public HttpPageClientBuilder maxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        return this;
+    }
+
+    public HttpPageClientBuilder connectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    public HttpPageClientBuilder readTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    /**
+     * HTTP/2 사용 여부를 설정합니다. 서버가 HTTP/2를 지원하지 않으면 HTTP/1.1로 통신합니다.
+     * 평문(http) 연결에서는 첫 요청마다 h2c 업그레이드를 시도하므로, 서버가 HTTP/2를 지원하는 경우에만 설정합니다.
+     * @param http2 true로 설정하면 HTTP/2를 우선 사용합니다. (기본값 false)
+     * @return 빌더 자신
+     */
+    public HttpPageClientBuilder http2(boolean http2) {
+        this.http2 = http2;
+        return this;
+    }
+
+    /**
+     * gzip 응답 압축 사용 여부를 설정합니다.
+     * @param gzip true(기본값)로 설정하면 gzip 응답을 요청하고 압축을 풀어서 반환합니다.
+     * @return 빌더 자신
+     */
+    public HttpPageClientBuilder gzip(boolean gzip) {
+        this.gzip = gzip;
+        return this;
+    }
+
+    /**
+     * 연결 사용량과 요청 지연 시간 메트릭을 등록할 MeterRegistry를 설정합니다.
+     * @param meterRegistry 애플리케이션의 MeterRegistry
+     * @return 빌더 자신
+     */
+    public HttpPageClientBuilder meterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        return this;
+    }
+
+    /**
+     * HttpClient가 응답을 처리할 스레드 풀을 설정합니다. 응답 처리 스레드는 동시 요청 수(`maxConnections`)만큼만 필요합니다.
+     * 스레드 풀의 종료는 호출한 쪽에서 관리해야 합니다.
+     * @param executor 응답 처리 스레드 풀
+     * @return 빌더 자신
+     */
+    public HttpPageClientBuilder executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public RestTemplate build() {
+        Assert.hasText(name, "name은 필수입니다.");
+        Assert.isTrue(maxConnections > 0, "maxConnections는 0보다 커야 합니다.");
+        Assert.notNull(connectTimeout, "connectTimeout은 필수입니다.");
+        Assert.notNull(readTimeout, "readTimeout은 필수입니다.");
+        Assert.notNull(meterRegistry, "MeterRegistry는 필수입니다.");
+        Assert.notNull(executor, "executor는 필수입니다.");
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        // 먼저 등록한 인터셉터가 바깥쪽에서 실행되므로, 압축을 푼 응답을 닫을 때 연결이 반환된다.
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(new PooledRequestInterceptor(name, maxConnections, meterRegistry));
+        if (gzip) {
+            interceptors.add(new GzipResponseInterceptor());
+        }
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setInterceptors(interceptors);
+        return restTemplate;
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.springbatch5.reader;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.backoff.ExponentialRandomBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link PagePosition}이 가리키는 페이지 하나를 API로 조회합니다.
+ *
+ * 페이지 요청은 지수 백오프와 jitter로 재시도하며(`retryMaxAttempts`), {@link PageFetchCircuitBreaker}가 설정되면
+ * 연속 실패 시 외부 API가 회복될 때까지 요청을 멈춥니다.
+ * {@link AdaptivePageSizeController}가 설정되면 각 요청의 응답 시간, 디코딩된 응답 본문 크기, 성공 여부를 컨트롤러에 전달합니다.
+ *
+ * @param <T> API 응답의 content 필드에 포함된 개별 아이템의 타입
+ */
+@Slf4j
+class HttpPageFetcher<T> {
+
+    // 요청을 보낼 기본 URL
+    private final String baseUrl;
+
+    // HTTP 통신을 위해 사용하는 Spring의 동기 클라이언트
+    private final RestTemplate restTemplate;
+
+    /**
+     * RestTemplate이 제네릭 타입을 포함한 응답을 올바르게 역직렬화(deserialize)하도록 돕는 객체입니다.
+     *
+     * ### 왜 ParameterizedTypeReference가 필요한가? (중요)
+     * Java의 제네릭은 컴파일 시점에만 타입 검사를 하고, 런타임에는 타입 정보가 지워지는 '타입 소거(Type Erasure)' 특징이 있습니다.
+     * 만약 `restTemplate.exchange(url, ..., PageResponse.class)` 와 같이 호출하면,
+     * RestTemplate은 `PageResponse`라는 클래스 정보만 알 수 있고, 제네릭 `<T>`가 어떤 타입인지 알 수 없습니다.
+     * 결과적으로, JSON 응답의 `content` 필드에 있는 객체들을 `T` 타입(예: MemberResponse)으로 변환하지 못하고,
+     * 기본 자료구조인 `LinkedHashMap`으로 변환하게 됩니다. 이로 인해 이후 처리 과정에서 `ClassCastException`이 발생합니다.
+     *
+     * `new ParameterizedTypeReference<PageResponse<T>>() {}` 와 같이 익명 클래스를 생성하면,
+     * 제네릭 타입 정보(`PageResponse<T>`)가 클래스 메타데이터에 저장되어 런타임에도 유지됩니다.
+     * RestTemplate은 이 정보를 리플렉션(reflection)을 통해 읽어와 `content` 필드를 정확한 `T` 타입의 리스트로 변환할 수 있습니다.
+     */
+    private final ParameterizedTypeReference<PageResponse<T>> responseType;
+
+    // continuation token을 전달할 쿼리 파라미터 이름 (null이면 페이지 번호로 조회)
+    private final String cursorParameter;
+
+    // 페이지 요청을 재시도하는 RetryTemplate (지수 백오프 + jitter)
+    private final RetryTemplate retryTemplate;
+
+    // 외부 API가 불안정할 때 요청을 멈추는 서킷 브레이커 (null이면 사용하지 않음)
+    private final PageFetchCircuitBreaker circuitBreaker;
+
+    // 응답 시간과 크기를 전달할 페이지 크기 컨트롤러 (null이면 측정하지 않음)
+    private final AdaptivePageSizeController pageSizeController;
+
+    // 스트리밍 모드에서 아이템 역직렬화에 사용할 ObjectMapper (null이면 스트리밍하지 않음)
+    private final ObjectMapper objectMapper;
+
+    // 스트리밍 모드에서 content 아이템의 타입 (responseType의 제네릭 타입 T)
+    private final JavaType itemType;
+
+    HttpPageFetcher(HttpPageItemReaderBuilder<T> builder) {
+        this.baseUrl = builder.baseUrl;
+        this.restTemplate = builder.restTemplate;
+        this.responseType = builder.responseType;
+        this.cursorParameter = builder.cursorParameter;
+        this.retryTemplate = createRetryTemplate(builder);
+        this.circuitBreaker = builder.circuitBreaker;
+        this.pageSizeController = builder.pageSizeController;
+        this.objectMapper = builder.streaming ? builder.objectMapper : null;
+        this.itemType = builder.streaming
+                ? builder.objectMapper.getTypeFactory().constructType(builder.responseType.getType()).containedType(0)
+                : null;
+    }
+
+    /**
+     * 페이지 요청에 사용할 RetryTemplate을 생성합니다.
+     * 연결 오류, 5xx, 429 응답만 재시도하며, 그 외의 4xx 응답은 다시 요청해도 같은 결과이므로 바로 실패합니다.
+     * 대기 시간은 시도할 때마다 지수적으로 늘어나고, 여러 리더가 같은 순간에 재시도하지 않도록 무작위로 흩어집니다.
+     */
+    private static RetryTemplate createRetryTemplate(HttpPageItemReaderBuilder<?> builder) {
+        SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(builder.retryMaxAttempts, Map.of(
+                ResourceAccessException.class, true,
+                HttpServerErrorException.class, true,
+                HttpClientErrorException.TooManyRequests.class, true,
+                IOException.class, true
+        ), true);
+
+        ExponentialRandomBackOffPolicy backOffPolicy = new ExponentialRandomBackOffPolicy();
+        backOffPolicy.setInitialInterval(builder.retryInitialBackoff.toMillis());
+        backOffPolicy.setMaxInterval(builder.retryMaxBackoff.toMillis());
+        backOffPolicy.setMultiplier(2.0);
+
+        RetryTemplate retryTemplate = new RetryTemplate();
+        retryTemplate.setRetryPolicy(retryPolicy);
+        retryTemplate.setBackOffPolicy(backOffPolicy);
+        return retryTemplate;
+    }
+
+    /**
+     * 지정한 페이지를 API로 조회합니다. 실패하면 재시도 정책에 따라 다시 요청합니다.
+     *
+     * @param position 조회할 페이지 위치
+     * @return 페이지 응답
+     */
+    PageResponse<T> fetch(PagePosition position) {
+        return executeWithRetry(position.getPage(), context -> requestPage(position));
+    }
+
+    /**
+     * 지정한 페이지를 요청하고, 응답 본문을 읽을 수 있는 스트리밍 파서를 반환합니다.
+     * RestTemplate의 요청 팩토리와 오류 핸들러를 그대로 사용하므로 타임아웃, 인터셉터, 오류 처리 방식은 일반 조회와 같습니다.
+     *
+     * @param position 조회할 페이지 위치
+     * @return 응답 본문의 스트리밍 파서
+     */
+    StreamingPageParser<T> open(PagePosition position) throws IOException {
+        return executeWithRetry(position.getPage(), context -> requestStreamingPage(position));
+    }
+
+    /**
+     * 재시도 정책과 서킷 브레이커를 적용하여 페이지 요청을 실행합니다.
+     * 서킷이 열려 있으면 요청을 보내지 않고 기다리며, 각 시도의 성공/실패를 서킷 브레이커에 반영합니다.
+     *
+     * @param page     요청할 페이지 번호 (로그용)
+     * @param callback 한 번의 요청을 실행하는 콜백
+     * @return 요청 결과
+     */
+    private <R, E extends Throwable> R executeWithRetry(int page, RetryCallback<R, E> callback) throws E {
+        return retryTemplate.execute(context -> {
+            if (context.getRetryCount() > 0) {
+                log.warn("Retrying page {} (attempt {}). Reason: {}",
+                        page, context.getRetryCount() + 1, context.getLastThrowable().getMessage());
+            }
+            if (circuitBreaker == null) {
+                return callback.doWithRetry(context);
+            }
+            circuitBreaker.acquire();
+            boolean success = false;
+            try {
+                R result = callback.doWithRetry(context);
+                success = true;
+                return result;
+            } finally {
+                circuitBreaker.record(success);
+            }
+        });
+    }
+
+    private PageResponse<T> requestPage(PagePosition position) {
+        if (pageSizeController != null) {
+            return requestMeasuredPage(position);
+        }
+        // RestTemplate을 사용하여 API를 호출한다.
+        ResponseEntity<PageResponse<T>> response = restTemplate.exchange(
+                createUri(position),
+                HttpMethod.GET,
+                null, // 요청 본문(body)은 없음
+                responseType
+        );
+        return response.getBody();
+    }
+
+    /**
+     * 페이지를 요청하고 응답 시간과 응답 본문 크기를 페이지 크기 컨트롤러에 전달합니다.
+     *
+     * 응답 본문 크기는 `Content-Length` 헤더가 아니라 역직렬화하면서 실제로 읽은 바이트 수로 측정합니다.
+     * chunked 응답에는 `Content-Length`가 없고(-1), gzip 응답의 `Content-Length`는 압축된 크기이므로
+     * 메모리와 역직렬화 비용에 비례하는 값은 압축을 푼 본문의 크기입니다.
+     */
+    private PageResponse<T> requestMeasuredPage(PagePosition position) {
+        long startNanos = System.nanoTime();
+        ResponseExtractor<ResponseEntity<PageResponse<T>>> responseExtractor =
+                restTemplate.responseEntityExtractor(responseType.getType());
+        ResponseEntity<PageResponse<T>> response;
+        long[] payloadBytes = new long[1];
+        try {
+            response = restTemplate.execute(
+                    createUri(position),
+                    HttpMethod.GET,
+                    restTemplate.httpEntityCallback(null, responseType.getType()),
+                    clientResponse -> {
+                        CountingClientHttpResponse countingResponse = new CountingClientHttpResponse(clientResponse);
+                        try {
+                            return responseExtractor.extractData(countingResponse);
+                        } finally {
+                            payloadBytes[0] = countingResponse.getByteCount();
+                        }
+                    }
+            );
+        } catch (RuntimeException ex) {
+            pageSizeController.recordFailure();
+            throw ex;
+        }
+        long latencyMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        pageSizeController.recordSuccess(latencyMillis, payloadBytes[0]);
+        return response == null ? null : response.getBody();
+    }
+
+    private StreamingPageParser<T> requestStreamingPage(PagePosition position) throws IOException {
+        URI uri = URI.create(createUri(position));
+        ClientHttpRequest request = restTemplate.getRequestFactory().createRequest(uri, HttpMethod.GET);
+        request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+        ClientHttpResponse response = request.execute();
+        try {
+            if (restTemplate.getErrorHandler().hasError(response)) {
+                restTemplate.getErrorHandler().handleError(uri, HttpMethod.GET, response);
+            }
+            return new StreamingPageParser<>(response, objectMapper, itemType);
+        } catch (IOException | RuntimeException ex) {
+            response.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * 페이지 요청 URI를 생성합니다.
+     *
+     * @param position 조회할 페이지 위치
+     * @return 요청 URI 문자열
+     */
+    private String createUri(PagePosition position) {
+        // API 요청을 위한 URI를 생성한다. (e.g., http://localhost:8080/api/members?page=0&size=10)
+        // 커서 모드에서는 커서를 전달한다. (e.g., http://localhost:8080/api/v1/members/keyset?afterId=10&size=10)
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(baseUrl);
+        if (cursorParameter == null) {
+            uriBuilder.queryParam("page", position.getPage());
+        } else if (position.getCursor() != null) {
+            uriBuilder.queryParam(cursorParameter, position.getCursor());
+        }
+        uriBuilder.queryParam("size", position.getSize());
+        return uriBuilder.toUriString();
+    }
+
+    /**
+     * 응답 본문에서 읽은 바이트 수를 세는 응답 래퍼입니다.
+     * {@link GzipResponseInterceptor}가 압축을 푼 뒤의 본문을 감싸므로, 압축 여부와 관계없이 디코딩된 크기를 셉니다.
+     */
+    private static class CountingClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private CountingInputStream body;
+
+        CountingClientHttpResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        long getByteCount() {
+            return body == null ? 0 : body.count;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -1,13 +1,11 @@
 package com.example.springbatch5.reader;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -15,7 +13,25 @@ import java.util.List;
  *
  * 이 클래스는 {@link AbstractItemCountingItemStreamItemReader}를 상속받아,
  * Spring Batch가 재시작(restart) 시 상태를 올바르게 관리할 수 있도록 아이템 개수를 자동으로 카운팅합니다.
- * RestTemplate을 사용하여 지정된 URL로 GET 요청을 보내고, 페이징된 응답을 처리합니다.
+ * 리더는 아이템 버퍼, 오류 처리, 체크포인트를 관리하고, 페이지 요청은 {@link HttpPageFetcher}가,
+ * 어떤 페이지를 어떤 순서로 요청할지는 {@link PageFetchStrategy}가 담당합니다.
+ *
+ * - {@link SequentialPageFetchStrategy}: 페이지 번호를 하나씩 늘려가며 조회합니다. (기본값, `pageRange`, `pageSizeController`)
+ * - {@link ConcurrentPageFetchStrategy}: `concurrency`개의 페이지 요청을 미리 보내 두고 페이지 순서대로 소비합니다.
+ * - {@link CursorPageFetchStrategy}: 응답의 `nextCursor`를 `cursorParameter`로 전달하여 다음 페이지를 조회합니다.
+ * - {@link RedrivePageFetchStrategy}: {@link DeadPageLedger}에 기록된 페이지(`redrivePages`)만 다시 조회합니다.
+ *
+ * 여러 옵션이 함께 설정되면 `redrivePages`, `cursorParameter`, `concurrency` 순으로 우선합니다.
+ * 재시도, 서킷 브레이커, 페이지 크기 측정은 전략과 관계없이 {@link HttpPageFetcher}가 모든 요청에 적용합니다.
+ *
+ * 재시작 시에는 ExecutionContext에 저장된 페이지 위치(번호, 크기, 커서)와 페이지 내 인덱스로 바로 이동하므로,
+ * 이미 처리한 페이지를 다시 요청하지 않고 한 번의 API 호출로 중단된 지점부터 이어서 읽습니다.
+ *
+ * `streaming`이 설정되면 응답 본문을 {@link StreamingPageParser}로 읽어 `content`의 아이템을 디코딩하는 즉시 반환합니다.
+ * 페이지 전체를 `List<T>`로 만들지 않으므로 페이지 크기를 크게 잡아도 요청마다 큰 메모리 할당이 발생하지 않습니다.
+ *
+ * 재시도 후에도 실패한 페이지는 `ignoreErrors`가 설정되어 있고 전략이 건너뛸 수 있는 경우에만 건너뛰며,
+ * 건너뛴 페이지는 {@link DeadPageLedger}에 기록됩니다.
  *
  * @param <T> API 응답의 content 필드에 포함된 개별 아이템의 DTO(Data Transfer Object) 타입입니다.
  */
@@ -24,47 +40,49 @@ import java.util.List;
 public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
 
 
-    // 요청을 보낼 기본 URL
-    private final String baseUrl;
+    // 페이지 하나를 요청하는 클라이언트 (재시도, 서킷 브레이커 포함)
+    private final HttpPageFetcher<T> fetcher;
 
-    // HTTP 통신을 위해 사용하는 Spring의 동기 클라이언트
-    private final RestTemplate restTemplate;
+    // 다음에 요청할 페이지를 결정하는 전략
+    private final PageFetchStrategy<T> fetchStrategy;
 
-    // 한 번의 API 호출로 가져올 데이터의 개수 (페이지 크기)
+    // 설정된 페이지 크기 (페이지 크기를 저장하기 전의 ExecutionContext로 재시작할 때 사용)
     private final int size;
 
-    /**
-     * RestTemplate이 제네릭 타입을 포함한 응답을 올바르게 역직렬화(deserialize)하도록 돕는 객체입니다.
-     *
-     * ### 왜 ParameterizedTypeReference가 필요한가? (중요)
-     * Java의 제네릭은 컴파일 시점에만 타입 검사를 하고, 런타임에는 타입 정보가 지워지는 '타입 소거(Type Erasure)' 특징이 있습니다.
-     * 만약 `restTemplate.exchange(url, ..., PageResponse.class)` 와 같이 호출하면,
-     * RestTemplate은 `PageResponse`라는 클래스 정보만 알 수 있고, 제네릭 `<T>`가 어떤 타입인지 알 수 없습니다.
-     * 결과적으로, JSON 응답의 `content` 필드에 있는 객체들을 `T` 타입(예: MemberResponse)으로 변환하지 못하고,
-     * 기본 자료구조인 `LinkedHashMap`으로 변환하게 됩니다. 이로 인해 이후 처리 과정에서 `ClassCastException`이 발생합니다.
-     *
-     * `new ParameterizedTypeReference<PageResponse<T>>() {}` 와 같이 익명 클래스를 생성하면,
-     * 제네릭 타입 정보(`PageResponse<T>`)가 클래스 메타데이터에 저장되어 런타임에도 유지됩니다.
-     * RestTemplate은 이 정보를 리플렉션(reflection)을 통해 읽어와 `content` 필드를 정확한 `T` 타입의 리스트로 변환할 수 있습니다.
-     */
-    private final ParameterizedTypeReference<PageResponse<T>> responseType;
-
     // API 호출 중 오류가 발생했을 때 해당 오류를 무시하고 계속 진행할지 여부를 결정하는 플래그
     // - true: 오류가 발생해도 Step을 실패시키지 않고, null을 반환하여 해당 페이지만 건너뜁니다.
     // - false: 오류가 발생하면 예외를 던져 Step을 즉시 실패시킵니다. (기본값)
     private final boolean ignoreErrors;
 
+    // 응답 본문을 스트리밍으로 디코딩할지 여부
+    private final boolean streaming;
+
+    // 건너뛴 페이지를 기록하는 저장소 (null이면 기록하지 않음)
+    private final DeadPageLedger deadPageLedger;
+
     // 현재 페이지에서 가져온 아이템들을 임시로 저장하는 리스트 (버퍼 역할)
     private List<T> items;
 
-    // 요청할 페이지 번호 (0부터 시작)
-    private int page = 0;
+    // 스트리밍 모드에서 현재 읽고 있는 페이지 응답
+    private StreamingPageParser<T> streamingPage;
+
+    // 현재 읽고 있는 페이지의 위치 (아직 조회한 페이지가 없으면 null)
+    private PagePosition itemsPosition;
 
-    // `items` 리스트에서 현재 읽어야 할 아이템의 인덱스
+    // 현재 페이지에서 다음에 읽을 아이템의 인덱스
     private int currentItemIndex = 0;
 
-    // API 응답에서 마지막 페이지인지 여부를 저장하는 플래그
-    private boolean lastPage = false;
+    // ExecutionContext에 저장될 현재 페이지 번호와 페이지 내 인덱스의 키
+    private static final String CURRENT_PAGE = "current.page";
+    private static final String CURRENT_ITEM_INDEX = "current.item.index";
+    private static final String CURRENT_PAGE_SIZE = "current.page.size";
+
+    // ExecutionContext에 저장될 현재 페이지 커서의 키
+    private static final String CURRENT_CURSOR = "current.cursor";
+
+    // 재시작 시 ExecutionContext에서 복원한 페이지 위치와 페이지 내 인덱스 (복원할 값이 없으면 null, -1)
+    private PagePosition restartPosition;
+    private int restartItemIndex = -1;
 
     /**
      * 빌더 패턴을 통해 HttpPageItemReader의 인스턴스를 생성합니다.
@@ -73,11 +91,28 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
      * @param builder 필요한 모든 설정값이 담긴 HttpPageItemReaderBuilder 객체
      */
     HttpPageItemReader(HttpPageItemReaderBuilder<T> builder) {
-        this.baseUrl = builder.baseUrl;
-        this.restTemplate = builder.restTemplate;
+        this.fetcher = new HttpPageFetcher<>(builder);
+        this.fetchStrategy = createFetchStrategy(builder, fetcher);
         this.size = builder.size;
-        this.responseType = builder.responseType;
         this.ignoreErrors = builder.ignoreErrors;
+        this.streaming = builder.streaming;
+        this.deadPageLedger = builder.deadPageLedger;
+        // ExecutionContext에 저장될 이 스트림의 이름을 설정합니다.
+        // Spring Batch가 이 이름을 키로 사용하여 상태(예: 읽은 아이템 개수, 현재 페이지)를 저장합니다.
+        setName(HttpPageItemReader.class.getSimpleName());
+    }
+
+    private static <T> PageFetchStrategy<T> createFetchStrategy(HttpPageItemReaderBuilder<T> builder, HttpPageFetcher<T> fetcher) {
+        if (builder.redrivePages != null) {
+            return new RedrivePageFetchStrategy<>(fetcher, builder.redrivePages, builder.deadPageLedger);
+        }
+        if (builder.cursorParameter != null) {
+            return new CursorPageFetchStrategy<>(fetcher, builder.size, builder.pageSizeController);
+        }
+        if (builder.concurrency > 1) {
+            return new ConcurrentPageFetchStrategy<>(fetcher, builder.size, builder.startPage, builder.endPage, builder.concurrency);
+        }
+        return new SequentialPageFetchStrategy<>(fetcher, builder.size, builder.pageSizeController, builder.startPage, builder.endPage);
     }
 
     /**
@@ -87,66 +122,131 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
      * @return 다음 아이템 객체. 더 이상 읽을 아이템이 없으면 null을 반환합니다.
      */
     @Override
-    protected T doRead() {
+    protected T doRead() throws Exception {
+        if (streaming) {
+            return doReadStreaming();
+        }
         // 아이템 버퍼가 비어있으면 새로운 페이지를 가져온다.
         // 이 로직을 반복문으로 감싸서, 오류 발생 시 다음 페이지를 계속 시도할 수 있도록 한다.
         while (items == null || currentItemIndex >= items.size()) {
+            PagePosition position = fetchStrategy.next();
             // 이미 마지막 페이지까지 모두 처리했다면, 더 이상 읽을 데이터가 없으므로 null을 반환한다.
-            if (lastPage) {
+            if (position == null) {
                 return null;
             }
 
-            // API 요청을 위한 URI를 생성한다. (e.g., http://localhost:8080/api/members?page=0&size=10)
-            UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromHttpUrl(baseUrl)
-                    .queryParam("page", page)
-                    .queryParam("size", size);
-
             PageResponse<T> pageResponse;
             try {
-                // 3. RestTemplate을 사용하여 API를 호출한다.
-                ResponseEntity<PageResponse<T>> response = restTemplate.exchange(
-                        uriBuilder.toUriString(),
-                        HttpMethod.GET,
-                        null, // 요청 본문(body)은 없음
-                        responseType
-                );
-                pageResponse = response.getBody();
-
+                pageResponse = fetchStrategy.fetch(position);
             } catch (Exception ex) {
-                // API 호출 중 예외가 발생했을 때의 처리
-                if (ignoreErrors) {
-                    // 오류 무시 옵션이 켜져 있으면, 경고 로그를 남기고 현재 페이지를 건너뛴다.
-                    log.error("API call for page {} failed and will be skipped. Reason: {}", page, ex.getMessage());
-                    this.page++; // 다음 페이지 번호로 이동
-                    continue;    // while문의 다음 반복을 실행하여 다음 페이지를 가져오도록 시도
-                } else {
-                    // 오류 무시 옵션이 꺼져 있으면, 예외를 던져 Job을 즉시 실패시킨다.
-                    log.error("API call for page {} failed.", page, ex);
-                    throw new RuntimeException("Failed to fetch page " + page, ex);
-                }
+                handleFetchFailure(position, ex);
+                continue;    // while문의 다음 반복을 실행하여 다음 페이지를 가져오도록 시도
             }
 
-            // 정상적으로 API를 호출한 후, 다음 요청을 위해 페이지 번호를 1 증가시킨다.
-            this.page++;
+            // 응답이 비어있으면 전략이 다음 위치를 결정하고, while문을 다시 실행하여 종료 여부를 확인한다.
+            applyPage(position, pageResponse);
+        }
 
-            // 4. 응답 본문이 비어있는지 확인한다.
-            if (pageResponse == null || pageResponse.getContent() == null || pageResponse.getContent().isEmpty()) {
-                // 응답이 비어있으면 마지막 페이지로 간주하고 읽기를 종료한다.
-                this.lastPage = true;
-                // 현재 페이지가 비었으므로, while문을 다시 실행하여 lastPage 조건을 확인하고 종료하도록 한다.
-                continue;
+        // 버퍼에서 다음 아이템을 하나씩 꺼내 반환한다.
+        T nextItem = items.get(currentItemIndex);
+        currentItemIndex++;
+        return nextItem;
+    }
+
+    /**
+     * 조회한 페이지를 전략에 반영하고, 아이템이 있으면 내부 버퍼에 저장합니다.
+     *
+     * @param position     조회한 페이지 위치
+     * @param pageResponse 페이지 응답
+     */
+    private void applyPage(PagePosition position, PageResponse<T> pageResponse) {
+        List<T> content = pageResponse == null ? null : pageResponse.getContent();
+        int itemCount = content == null ? 0 : content.size();
+        fetchStrategy.completed(
+                position,
+                itemCount,
+                pageResponse != null && pageResponse.isLast(),
+                pageResponse == null ? null : pageResponse.getNextCursor()
+        );
+        if (itemCount == 0) {
+            return;
+        }
+
+        this.items = content;
+        this.itemsPosition = position;
+        this.currentItemIndex = 0;
+    }
+
+    /**
+     * 재시도 후에도 조회에 실패한 페이지를 처리합니다.
+     * 오류 무시 옵션이 켜져 있고 전략이 건너뛸 수 있으면 페이지를 기록하고 다음 페이지로 이동하며,
+     * 그렇지 않으면 예외를 던져 Job을 즉시 실패시킵니다.
+     *
+     * @param position 조회에 실패한 페이지 위치
+     * @param ex       마지막 요청에서 발생한 예외
+     */
+    private void handleFetchFailure(PagePosition position, Exception ex) {
+        if (!ignoreErrors || !fetchStrategy.isSkippable()) {
+            log.error("API call for page {} failed.", position.getPage(), ex);
+            throw new RuntimeException("Failed to fetch page " + position.getPage(), ex);
+        }
+        log.error("API call for page {} (size {}) failed and will be skipped. Reason: {}",
+                position.getPage(), position.getSize(), ex.getMessage());
+        if (deadPageLedger != null) {
+            deadPageLedger.record(new DeadPage(position.getPage(), position.getSize(), ex.getMessage()));
+        }
+        fetchStrategy.skipped(position);
+    }
+
+    /**
+     * 스트리밍 모드에서 다음 아이템을 읽습니다.
+     * 현재 페이지 응답에서 아이템을 하나씩 디코딩하고, 페이지를 모두 읽으면 응답을 닫고 다음 페이지를 요청합니다.
+     *
+     * @return 다음 아이템 객체. 더 이상 읽을 아이템이 없으면 null을 반환합니다.
+     */
+    private T doReadStreaming() throws IOException {
+        while (true) {
+            if (streamingPage != null) {
+                T item = streamingPage.next();
+                if (item != null) {
+                    currentItemIndex++;
+                    return item;
+                }
+                // content를 모두 읽은 뒤에야 last, nextCursor 값을 알 수 있다.
+                finishStreamingPage();
             }
 
-            // 5. 가져온 데이터를 내부 버퍼(items)에 저장하고 상태를 업데이트한다.
-            this.items = pageResponse.getContent();
-            this.lastPage = pageResponse.isLast();
+            PagePosition position = fetchStrategy.next();
+            if (position == null) {
+                return null;
+            }
+            try {
+                this.streamingPage = fetcher.open(position);
+            } catch (Exception ex) {
+                handleFetchFailure(position, ex);
+                continue;
+            }
+            this.itemsPosition = position;
             this.currentItemIndex = 0;
         }
+    }
 
-        // 6. 버퍼에서 다음 아이템을 하나씩 꺼내 반환한다.
-        T nextItem = items.get(currentItemIndex);
-        currentItemIndex++;
-        return nextItem;
+    /**
+     * 다 읽은 스트리밍 페이지를 전략에 반영하고 응답을 닫습니다.
+     */
+    private void finishStreamingPage() throws IOException {
+        fetchStrategy.completed(itemsPosition, streamingPage.getCount(), streamingPage.isLast(), streamingPage.getNextCursor());
+        closeStreamingPage();
+    }
+
+    private void closeStreamingPage() throws IOException {
+        if (streamingPage != null) {
+            try {
+                streamingPage.close();
+            } finally {
+                this.streamingPage = null;
+            }
+        }
     }
 
     /**
@@ -155,13 +255,95 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
      */
     @Override
     protected void doOpen() {
-        this.page = 0;
-        this.currentItemIndex = 0;
         this.items = null;
-        this.lastPage = false;
-        // ExecutionContext에 저장될 이 스트림의 이름을 설정합니다.
-        // Spring Batch가 이 이름을 키로 사용하여 상태(예: 읽은 아이템 개수)를 저장합니다.
-        setName(HttpPageItemReader.class.getSimpleName());
+        this.itemsPosition = null;
+        this.currentItemIndex = 0;
+        fetchStrategy.open();
+    }
+
+    /**
+     * ExecutionContext에서 재시작할 페이지 위치와 페이지 내 인덱스를 복원한 뒤 스트림을 엽니다.
+     * 복원한 값은 상위 클래스가 호출하는 {@link #jumpToItem(int)}에서 사용됩니다.
+     *
+     * @param executionContext Step 실행 컨텍스트
+     */
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        this.restartPosition = null;
+        this.restartItemIndex = -1;
+        if (isSaveState() && executionContext.containsKey(getExecutionContextKey(CURRENT_PAGE))) {
+            this.restartPosition = new PagePosition(
+                    executionContext.getInt(getExecutionContextKey(CURRENT_PAGE)),
+                    // 페이지 크기를 저장하기 전의 ExecutionContext는 설정된 크기로 조회한다.
+                    executionContext.getInt(getExecutionContextKey(CURRENT_PAGE_SIZE), size),
+                    executionContext.containsKey(getExecutionContextKey(CURRENT_CURSOR))
+                            ? executionContext.getString(getExecutionContextKey(CURRENT_CURSOR))
+                            : null
+            );
+            this.restartItemIndex = executionContext.getInt(getExecutionContextKey(CURRENT_ITEM_INDEX));
+        }
+        super.open(executionContext);
+    }
+
+    /**
+     * 읽은 아이템 개수와 함께 현재 페이지 번호, 페이지 크기, 페이지 내 인덱스를 ExecutionContext에 저장합니다.
+     * 커서 모드에서는 현재 페이지를 요청할 때 사용한 커서도 함께 저장합니다.
+     * chunk 트랜잭션 안에서 호출되므로, 재처리 모드에서는 이때 처리가 끝난 페이지를 {@link DeadPageLedger}에서 제거합니다.
+     *
+     * @param executionContext Step 실행 컨텍스트
+     */
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        fetchStrategy.update(itemsPosition, items == null || currentItemIndex >= items.size());
+        if (isSaveState() && itemsPosition != null) {
+            executionContext.putInt(getExecutionContextKey(CURRENT_PAGE), itemsPosition.getPage());
+            executionContext.putInt(getExecutionContextKey(CURRENT_ITEM_INDEX), currentItemIndex);
+            executionContext.putInt(getExecutionContextKey(CURRENT_PAGE_SIZE), itemsPosition.getSize());
+            if (itemsPosition.getCursor() != null) {
+                executionContext.putString(getExecutionContextKey(CURRENT_CURSOR), itemsPosition.getCursor());
+            } else {
+                executionContext.remove(getExecutionContextKey(CURRENT_CURSOR));
+            }
+        }
+    }
+
+    /**
+     * 재시작 시 이전에 읽은 아이템 개수만큼 건너뜁니다.
+     * 저장된 페이지 위치가 있으면 해당 페이지만 한 번 조회하여 페이지 내 인덱스로 이동하고,
+     * 없으면(이전 버전에서 저장된 ExecutionContext) 상위 클래스처럼 아이템을 하나씩 다시 읽습니다.
+     *
+     * @param itemIndex 이전 실행에서 읽은 아이템 개수
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        if (restartPosition == null) {
+            super.jumpToItem(itemIndex);
+            return;
+        }
+
+        if (!fetchStrategy.restart(restartPosition)) {
+            // 중단된 페이지를 다시 조회할 수 없으면 처음부터 읽는다. (e.g. 이미 처리되어 재처리 목록에서 제거된 페이지)
+            log.info("Page {} is no longer available, restarting from the first page (item count {})",
+                    restartPosition.getPage(), itemIndex);
+            return;
+        }
+        PagePosition position = fetchStrategy.next();
+
+        if (streaming) {
+            // 스트리밍 모드에서는 중단된 페이지를 다시 열고 이미 읽은 아이템을 디코딩하지 않고 건너뛴다.
+            this.streamingPage = fetcher.open(position);
+            this.streamingPage.skip(restartItemIndex);
+            this.itemsPosition = position;
+            this.currentItemIndex = restartItemIndex;
+        } else {
+            applyPage(position, fetchStrategy.fetch(position));
+            if (items == null) {
+                return;
+            }
+            this.currentItemIndex = restartItemIndex;
+        }
+        log.info("Restarting from page {} at index {} (item count {})", position.getPage(), restartItemIndex, itemIndex);
     }
 
     /**
@@ -169,10 +351,11 @@ public class HttpPageItemReader<T> extends AbstractItemCountingItemStreamItemRea
      * 사용했던 리소스를 정리하고 상태를 초기화합니다.
      */
     @Override
-    protected void doClose() {
+    protected void doClose() throws Exception {
+        closeStreamingPage();
+        fetchStrategy.close();
         this.items = null;
-        this.page = 0;
+        this.itemsPosition = null;
         this.currentItemIndex = 0;
-        this.lastPage = false;
     }
 }
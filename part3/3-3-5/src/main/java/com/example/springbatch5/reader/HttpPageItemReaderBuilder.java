@@ -1,9 +1,14 @@
 package com.example.springbatch5.reader;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.util.Assert;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * HttpPageItemReader를 생성하기 위한 빌더 클래스.
  *
@@ -15,6 +20,19 @@ public class HttpPageItemReaderBuilder<T> {
     protected int size = 10;
     protected ParameterizedTypeReference<PageResponse<T>> responseType;
     protected boolean ignoreErrors = false; // 기본값은 false
+    protected int concurrency = 1; // 기본값은 순차 조회
+    protected String cursorParameter; // 기본값은 페이지 번호 조회
+    protected boolean streaming = false; // 기본값은 페이지 단위 역직렬화
+    protected ObjectMapper objectMapper;
+    protected AdaptivePageSizeController pageSizeController; // 기본값은 고정 페이지 크기
+    protected int retryMaxAttempts = 1; // 기본값은 재시도하지 않음
+    protected Duration retryInitialBackoff = Duration.ofMillis(500);
+    protected Duration retryMaxBackoff = Duration.ofSeconds(30);
+    protected PageFetchCircuitBreaker circuitBreaker;
+    protected DeadPageLedger deadPageLedger;
+    protected List<DeadPage> redrivePages;
+    protected int startPage = 0;
+    protected int endPage = -1; // 기본값은 마지막 페이지까지 조회
 
     public HttpPageItemReaderBuilder<T> baseUrl(String baseUrl) {
         this.baseUrl = baseUrl;
@@ -47,11 +65,147 @@ public class HttpPageItemReaderBuilder<T> {
         return this;
     }
 
+    /**
+     * 동시에 요청해 둘 최대 페이지 수를 설정합니다.
+     * 1보다 크면 현재 페이지를 처리하는 동안 다음 페이지들을 미리 요청하며, 아이템은 페이지 순서대로 반환됩니다.
+     * @param concurrency 동시에 요청할 페이지 수 (기본값 1)
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> concurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * continuation token(커서) 페이징 모드를 설정합니다.
+     * 페이지 번호 대신 이전 응답의 `nextCursor`를 지정한 쿼리 파라미터로 전달하여 다음 페이지를 요청합니다.
+     * 커서 모드에서는 다음 커서를 알아야 하므로 동시 조회를 사용할 수 없고, 오류가 발생한 페이지를 건너뛸 수 없습니다.
+     * @param cursorParameter 커서를 전달할 쿼리 파라미터 이름 (e.g. afterId)
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> cursorParameter(String cursorParameter) {
+        this.cursorParameter = cursorParameter;
+        return this;
+    }
+
+    /**
+     * 응답 본문의 content 배열을 아이템 단위로 디코딩하는 스트리밍 모드를 설정합니다.
+     * 페이지 전체를 List로 만들지 않으므로 큰 페이지 크기에서도 요청마다 큰 메모리 할당이 발생하지 않습니다.
+     * 스트리밍 모드에서는 응답을 끝까지 읽어야 다음 페이지 정보를 알 수 있으므로 동시 조회를 사용할 수 없습니다.
+     * @param streaming true로 설정하면 스트리밍 모드로 동작합니다.
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> streaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    /**
+     * 스트리밍 모드에서 아이템 역직렬화에 사용할 ObjectMapper를 설정합니다.
+     * 설정하지 않으면 {@link Jackson2ObjectMapperBuilder}의 기본 설정으로 생성합니다.
+     * @param objectMapper ObjectMapper
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> objectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        return this;
+    }
+
+    /**
+     * 응답 시간, 응답 크기, 오류율에 따라 페이지 크기를 조절하는 적응형 모드를 설정합니다.
+     * `size`는 시작 크기로 사용되며, 이후 크기는 컨트롤러의 최소/최대 범위 안에서 2배 단위로 바뀝니다.
+     * 요청 순서대로 측정값을 반영해야 하므로 동시 조회, 스트리밍 모드와 함께 사용할 수 없습니다.
+     * @param pageSizeController 리더 전용 페이지 크기 컨트롤러
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> pageSizeController(AdaptivePageSizeController pageSizeController) {
+        this.pageSizeController = pageSizeController;
+        return this;
+    }
+
+    /**
+     * 페이지 요청이 실패했을 때의 재시도 정책을 설정합니다.
+     * 연결 오류, 5xx, 429 응답만 재시도하며, 대기 시간은 `initialBackoff`부터 2배씩 늘어나고 무작위로 흩어집니다.
+     * @param maxAttempts    최초 요청을 포함한 최대 시도 횟수 (기본값 1)
+     * @param initialBackoff 첫 재시도 전 대기 시간
+     * @param maxBackoff     재시도 간 최대 대기 시간
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> retry(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.retryMaxAttempts = maxAttempts;
+        this.retryInitialBackoff = initialBackoff;
+        this.retryMaxBackoff = maxBackoff;
+        return this;
+    }
+
+    /**
+     * 외부 API가 불안정할 때 페이지 요청을 멈추는 서킷 브레이커를 설정합니다.
+     * @param circuitBreaker 서킷 브레이커
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> circuitBreaker(PageFetchCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * `ignoreErrors`로 건너뛴 페이지를 기록할 저장소를 설정합니다.
+     * `redrivePages`와 함께 설정하면 다시 처리한 페이지를 체크포인트 시점에 이 저장소에서 제거합니다.
+     * @param deadPageLedger 건너뛴 페이지 저장소
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> deadPageLedger(DeadPageLedger deadPageLedger) {
+        this.deadPageLedger = deadPageLedger;
+        return this;
+    }
+
+    /**
+     * 지정한 페이지만 순서대로 다시 조회하도록 설정합니다. {@link DeadPageLedger}에 기록된 페이지를 다시 처리할 때 사용합니다.
+     * 각 페이지는 기록된 크기로 요청하며, 목록의 마지막 페이지까지 조회하면 종료합니다.
+     * @param redrivePages 다시 조회할 페이지 목록
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> redrivePages(List<DeadPage> redrivePages) {
+        this.redrivePages = redrivePages;
+        return this;
+    }
+
+    /**
+     * 지정한 페이지 범위만 조회하도록 설정합니다. 파티션마다 다른 범위를 지정하여 하나의 API를 병렬로 읽을 때 사용합니다.
+     * 페이지 번호는 `size` 기준이므로 적응형 페이지 크기, 커서 모드와 함께 사용할 수 없습니다.
+     * @param startPage 조회할 첫 페이지 번호
+     * @param endPage   조회할 마지막 페이지 번호 (포함)
+     * @return 빌더 자신
+     */
+    public HttpPageItemReaderBuilder<T> pageRange(int startPage, int endPage) {
+        this.startPage = startPage;
+        this.endPage = endPage;
+        return this;
+    }
+
     public HttpPageItemReader<T> build() {
         Assert.notNull(baseUrl, "Base URL은 필수입니다.");
         Assert.notNull(restTemplate, "RestTemplate은 필수입니다.");
         Assert.notNull(responseType, "응답 타입(responseType)은 필수입니다.");
         Assert.isTrue(size > 0, "size는 0보다 커야 합니다.");
+        Assert.isTrue(concurrency > 0, "concurrency는 0보다 커야 합니다.");
+        Assert.isTrue(cursorParameter == null || concurrency == 1, "커서 모드에서는 concurrency를 설정할 수 없습니다.");
+        Assert.isTrue(!streaming || concurrency == 1, "스트리밍 모드에서는 concurrency를 설정할 수 없습니다.");
+        Assert.isTrue(pageSizeController == null || (concurrency == 1 && !streaming),
+                "적응형 페이지 크기는 동시 조회, 스트리밍 모드와 함께 사용할 수 없습니다.");
+        Assert.isTrue(retryMaxAttempts > 0, "retryMaxAttempts는 0보다 커야 합니다.");
+        Assert.isTrue(retryInitialBackoff.compareTo(retryMaxBackoff) <= 0, "retryInitialBackoff는 retryMaxBackoff보다 클 수 없습니다.");
+        Assert.isTrue(redrivePages == null
+                        || (concurrency == 1 && cursorParameter == null && !streaming && pageSizeController == null),
+                "redrivePages는 페이지 번호 모드의 순차 조회에서만 사용할 수 있습니다.");
+        Assert.isTrue(startPage >= 0, "startPage는 0 이상이어야 합니다.");
+        Assert.isTrue(endPage < 0 || startPage <= endPage, "startPage는 endPage보다 클 수 없습니다.");
+        Assert.isTrue((startPage == 0 && endPage < 0)
+                        || (cursorParameter == null && pageSizeController == null && redrivePages == null),
+                "pageRange는 페이지 번호 모드의 고정 페이지 크기에서만 사용할 수 있습니다.");
+        if (streaming && objectMapper == null) {
+            this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        }
 
         return new HttpPageItemReader<>(this);
     }
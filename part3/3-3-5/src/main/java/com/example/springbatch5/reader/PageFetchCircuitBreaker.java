@@ -0,0 +1,100 @@
+package com.example.springbatch5.reader;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 외부 API가 불안정할 때 페이지 요청을 잠시 멈추는 서킷 브레이커입니다.
+ *
+ * - CLOSED: 요청을 그대로 보냅니다. 연속 실패가 `failureThreshold`번 발생하면 OPEN으로 바뀝니다.
+ * - OPEN: `openDuration` 동안 요청을 보내지 않고 기다립니다. 실패로 처리하지 않으므로 Step이 실패하거나 페이지가 버려지지 않습니다.
+ * - HALF_OPEN: 대기가 끝나면 하나의 요청만 시험 삼아 보내고, 성공하면 CLOSED, 실패하면 다시 OPEN으로 바뀝니다.
+ *   시험 요청의 결과가 나올 때까지 다른 요청은 기다립니다.
+ *
+ * 동시 조회 모드에서는 여러 스레드가 하나의 서킷 브레이커를 공유합니다.
+ */
+@Slf4j
+public class PageFetchCircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openUntil = 0;
+
+    // HALF_OPEN 상태에서 시험 요청이 진행 중인지 여부
+    private boolean trialInFlight = false;
+
+    /**
+     * PageFetchCircuitBreaker 생성자
+     *
+     * @param failureThreshold 서킷을 여는 연속 실패 횟수
+     * @param openDuration     서킷이 열린 뒤 요청을 멈추는 시간
+     */
+    public PageFetchCircuitBreaker(int failureThreshold, Duration openDuration) {
+        Assert.isTrue(failureThreshold > 0, "failureThreshold는 0보다 커야 합니다.");
+        Assert.isTrue(!openDuration.isNegative() && !openDuration.isZero(), "openDuration은 0보다 커야 합니다.");
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+    }
+
+    /**
+     * 요청을 보내기 전에 호출합니다. 서킷이 열려 있으면 요청을 보낼 수 있을 때까지 기다립니다.
+     */
+    public synchronized void acquire() {
+        try {
+            while (true) {
+                if (state == State.CLOSED) {
+                    return;
+                }
+                if (state == State.OPEN) {
+                    long waitMillis = openUntil - System.currentTimeMillis();
+                    if (waitMillis > 0) {
+                        wait(waitMillis);
+                        continue;
+                    }
+                    state = State.HALF_OPEN;
+                    trialInFlight = false;
+                    log.info("Circuit half-open, sending a trial request");
+                }
+                if (!trialInFlight) {
+                    trialInFlight = true;
+                    return;
+                }
+                wait();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the circuit to close", ex);
+        }
+    }
+
+    /**
+     * 요청 결과를 반영합니다. {@link #acquire()}를 호출한 요청마다 한 번씩 호출해야 합니다.
+     *
+     * @param success 요청 성공 여부
+     */
+    public synchronized void record(boolean success) {
+        if (success) {
+            if (state != State.CLOSED) {
+                log.info("Circuit closed");
+            }
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+        } else {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openUntil = System.currentTimeMillis() + openMillis;
+                log.warn("Circuit opened after {} consecutive failures, pausing requests for {}ms", consecutiveFailures, openMillis);
+            }
+        }
+        trialInFlight = false;
+        notifyAll();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.springbatch5.reader;
+
+/**
+ * {@link HttpPageItemReader}가 어떤 페이지를 어떤 순서로 요청할지 결정하는 전략입니다.
+ *
+ * 리더는 아이템 버퍼, 오류 처리, 체크포인트(ExecutionContext)를 관리하고, 다음에 요청할 페이지와 마지막 페이지 판단은 전략이 담당합니다.
+ * 리더는 {@link #next()}로 받은 위치를 조회한 뒤 결과에 따라 {@link #completed}, {@link #skipped} 중 하나를 호출합니다.
+ *
+ * @param <T> 아이템 타입
+ * @see SequentialPageFetchStrategy
+ * @see ConcurrentPageFetchStrategy
+ * @see CursorPageFetchStrategy
+ * @see RedrivePageFetchStrategy
+ */
+interface PageFetchStrategy<T> {
+
+    /**
+     * 처음 페이지부터 조회하도록 상태를 초기화합니다. 리더가 열릴 때 호출됩니다.
+     */
+    void open();
+
+    /**
+     * 다음에 조회할 페이지 위치를 반환합니다. 조회 결과가 반영되기 전까지는 같은 위치를 반환합니다.
+     *
+     * @return 다음 페이지 위치, 더 이상 조회할 페이지가 없으면 null
+     */
+    PagePosition next();
+
+    /**
+     * 지정한 위치의 페이지를 조회합니다.
+     *
+     * @param position {@link #next()}가 반환한 위치
+     * @return 페이지 응답
+     */
+    PageResponse<T> fetch(PagePosition position);
+
+    /**
+     * 조회한 페이지의 결과를 반영하고 다음 위치로 이동합니다.
+     *
+     * @param position   조회한 위치
+     * @param itemCount  응답에 포함된 아이템 수
+     * @param last       응답의 마지막 페이지 여부
+     * @param nextCursor 응답의 다음 커서
+     */
+    void completed(PagePosition position, int itemCount, boolean last, String nextCursor);
+
+    /**
+     * 조회에 실패한 페이지를 건너뛸 수 있는지 여부를 반환합니다.
+     */
+    boolean isSkippable();
+
+    /**
+     * 조회에 실패한 페이지를 건너뛰고 다음 위치로 이동합니다. {@link #isSkippable()}이 true일 때만 호출됩니다.
+     *
+     * @param position 건너뛴 위치
+     */
+    void skipped(PagePosition position);
+
+    /**
+     * 재시작 시 중단된 페이지부터 다시 조회하도록 위치를 옮깁니다. 이후 {@link #next()}는 이 위치를 반환합니다.
+     *
+     * @param position ExecutionContext에서 복원한 위치
+     * @return 중단된 페이지로 이동했으면 true, 처음부터 다시 조회해야 하면 false
+     */
+    boolean restart(PagePosition position);
+
+    /**
+     * 체크포인트 시점에 처리가 끝난 페이지를 반영합니다. 리더의 `update()`에서 chunk 트랜잭션 안에 호출됩니다.
+     *
+     * @param position 현재 읽고 있는 페이지 위치 (아직 읽은 페이지가 없으면 null)
+     * @param consumed 현재 페이지의 아이템을 모두 읽었는지 여부
+     */
+    default void update(PagePosition position, boolean consumed) {
+    }
+
+    /**
+     * 전략이 사용한 리소스를 정리합니다. 리더가 닫힐 때 호출됩니다.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.springbatch5.reader;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 한 번의 페이지 요청이 가리키는 위치입니다.
+ * 같은 위치를 다시 요청하면 같은 아이템을 받으므로, 재시작 시 ExecutionContext에 저장된 위치로 중단된 페이지를 다시 조회합니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+class PagePosition {
+    // 페이지 번호 (`size` 기준, 커서 모드에서는 조회한 페이지 수)
+    private final int page;
+    // 요청한 페이지 크기
+    private final int size;
+    // 커서 모드에서 전달한 커서 (페이지 번호 모드이거나 첫 페이지이면 null)
+    private final String cursor;
+}
@@ -15,4 +15,5 @@ public class PageResponse<T> {
     private final long totalElements;
     private final boolean first;
     private final boolean last;
+    private final String nextCursor; // 커서(keyset) 페이징 응답의 다음 요청 커서, 페이지 번호 응답이면 null
 }
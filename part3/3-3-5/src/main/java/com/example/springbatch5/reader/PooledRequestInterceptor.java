@@ -0,0 +1,126 @@
+package com.example.springbatch5.reader;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시에 진행되는 요청 수를 `maxConnections`개로 제한하고, 요청 지연 시간과 연결 사용량을 측정하는 인터셉터입니다.
+ *
+ * 요청은 응답을 닫을 때까지 하나의 연결(permit)을 점유합니다. 스트리밍 모드처럼 응답 본문을 오래 읽는 경우에도
+ * 실제로 연결을 사용하는 동안은 사용 중으로 집계됩니다. 연결이 모두 사용 중이면 반환될 때까지 기다립니다.
+ *
+ * 제공하는 메트릭 (`client` 태그로 구분)
+ * - http.page.client.requests: 요청부터 응답 헤더 수신까지의 시간 (`status` 태그)
+ * - http.page.client.connections.active: 사용 중인 연결 수
+ * - http.page.client.connections.pending: 연결을 기다리는 요청 수
+ * - http.page.client.connections.utilization: 사용 중인 연결 비율 (0 ~ 1)
+ */
+class PooledRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String clientName;
+    private final int maxConnections;
+    private final Semaphore connections;
+    private final MeterRegistry meterRegistry;
+
+    PooledRequestInterceptor(String clientName, int maxConnections, MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.maxConnections = maxConnections;
+        this.connections = new Semaphore(maxConnections, true);
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("http.page.client.connections.active", connections, c -> maxConnections - c.availablePermits())
+                .tag("client", clientName)
+                .register(meterRegistry);
+        Gauge.builder("http.page.client.connections.pending", connections, Semaphore::getQueueLength)
+                .tag("client", clientName)
+                .register(meterRegistry);
+        Gauge.builder("http.page.client.connections.utilization", connections,
+                        c -> (double) (maxConnections - c.availablePermits()) / maxConnections)
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        try {
+            connections.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a connection", ex);
+        }
+
+        long startNanos = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return new ReleasingClientHttpResponse(response);
+        } catch (IOException | RuntimeException ex) {
+            connections.release();
+            throw ex;
+        } finally {
+            Timer.builder("http.page.client.requests")
+                    .tag("client", clientName)
+                    .tag("status", status)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 응답을 닫을 때 점유한 연결을 한 번만 반환하는 응답 래퍼
+     */
+    private class ReleasingClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        ReleasingClientHttpResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    connections.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.springbatch5.reader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DeadPageLedger}에 기록된 페이지만 기록된 크기로 다시 조회하는 전략입니다.
+ * 응답이 비어있어도 목록의 마지막 페이지까지 조회한 뒤 종료합니다.
+ *
+ * 모든 아이템을 읽은 페이지는 체크포인트 시점에 {@link DeadPageLedger#resolve(List)}로 기록에서 제거합니다.
+ * 체크포인트는 chunk 트랜잭션 안에서 저장되므로 기록 제거는 다시 처리한 아이템의 저장과 함께 커밋되며,
+ * 재시작하거나 Job을 다시 실행하면 아직 제거되지 않은 페이지만 다시 조회합니다.
+ *
+ * @param <T> 아이템 타입
+ */
+class RedrivePageFetchStrategy<T> implements PageFetchStrategy<T> {
+
+    private final HttpPageFetcher<T> fetcher;
+
+    // 다시 조회할 페이지 목록
+    private final List<DeadPage> redrivePages;
+
+    // 처리가 끝난 페이지를 제거할 저장소 (null이면 제거하지 않음)
+    private final DeadPageLedger deadPageLedger;
+
+    // `redrivePages`에서 다음으로 조회할 페이지의 인덱스
+    private int redriveIndex;
+
+    // 조회했지만 아직 기록에서 제거하지 않은 페이지 (조회한 순서)
+    private final List<DeadPage> unresolvedPages = new ArrayList<>();
+
+    RedrivePageFetchStrategy(HttpPageFetcher<T> fetcher, List<DeadPage> redrivePages, DeadPageLedger deadPageLedger) {
+        this.fetcher = fetcher;
+        this.redrivePages = redrivePages;
+        this.deadPageLedger = deadPageLedger;
+    }
+
+    @Override
+    public void open() {
+        this.redriveIndex = 0;
+        this.unresolvedPages.clear();
+    }
+
+    @Override
+    public PagePosition next() {
+        if (redriveIndex >= redrivePages.size()) {
+            return null;
+        }
+        DeadPage deadPage = redrivePages.get(redriveIndex);
+        return new PagePosition(deadPage.getPage(), deadPage.getSize(), null);
+    }
+
+    @Override
+    public PageResponse<T> fetch(PagePosition position) {
+        return fetcher.fetch(position);
+    }
+
+    @Override
+    public void completed(PagePosition position, int itemCount, boolean last, String nextCursor) {
+        unresolvedPages.add(redrivePages.get(redriveIndex));
+        this.redriveIndex++;
+    }
+
+    @Override
+    public boolean isSkippable() {
+        return true;
+    }
+
+    /**
+     * 다시 실패한 페이지는 기록에 남겨 두고 다음 페이지로 이동합니다.
+     */
+    @Override
+    public void skipped(PagePosition position) {
+        this.redriveIndex++;
+    }
+
+    /**
+     * 중단된 페이지부터 다시 조회합니다.
+     * 목록은 Step 시작 시점의 기록이므로, 중단된 페이지가 이미 기록에서 제거되었다면(모든 아이템을 처리함) 남은 기록을 처음부터 조회합니다.
+     */
+    @Override
+    public boolean restart(PagePosition position) {
+        unresolvedPages.clear();
+        for (int i = 0; i < redrivePages.size(); i++) {
+            if (redrivePages.get(i).getPage() == position.getPage() && redrivePages.get(i).getSize() == position.getSize()) {
+                this.redriveIndex = i;
+                return true;
+            }
+        }
+        this.redriveIndex = 0;
+        return false;
+    }
+
+    /**
+     * 아이템을 모두 읽은 페이지를 기록에서 제거합니다.
+     * 현재 페이지를 아직 다 읽지 않았다면, 조회한 페이지 중 마지막 페이지(현재 페이지)는 다음 체크포인트까지 남겨 둡니다.
+     */
+    @Override
+    public void update(PagePosition position, boolean consumed) {
+        int resolvedCount = consumed ? unresolvedPages.size() : unresolvedPages.size() - 1;
+        if (deadPageLedger == null || resolvedCount <= 0) {
+            return;
+        }
+        List<DeadPage> resolvedPages = unresolvedPages.subList(0, resolvedCount);
+        deadPageLedger.resolve(new ArrayList<>(resolvedPages));
+        resolvedPages.clear();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.springbatch5.reader;
+
+/**
+ * 페이지 번호를 하나씩 늘려가며 순서대로 조회하는 기본 전략입니다.
+ *
+ * `endPage`가 지정되면 `startPage`부터 `endPage`(포함)까지만 조회하므로, 파티션마다 범위가 다른 리더를 실행할 수 있습니다.
+ * {@link AdaptivePageSizeController}가 설정되면 지금까지 읽은 위치(`page * pageSize`)가 새 크기의 배수일 때만
+ * 페이지 크기를 바꾸고 페이지 번호를 다시 계산합니다.
+ *
+ * @param <T> 아이템 타입
+ */
+class SequentialPageFetchStrategy<T> implements PageFetchStrategy<T> {
+
+    protected final HttpPageFetcher<T> fetcher;
+
+    // 설정된 페이지 크기
+    private final int size;
+
+    // 페이지 크기를 조절하는 컨트롤러 (null이면 `size`로 고정)
+    private final AdaptivePageSizeController pageSizeController;
+
+    // 조회할 첫 페이지와 마지막 페이지(포함) 번호 (마지막 페이지가 -1이면 끝까지 조회)
+    protected final int startPage;
+    protected final int endPage;
+
+    // 다음에 요청할 페이지 번호와 페이지 크기
+    protected int page;
+    protected int pageSize;
+
+    // 마지막 페이지를 조회했는지 여부
+    protected boolean finished;
+
+    SequentialPageFetchStrategy(HttpPageFetcher<T> fetcher, int size, AdaptivePageSizeController pageSizeController,
+                                int startPage, int endPage) {
+        this.fetcher = fetcher;
+        this.size = size;
+        this.pageSizeController = pageSizeController;
+        this.startPage = startPage;
+        this.endPage = endPage;
+    }
+
+    @Override
+    public void open() {
+        this.page = startPage;
+        this.pageSize = size;
+        this.finished = false;
+        if (pageSizeController != null) {
+            pageSizeController.reset(size);
+        }
+    }
+
+    @Override
+    public PagePosition next() {
+        if (finished || (endPage >= 0 && page > endPage)) {
+            return null;
+        }
+        updatePageSize();
+        return new PagePosition(page, pageSize, null);
+    }
+
+    @Override
+    public PageResponse<T> fetch(PagePosition position) {
+        return fetcher.fetch(position);
+    }
+
+    @Override
+    public void completed(PagePosition position, int itemCount, boolean last, String nextCursor) {
+        this.page = position.getPage() + 1;
+        // 응답이 비어있으면 마지막 페이지로 간주한다.
+        this.finished = itemCount == 0 || last;
+    }
+
+    @Override
+    public boolean isSkippable() {
+        return true;
+    }
+
+    @Override
+    public void skipped(PagePosition position) {
+        this.page = position.getPage() + 1;
+    }
+
+    @Override
+    public boolean restart(PagePosition position) {
+        // 중단된 페이지는 저장된 크기로 다시 요청해야 같은 아이템을 받는다.
+        this.page = position.getPage();
+        this.pageSize = position.getSize();
+        if (pageSizeController != null) {
+            pageSizeController.reset(position.getSize());
+        }
+        return true;
+    }
+
+    /**
+     * 컨트롤러가 제안한 페이지 크기를 다음 요청에 적용합니다.
+     * 크기는 2배 단위로만 바뀌므로 줄이는 경우는 항상 적용되고, 늘리는 경우는 위치가 맞을 때까지 현재 크기를 유지합니다.
+     */
+    private void updatePageSize() {
+        if (pageSizeController == null) {
+            return;
+        }
+        int proposedSize = pageSizeController.getPageSize();
+        if (proposedSize == pageSize) {
+            return;
+        }
+        long offset = (long) page * pageSize;
+        if (offset % proposedSize != 0) {
+            return;
+        }
+        this.page = (int) (offset / proposedSize);
+        this.pageSize = proposedSize;
+    }
+}
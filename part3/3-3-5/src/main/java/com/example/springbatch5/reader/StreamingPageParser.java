@@ -0,0 +1,135 @@
+package com.example.springbatch5.reader;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * {@link PageResponse} 형태의 HTTP 응답 본문을 스트리밍으로 읽는 파서입니다.
+ *
+ * 응답 전체를 `List<T>`로 역직렬화하지 않고, `content` 배열의 아이템을 하나씩 디코딩하여 반환합니다.
+ * 페이지 크기가 커도 한 번에 메모리에 올라가는 아이템은 하나뿐이므로, 페이지 단위의 큰 할당과 GC 부담이 생기지 않습니다.
+ * `last`, `nextCursor`처럼 `content` 뒤에 오는 필드는 `content`를 모두 읽은 뒤에 확인할 수 있습니다.
+ *
+ * @param <T> content 배열에 포함된 아이템 타입
+ */
+class StreamingPageParser<T> implements Closeable {
+
+    private final ClientHttpResponse response;
+    private final JsonParser parser;
+    private final ObjectMapper objectMapper;
+    private final JavaType itemType;
+
+    // 현재 content 배열 안을 읽고 있는지 여부
+    private boolean inContent = false;
+
+    // 지금까지 읽은 content 아이템 수
+    private int count = 0;
+
+    // content 이외의 최상위 필드 값
+    private boolean last = false;
+    private String nextCursor;
+
+    /**
+     * 응답 본문을 열고 `content` 배열의 시작 위치까지 이동합니다.
+     *
+     * @param response     본문을 읽을 HTTP 응답 (파서를 닫을 때 함께 닫힙니다)
+     * @param objectMapper 아이템 역직렬화에 사용할 ObjectMapper
+     * @param itemType     content 아이템 타입
+     */
+    StreamingPageParser(ClientHttpResponse response, ObjectMapper objectMapper, JavaType itemType) throws IOException {
+        this.response = response;
+        this.objectMapper = objectMapper;
+        this.itemType = itemType;
+        this.parser = objectMapper.getFactory().createParser(response.getBody());
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Page response must be a JSON object");
+        }
+        advanceToContent();
+    }
+
+    /**
+     * content 배열의 다음 아이템을 디코딩하여 반환합니다.
+     *
+     * @return 다음 아이템, content를 모두 읽었으면 null
+     */
+    T next() throws IOException {
+        if (!moveToNextItem()) {
+            return null;
+        }
+        return objectMapper.readValue(parser, itemType);
+    }
+
+    /**
+     * content 배열의 아이템을 디코딩하지 않고 건너뜁니다. 재시작 시 이미 처리한 아이템을 건너뛸 때 사용합니다.
+     *
+     * @param itemCount 건너뛸 아이템 수
+     */
+    void skip(int itemCount) throws IOException {
+        for (int i = 0; i < itemCount && moveToNextItem(); i++) {
+            parser.skipChildren();
+        }
+    }
+
+    private boolean moveToNextItem() throws IOException {
+        if (!inContent) {
+            return false;
+        }
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            // content 배열을 모두 읽었으면 뒤에 남은 최상위 필드(last, nextCursor 등)를 읽는다.
+            inContent = false;
+            advanceToContent();
+            return false;
+        }
+        count++;
+        return true;
+    }
+
+    /**
+     * 최상위 필드를 순서대로 읽다가 content 배열을 만나면 멈춥니다. content가 없으면 객체 끝까지 읽습니다.
+     */
+    private void advanceToContent() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+                case "content" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        inContent = true;
+                        return;
+                    }
+                    parser.skipChildren();
+                }
+                case "last" -> last = parser.getValueAsBoolean();
+                case "nextCursor" -> nextCursor = value == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    boolean isLast() {
+        return last;
+    }
+
+    String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            parser.close();
+        } finally {
+            response.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.springbatch5.writer;
+
+import com.example.springbatch5.entity.Coupon;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 쿠폰을 multi-row INSERT(`INSERT ... VALUES (...), (...)`)로 저장하는 ItemWriter 입니다.
+ *
+ * JpaItemWriter는 `IDENTITY` 전략의 엔티티를 저장할 때 생성된 id를 받아야 하므로 JDBC 배치를 사용하지 못하고,
+ * 아이템마다 INSERT 한 번과 영속성 컨텍스트 관리 비용이 발생합니다.
+ * 이 Writer는 영속성 컨텍스트를 거치지 않고 chunk의 아이템을 `rowsPerStatement`개씩 묶어 하나의 INSERT 문으로 저장하므로,
+ * chunk 크기가 1,000이어도 DB 왕복은 한 번입니다. 저장된 쿠폰의 id는 `Coupon` 객체에 반영되지 않습니다.
+ *
+ * JdbcTemplate은 현재 트랜잭션의 커넥션을 사용하므로 chunk 트랜잭션과 함께 커밋/롤백됩니다.
+ *
+ * `ignoreDuplicates`가 설정되면 `INSERT ... ON DUPLICATE KEY UPDATE id = id`를 사용하여 (member_id, coupon_type) 유니크 키가 중복되는 행은 저장하지 않습니다.
+ * `INSERT IGNORE`는 중복 키 외의 오류(NOT NULL 위반, 값 잘림 등)까지 경고로 바꾸어 잘못된 행을 저장하므로 사용하지 않습니다.
+ */
+public class CouponBulkInsertItemWriter implements ItemWriter<Coupon> {
+
+    private static final String INSERT_SQL = "INSERT INTO coupon (coupon_name, coupon_type, discount_amount, expiration_date, issued, member_id) VALUES ";
+    // 중복 키인 행은 아무 값도 바꾸지 않는다.
+    private static final String ON_DUPLICATE_KEY_SQL = " ON DUPLICATE KEY UPDATE id = id";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 6;
+
+    // MySQL Prepared Statement의 최대 파라미터 개수
+    private static final int MAX_PARAMETERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rowsPerStatement;
+    private final boolean ignoreDuplicates;
+
+    // rowsPerStatement개의 행을 저장하는 INSERT 문 (매 chunk마다 다시 만들지 않도록 재사용)
+    private final String fullStatementSql;
+
+    /**
+     * CouponBulkInsertItemWriter 생성자
+     *
+     * @param dataSource       쿠폰 테이블의 DataSource
+     * @param rowsPerStatement 하나의 INSERT 문에 담을 최대 행 수
+     */
+    public CouponBulkInsertItemWriter(DataSource dataSource, int rowsPerStatement) {
+        this(dataSource, rowsPerStatement, false);
+    }
+
+    /**
+     * CouponBulkInsertItemWriter 생성자
+     *
+     * @param dataSource       쿠폰 테이블의 DataSource
+     * @param rowsPerStatement 하나의 INSERT 문에 담을 최대 행 수
+     * @param ignoreDuplicates true로 설정하면 이미 발급된 (member_id, coupon_type)은 저장하지 않습니다.
+     */
+    public CouponBulkInsertItemWriter(DataSource dataSource, int rowsPerStatement, boolean ignoreDuplicates) {
+        Assert.notNull(dataSource, "DataSource는 필수입니다.");
+        Assert.isTrue(rowsPerStatement > 0, "rowsPerStatement는 0보다 커야 합니다.");
+        Assert.isTrue(rowsPerStatement * COLUMN_COUNT <= MAX_PARAMETERS,
+                "rowsPerStatement는 " + MAX_PARAMETERS / COLUMN_COUNT + " 이하여야 합니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.rowsPerStatement = rowsPerStatement;
+        this.ignoreDuplicates = ignoreDuplicates;
+        this.fullStatementSql = createInsertSql(rowsPerStatement);
+    }
+
+    @Override
+    public void write(Chunk<? extends Coupon> chunk) {
+        List<? extends Coupon> items = chunk.getItems();
+        for (int from = 0; from < items.size(); from += rowsPerStatement) {
+            List<? extends Coupon> rows = items.subList(from, Math.min(from + rowsPerStatement, items.size()));
+            String sql = rows.size() == rowsPerStatement ? fullStatementSql : createInsertSql(rows.size());
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (Coupon coupon : rows) {
+                    ps.setString(index++, coupon.getCouponName());
+                    ps.setString(index++, coupon.getCouponType());
+                    ps.setBigDecimal(index++, coupon.getDiscountAmount());
+                    ps.setDate(index++, Date.valueOf(coupon.getExpirationDate()));
+                    ps.setBoolean(index++, coupon.isIssued());
+                    ps.setLong(index++, coupon.getMemberId());
+                }
+            });
+        }
+    }
+
+    private String createInsertSql(int rowCount) {
+        String sql = INSERT_SQL + String.join(", ", Collections.nCopies(rowCount, ROW_PLACEHOLDER));
+        return ignoreDuplicates ? sql + ON_DUPLICATE_KEY_SQL : sql;
+    }
+}
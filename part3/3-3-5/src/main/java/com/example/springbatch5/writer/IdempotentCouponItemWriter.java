@@ -0,0 +1,126 @@
+package com.example.springbatch5.writer;
+
+import com.example.springbatch5.entity.Coupon;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 같은 회원에게 같은 종류의 쿠폰을 한 번만 발급하는 ItemWriter 입니다. 재시작하거나 Job을 다시 실행해도 쿠폰이 중복 발급되지 않습니다.
+ *
+ * 1. Step 시작 시 이미 발급된 회원 id를 {@link MemberIdBloomFilter}에 적재합니다.
+ * 2. chunk의 쿠폰 중 Bloom filter에 없는 회원은 발급된 적이 없으므로 바로 저장합니다.
+ * 3. Bloom filter에 있는 회원은 오탐일 수 있으므로 chunk당 한 번의 `IN` 쿼리로 실제 발급 여부를 확인하고, 발급된 회원은 저장하지 않습니다.
+ * 4. 저장은 `INSERT ... ON DUPLICATE KEY UPDATE id = id`로 수행하므로, 확인 이후 다른 실행이 먼저 발급한 경우에도 (member_id, coupon_type) 유니크 키가 중복을 막습니다.
+ *
+ * {@link StepExecutionListener}를 구현하므로 Step의 Writer로 설정하면 리스너로 자동 등록됩니다.
+ */
+@Slf4j
+public class IdempotentCouponItemWriter implements ItemWriter<Coupon>, StepExecutionListener {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CouponBulkInsertItemWriter delegate;
+    private final String couponType;
+    private final long expectedNewMembers;
+    private final double falsePositiveRate;
+
+    // 이미 발급된 회원 id (Step 시작 시 적재)
+    private volatile MemberIdBloomFilter issuedMembers;
+
+    /**
+     * IdempotentCouponItemWriter 생성자
+     *
+     * @param dataSource         쿠폰 테이블의 DataSource
+     * @param couponType         발급할 쿠폰 종류
+     * @param expectedNewMembers 이번 실행에서 새로 발급할 것으로 예상되는 회원 수 (Bloom filter 크기 산정에 사용)
+     * @param falsePositiveRate  Bloom filter의 오탐률 (0 ~ 1)
+     */
+    public IdempotentCouponItemWriter(DataSource dataSource, String couponType, long expectedNewMembers, double falsePositiveRate) {
+        Assert.hasText(couponType, "couponType은 필수입니다.");
+        Assert.isTrue(expectedNewMembers >= 0, "expectedNewMembers는 0 이상이어야 합니다.");
+        Assert.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate는 0과 1 사이여야 합니다.");
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.delegate = new CouponBulkInsertItemWriter(dataSource, 1_000, true);
+        this.couponType = couponType;
+        this.expectedNewMembers = expectedNewMembers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 이미 발급된 회원 id를 Bloom filter에 적재합니다.
+     */
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        Long issuedCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM coupon WHERE coupon_type = ?", Long.class, couponType);
+        long count = issuedCount == null ? 0 : issuedCount;
+
+        MemberIdBloomFilter bloomFilter = new MemberIdBloomFilter(count + expectedNewMembers, falsePositiveRate);
+        jdbcTemplate.query(
+                "SELECT member_id FROM coupon WHERE coupon_type = ?",
+                rs -> {
+                    bloomFilter.put(rs.getLong(1));
+                },
+                couponType
+        );
+        this.issuedMembers = bloomFilter;
+        log.info("Loaded {} issued members of coupon type {} into bloom filter", count, couponType);
+    }
+
+    @Override
+    public void write(Chunk<? extends Coupon> chunk) throws Exception {
+        Assert.state(issuedMembers != null, "beforeStep에서 발급된 회원을 적재해야 합니다.");
+
+        List<Coupon> toIssue = new ArrayList<>();
+        List<Coupon> maybeIssued = new ArrayList<>();
+        for (Coupon coupon : chunk.getItems()) {
+            Assert.isTrue(couponType.equals(coupon.getCouponType()), "쿠폰 종류가 일치하지 않습니다: " + coupon.getCouponType());
+            (issuedMembers.mightContain(coupon.getMemberId()) ? maybeIssued : toIssue).add(coupon);
+        }
+
+        if (!maybeIssued.isEmpty()) {
+            Set<Long> issued = findIssuedMemberIds(maybeIssued);
+            int skipped = 0;
+            for (Coupon coupon : maybeIssued) {
+                if (issued.contains(coupon.getMemberId())) {
+                    skipped++;
+                } else {
+                    toIssue.add(coupon);
+                }
+            }
+            log.debug("Skipped {} coupons already issued", skipped);
+        }
+
+        if (toIssue.isEmpty()) {
+            return;
+        }
+        delegate.write(new Chunk<>(toIssue));
+        // chunk가 롤백되면 실제로는 저장되지 않은 id가 남지만, 다음 조회에서 DB로 확인하므로 누락되지 않는다.
+        toIssue.forEach(coupon -> issuedMembers.put(coupon.getMemberId()));
+    }
+
+    private Set<Long> findIssuedMemberIds(List<Coupon> coupons) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("couponType", couponType)
+                .addValue("memberIds", coupons.stream().map(Coupon::getMemberId).toList());
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT member_id FROM coupon WHERE coupon_type = :couponType AND member_id IN (:memberIds)",
+                parameters,
+                Long.class
+        ));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.springbatch5.writer;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원 id(long)를 저장하는 Bloom filter 입니다.
+ *
+ * `mightContain`이 false이면 해당 id는 확실히 추가된 적이 없고, true이면 추가되었을 가능성이 있습니다(오탐률 `falsePositiveRate`).
+ * 비트 배열을 {@link AtomicLongArray}로 관리하므로 여러 스레드가 동시에 추가/조회할 수 있습니다.
+ */
+class MemberIdBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 저장할 것으로 예상되는 id 개수
+     * @param falsePositiveRate  허용할 오탐률 (0 ~ 1)
+     */
+    MemberIdBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long expected = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (optimalBits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expected * LN2));
+    }
+
+    void put(long memberId) {
+        long hash1 = mix(memberId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask = 1L << (bitIndex & 63);
+            words.getAndAccumulate((int) (bitIndex >>> 6), mask, (word, bit) -> word | bit);
+        }
+    }
+
+    boolean mightContain(long memberId) {
+        long hash1 = mix(memberId);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (bitIndex >>> 6)) & (1L << (bitIndex & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * MurmurHash3의 64비트 finalizer로 id의 비트를 고르게 섞습니다.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb93fe53a85ebL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.springbatch5.job;
+
+import com.example.springbatch5.reader.PageResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HttpPageRangePartitionerTest {
+
+    private static final String MEMBER_API_URL = "http://localhost:8080/api/v1/members";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+    @Test
+    void 크기가_1인_페이지를_한_번만_조회하여_전체_아이템_수를_확인한다() {
+        givenTotalElements(25);
+
+        new HttpPageRangePartitioner(restTemplate, MEMBER_API_URL, 10).partition(2);
+
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate).exchange(eq(MEMBER_API_URL + "?page=0&size=1"), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void 전체_페이지를_겹치지_않는_연속된_범위로_나누고_앞쪽_파티션이_나머지를_가져간다() {
+        // given: 10건씩 11페이지 (마지막 페이지는 1건)
+        givenTotalElements(101);
+
+        // when
+        Map<String, ExecutionContext> partitions = new HttpPageRangePartitioner(restTemplate, MEMBER_API_URL, 10).partition(3);
+
+        // then: 11 = 4 + 4 + 3
+        then(partitions).containsOnlyKeys("partition0", "partition1", "partition2");
+        then(pageRange(partitions.get("partition0"))).containsExactly(0, 3);
+        then(pageRange(partitions.get("partition1"))).containsExactly(4, 7);
+        then(pageRange(partitions.get("partition2"))).containsExactly(8, 10);
+    }
+
+    @Test
+    void 페이지_수가_gridSize보다_적으면_페이지마다_하나의_파티션을_만든다() {
+        givenTotalElements(15);
+
+        Map<String, ExecutionContext> partitions = new HttpPageRangePartitioner(restTemplate, MEMBER_API_URL, 10).partition(4);
+
+        then(partitions).containsOnlyKeys("partition0", "partition1");
+        then(pageRange(partitions.get("partition0"))).containsExactly(0, 0);
+        then(pageRange(partitions.get("partition1"))).containsExactly(1, 1);
+    }
+
+    @Test
+    void 조회_대상이_없으면_파티션을_만들지_않는다() {
+        givenTotalElements(0);
+
+        then(new HttpPageRangePartitioner(restTemplate, MEMBER_API_URL, 10).partition(4)).isEmpty();
+    }
+
+    @Test
+    void 응답_본문이_없으면_파티션을_만들지_않는다() {
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .willReturn(ResponseEntity.ok().build());
+
+        then(new HttpPageRangePartitioner(restTemplate, MEMBER_API_URL, 10).partition(4)).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTotalElements(long totalElements) {
+        PageResponse<Object> response = new PageResponse<>(List.of(), 0, 1, (int) totalElements, totalElements, true, totalElements <= 1, null);
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .willReturn(ResponseEntity.ok(response));
+    }
+
+    private static List<Integer> pageRange(ExecutionContext context) {
+        return List.of(context.getInt("startPage"), context.getInt("endPage"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.springbatch5.reader;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class AdaptivePageSizeControllerTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofSeconds(1);
+
+    @Test
+    void 응답이_목표_지연_시간의_절반보다_빠르면_최대_크기까지_2배씩_늘린다() {
+        AdaptivePageSizeController controller = new AdaptivePageSizeController(10, 40, TARGET_LATENCY, 0, 0.1);
+
+        controller.recordSuccess(100, 1_000);
+        then(controller.getPageSize()).isEqualTo(20);
+        controller.recordSuccess(100, 1_000);
+        then(controller.getPageSize()).isEqualTo(40);
+        controller.recordSuccess(100, 1_000);
+        then(controller.getPageSize()).isEqualTo(40);
+    }
+
+    @Test
+    void 목표_지연_시간의_절반과_목표_사이이면_크기를_유지한다() {
+        AdaptivePageSizeController controller = new AdaptivePageSizeController(10, 40, TARGET_LATENCY, 0, 0.1);
+        controller.reset(20);
+
+        controller.recordSuccess(500, 1_000);
+        controller.recordSuccess(1_000, 1_000);
+
+        then(controller.getPageSize()).isEqualTo(20);
+    }
+
+    @Test
+    void 응답이_느리면_최소_크기까지_절반씩_줄인다() {
+        AdaptivePageSizeController controller = new AdaptivePageSizeController(10, 80, TARGET_LATENCY, 0, 0.1);
+        controller.reset(80);
+
+        controller.recordSuccess(1_001, 1_000);
+        then(controller.getPageSize()).isEqualTo(40);
+        controller.recordSuccess(3_000, 1_000);
+        controller.recordSuccess(3_000, 1_000);
+        then(controller.getPageSize()).isEqualTo(10);
+        controller.recordSuccess(3_000, 1_000);
+        then(controller.getPageSize()).isEqualTo(10);
+    }
+
+    @Test
+    void 응답_본문이_최대_크기를_넘으면_빠르더라도_줄인다() {
+        AdaptivePageSizeController controller = new AdaptivePageSizeController(10, 80, TARGET_LATENCY, 4_096, 0.1);
+        controller.reset(40);
+
+        controller.recordSuccess(10, 4_097);
+        then(controller.getPageSize()).isEqualTo(20);
+
+        // 크기를 알 수 없는 응답(-1)은 빠르면 늘린다.
+        controller.recordSuccess(10, -1);
+        then(controller.getPageSize()).isEqualTo(40);
+    }
+
+    @Test
+    void 실패하면_줄이고_오류율이_허용치_아래로_내려갈_때까지_늘리지_않는다() {
+        AdaptivePageSizeController controller = new AdaptivePageSizeController(10, 80, TARGET_LATENCY, 0, 0.1);
+        controller.reset(40);
+
+        controller.recordFailure(); // 오류율 0.2
+        then(controller.getPageSize()).isEqualTo(20);
+
+        // 성공할 때마다 오류율이 0.8배가 된다. (0.16, 0.128, 0.1024)
+        controller.recordSuccess(10, 0);
+        controller.recordSuccess(10, 0);
+        controller.recordSuccess(10, 0);
+        then(controller.getPageSize()).isEqualTo(20);
+
+        controller.recordSuccess(10, 0); // 0.08192
+        then(controller.getPageSize()).isEqualTo(40);
+    }
+
+    @Test
+    void reset은_시작_크기_이하의_가장_큰_minSize의_2의_거듭제곱_배로_시작하고_오류율을_지운다() {
+        AdaptivePageSizeController controller = new AdaptivePageSizeController(10, 5_120, TARGET_LATENCY, 0, 0.1);
+
+        controller.reset(100);
+        then(controller.getPageSize()).isEqualTo(80);
+        controller.reset(5);
+        then(controller.getPageSize()).isEqualTo(10);
+        controller.reset(100_000);
+        then(controller.getPageSize()).isEqualTo(5_120);
+
+        controller.recordFailure();
+        controller.reset(20);
+        controller.recordSuccess(10, 0);
+        then(controller.getPageSize()).isEqualTo(40);
+    }
+
+    @Test
+    void 순차_전략은_읽은_위치가_새_크기의_배수일_때만_크기를_늘리고_줄이는_경우는_바로_적용한다() {
+        AdaptivePageSizeController controller = new AdaptivePageSizeController(10, 80, TARGET_LATENCY, 0, 0.1);
+        SequentialPageFetchStrategy<String> strategy = new SequentialPageFetchStrategy<>(null, 10, controller, 0, -1);
+        strategy.open();
+
+        PagePosition first = strategy.next();
+        then(first.getPage()).isEqualTo(0);
+        then(first.getSize()).isEqualTo(10);
+        controller.recordSuccess(10, 0); // 20 제안
+        strategy.completed(first, 10, false, null);
+
+        // offset 10은 20의 배수가 아니므로 크기 10을 유지한다.
+        PagePosition second = strategy.next();
+        then(second.getPage()).isEqualTo(1);
+        then(second.getSize()).isEqualTo(10);
+        strategy.completed(second, 10, false, null);
+
+        // offset 20에서 크기 20의 1페이지로 바꾼다.
+        PagePosition third = strategy.next();
+        then(third.getPage()).isEqualTo(1);
+        then(third.getSize()).isEqualTo(20);
+        controller.recordSuccess(2_000, 0); // 10 제안
+        strategy.completed(third, 20, false, null);
+
+        // offset 40에서 크기 10의 4페이지로 바꾼다.
+        PagePosition fourth = strategy.next();
+        then(fourth.getPage()).isEqualTo(4);
+        then(fourth.getSize()).isEqualTo(10);
+    }
+}
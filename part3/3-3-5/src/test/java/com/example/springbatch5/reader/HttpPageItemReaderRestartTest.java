@@ -0,0 +1,104 @@
+package com.example.springbatch5.reader;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class HttpPageItemReaderRestartTest {
+
+    private static final String MEMBER_API_URL = "http://localhost:8080/api/v1/members";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+    @Test
+    void 저장된_페이지와_인덱스부터_한_번의_요청으로_이어서_읽는다() throws Exception {
+        // given: 이전 실행에서 1페이지(11~15번 회원)의 3번째 아이템까지 처리했다.
+        givenPage(MEMBER_API_URL + "?page=1&size=10", page(11, 15, true, null));
+        HttpPageItemReader<MemberResponse> reader = reader().build();
+
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt("HttpPageItemReader.read.count", 13);
+        executionContext.putInt("HttpPageItemReader.current.page", 1);
+        executionContext.putInt("HttpPageItemReader.current.item.index", 3);
+        executionContext.putInt("HttpPageItemReader.current.page.size", 10);
+
+        // when
+        reader.open(executionContext);
+
+        // then
+        then(reader.read().getId()).isEqualTo(14L);
+        then(reader.read().getId()).isEqualTo(15L);
+        then(reader.read()).isNull();
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+
+        reader.update(executionContext);
+        then(executionContext.getInt("HttpPageItemReader.read.count")).isEqualTo(15);
+        then(executionContext.getInt("HttpPageItemReader.current.item.index")).isEqualTo(5);
+        reader.close();
+    }
+
+    @Test
+    void 커서_모드는_저장된_커서로_중단된_페이지를_다시_요청한다() throws Exception {
+        // given: 이전 실행에서 afterId=10으로 조회한 페이지의 2번째 아이템까지 처리했다.
+        givenPage(MEMBER_API_URL + "/keyset?afterId=10&size=10", page(11, 13, false, null));
+        HttpPageItemReader<MemberResponse> reader = reader()
+                .baseUrl(MEMBER_API_URL + "/keyset")
+                .cursorParameter("afterId")
+                .build();
+
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putInt("HttpPageItemReader.read.count", 12);
+        executionContext.putInt("HttpPageItemReader.current.page", 1);
+        executionContext.putInt("HttpPageItemReader.current.item.index", 2);
+        executionContext.putInt("HttpPageItemReader.current.page.size", 10);
+        executionContext.putString("HttpPageItemReader.current.cursor", "10");
+
+        // when
+        reader.open(executionContext);
+
+        // then: nextCursor가 없으므로 중단된 페이지가 마지막 페이지이다.
+        then(reader.read().getId()).isEqualTo(13L);
+        then(reader.read()).isNull();
+
+        reader.update(executionContext);
+        then(executionContext.getString("HttpPageItemReader.current.cursor")).isEqualTo("10");
+        reader.close();
+    }
+
+    private HttpPageItemReaderBuilder<MemberResponse> reader() {
+        return new HttpPageItemReaderBuilder<MemberResponse>()
+                .baseUrl(MEMBER_API_URL)
+                .size(10)
+                .restTemplate(restTemplate)
+                .responseType(new ParameterizedTypeReference<>() {});
+    }
+
+    private void givenPage(String uri, PageResponse<MemberResponse> pageResponse) {
+        given(restTemplate.exchange(eq(uri), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class)))
+                .willReturn(ResponseEntity.ok(pageResponse));
+    }
+
+    private static PageResponse<MemberResponse> page(long fromId, long toId, boolean last, String nextCursor) {
+        List<MemberResponse> content = LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new MemberResponse(id, "user" + id, "user" + id + "@example.com"))
+                .toList();
+        return new PageResponse<>(content, 0, 10, 0, 0, false, last, nextCursor);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.springbatch5.reader;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PageFetchStrategyTest {
+
+    @Test
+    void 순차_전략은_지정한_범위의_페이지만_조회한다() {
+        SequentialPageFetchStrategy<String> strategy = new SequentialPageFetchStrategy<>(null, 10, null, 2, 3);
+        strategy.open();
+
+        PagePosition first = strategy.next();
+        then(first.getPage()).isEqualTo(2);
+        then(first.getSize()).isEqualTo(10);
+        strategy.completed(first, 10, false, null);
+
+        PagePosition second = strategy.next();
+        then(second.getPage()).isEqualTo(3);
+        strategy.skipped(second);
+
+        then(strategy.next()).isNull();
+    }
+
+    @Test
+    void 순차_전략은_빈_페이지나_마지막_페이지에서_종료한다() {
+        SequentialPageFetchStrategy<String> strategy = new SequentialPageFetchStrategy<>(null, 10, null, 0, -1);
+        strategy.open();
+
+        strategy.completed(strategy.next(), 10, true, null);
+
+        then(strategy.next()).isNull();
+    }
+
+    @Test
+    void 순차_전략은_재시작_위치의_크기로_다시_조회한다() {
+        SequentialPageFetchStrategy<String> strategy = new SequentialPageFetchStrategy<>(null, 10, null, 0, -1);
+        strategy.open();
+
+        strategy.restart(new PagePosition(7, 40, null));
+
+        PagePosition position = strategy.next();
+        then(position.getPage()).isEqualTo(7);
+        then(position.getSize()).isEqualTo(40);
+    }
+
+    @Test
+    void 동시_전략은_concurrency개까지_미리_요청하고_요청한_페이지_순서대로_반환한다() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HttpPageFetcher<String> fetcher = fetcher(position -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            // 뒤 페이지의 응답이 먼저 도착하도록 앞 페이지일수록 늦게 응답한다.
+            sleep(Math.max(0, 5 - position.getPage()) * 30L);
+            inFlight.decrementAndGet();
+            return page(position, position.getPage() == 4);
+        });
+        ConcurrentPageFetchStrategy<String> strategy = new ConcurrentPageFetchStrategy<>(fetcher, 10, 0, -1, 3);
+        strategy.open();
+
+        List<Integer> pages = new ArrayList<>();
+        PagePosition position;
+        while ((position = strategy.next()) != null) {
+            PageResponse<String> response = strategy.fetch(position);
+            then(response.getNumber()).isEqualTo(position.getPage());
+            pages.add(response.getNumber());
+            strategy.completed(position, response.getContent().size(), response.isLast(), null);
+        }
+        strategy.close();
+
+        then(pages).containsExactly(0, 1, 2, 3, 4);
+        then(maxInFlight.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 동시_전략은_범위의_마지막_페이지_이후로_요청하지_않는다() {
+        List<Integer> requested = new ArrayList<>();
+        HttpPageFetcher<String> fetcher = fetcher(position -> {
+            synchronized (requested) {
+                requested.add(position.getPage());
+            }
+            return page(position, false);
+        });
+        ConcurrentPageFetchStrategy<String> strategy = new ConcurrentPageFetchStrategy<>(fetcher, 10, 2, 3, 4);
+        strategy.open();
+
+        PagePosition first = strategy.next();
+        strategy.completed(first, strategy.fetch(first).getContent().size(), false, null);
+        PagePosition second = strategy.next();
+        strategy.completed(second, strategy.fetch(second).getContent().size(), false, null);
+        strategy.close();
+
+        then(requested).containsExactlyInAnyOrder(2, 3);
+        then(strategy.next()).isNull();
+    }
+
+    @Test
+    void 동시_전략은_재시작하면_진행_중인_요청을_인터럽트하고_재시작_위치부터_다시_요청한다() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(2);
+        HttpPageFetcher<String> fetcher = fetcher(position -> {
+            if (position.getPage() == 0) {
+                return page(position, false);
+            }
+            try {
+                // 1, 2페이지 요청은 취소될 때까지 응답하지 않는다.
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return page(position, false);
+        });
+        ConcurrentPageFetchStrategy<String> strategy = new ConcurrentPageFetchStrategy<>(fetcher, 10, 0, 5, 3);
+        strategy.open();
+        PagePosition first = strategy.next();
+        strategy.completed(first, strategy.fetch(first).getContent().size(), false, null);
+
+        then(strategy.restart(new PagePosition(0, 10, null))).isTrue();
+
+        then(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        PagePosition restarted = strategy.next();
+        then(restarted.getPage()).isEqualTo(0);
+        then(strategy.fetch(restarted).getNumber()).isEqualTo(0);
+        strategy.close();
+    }
+
+    @Test
+    void 동시_전략은_요청_스레드의_예외를_그대로_전달한다() {
+        HttpPageFetcher<String> fetcher = fetcher(position -> {
+            throw new IllegalStateException("503 Service Unavailable");
+        });
+        ConcurrentPageFetchStrategy<String> strategy = new ConcurrentPageFetchStrategy<>(fetcher, 10, 0, -1, 2);
+        strategy.open();
+
+        PagePosition position = strategy.next();
+        thenThrownBy(() -> strategy.fetch(position))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("503 Service Unavailable");
+        strategy.close();
+    }
+
+    @Test
+    void 커서_전략은_응답의_다음_커서로_조회하고_커서가_없으면_종료한다() {
+        CursorPageFetchStrategy<String> strategy = new CursorPageFetchStrategy<>(null, 10, null);
+        strategy.open();
+
+        PagePosition first = strategy.next();
+        then(first.getCursor()).isNull();
+        strategy.completed(first, 10, false, "10");
+
+        PagePosition second = strategy.next();
+        then(second.getPage()).isEqualTo(1);
+        then(second.getCursor()).isEqualTo("10");
+        strategy.completed(second, 5, false, null);
+
+        then(strategy.next()).isNull();
+        then(strategy.isSkippable()).isFalse();
+    }
+
+    @Test
+    void 재처리_전략은_기록된_페이지를_기록된_크기로_끝까지_조회한다() {
+        RedrivePageFetchStrategy<String> strategy = new RedrivePageFetchStrategy<>(null, List.of(
+                new DeadPage(3, 10, "timeout"),
+                new DeadPage(8, 20, "503"),
+                new DeadPage(9, 20, "503")
+        ), null);
+        strategy.open();
+
+        PagePosition first = strategy.next();
+        then(first.getPage()).isEqualTo(3);
+        then(first.getSize()).isEqualTo(10);
+        // 응답이 비어있어도 다음 기록을 조회한다.
+        strategy.completed(first, 0, true, null);
+
+        PagePosition second = strategy.next();
+        then(second.getPage()).isEqualTo(8);
+        strategy.skipped(second);
+
+        PagePosition third = strategy.next();
+        then(third.getPage()).isEqualTo(9);
+        strategy.completed(third, 20, false, null);
+
+        then(strategy.next()).isNull();
+    }
+
+    @Test
+    void 재처리_전략은_중단된_기록부터_다시_조회하고_제거된_기록이면_처음부터_조회한다() {
+        RedrivePageFetchStrategy<String> strategy = new RedrivePageFetchStrategy<>(null, List.of(
+                new DeadPage(3, 10, "timeout"),
+                new DeadPage(8, 20, "503")
+        ), null);
+        strategy.open();
+
+        then(strategy.restart(new PagePosition(8, 20, null))).isTrue();
+        then(strategy.next().getPage()).isEqualTo(8);
+
+        then(strategy.restart(new PagePosition(5, 20, null))).isFalse();
+        then(strategy.next().getPage()).isEqualTo(3);
+    }
+
+    @Test
+    void 재처리_전략은_모두_읽은_페이지만_기록에서_제거한다() {
+        List<DeadPage> resolved = new ArrayList<>();
+        DeadPageLedger ledger = new DeadPageLedger() {
+            @Override
+            public void record(DeadPage deadPage) {
+            }
+
+            @Override
+            public void resolve(List<DeadPage> deadPages) {
+                resolved.addAll(deadPages);
+            }
+        };
+        RedrivePageFetchStrategy<String> strategy = new RedrivePageFetchStrategy<>(null, List.of(
+                new DeadPage(1L, 3, 10, "timeout"),
+                new DeadPage(2L, 8, 20, "503"),
+                new DeadPage(3L, 9, 20, "503")
+        ), ledger);
+        strategy.open();
+
+        strategy.completed(strategy.next(), 10, false, null);
+        PagePosition current = strategy.next();
+        strategy.completed(current, 20, false, null);
+
+        // 두 번째 페이지를 읽는 중이면 첫 번째 페이지만 제거한다.
+        strategy.update(current, false);
+        then(resolved).extracting(DeadPage::getId).containsExactly(1L);
+
+        // 실패한 페이지는 기록에 남긴다.
+        strategy.skipped(strategy.next());
+        strategy.update(current, true);
+        then(resolved).extracting(DeadPage::getId).containsExactly(1L, 2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpPageFetcher<String> fetcher(Function<PagePosition, PageResponse<String>> response) {
+        HttpPageFetcher<String> fetcher = mock(HttpPageFetcher.class);
+        given(fetcher.fetch(any(PagePosition.class))).willAnswer(invocation -> response.apply(invocation.getArgument(0)));
+        return fetcher;
+    }
+
+    private static PageResponse<String> page(PagePosition position, boolean last) {
+        List<String> content = new ArrayList<>();
+        for (int i = 0; i < position.getSize(); i++) {
+            content.add(position.getPage() + "-" + i);
+        }
+        return new PageResponse<>(content, position.getPage(), position.getSize(), 0, 0, position.getPage() == 0, last, null);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.springbatch5.reader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class StreamingPageParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void content의_아이템을_순서대로_읽고_뒤에_오는_last와_nextCursor를_읽는다() throws IOException {
+        StreamingPageParser<Item> parser = parser("""
+                {"number":0,"content":[{"id":1,"name":"a"},{"id":2,"name":"b"}],"size":2,"last":true,"nextCursor":"2"}
+                """);
+
+        then(parser.next()).isEqualTo(new Item(1, "a"));
+        then(parser.next()).isEqualTo(new Item(2, "b"));
+        // content를 모두 읽기 전에는 뒤에 오는 필드를 알 수 없다.
+        then(parser.isLast()).isFalse();
+
+        then(parser.next()).isNull();
+        then(parser.getCount()).isEqualTo(2);
+        then(parser.isLast()).isTrue();
+        then(parser.getNextCursor()).isEqualTo("2");
+        parser.close();
+    }
+
+    @Test
+    void skip은_중첩된_아이템을_디코딩하지_않고_건너뛰고_개수에_포함한다() throws IOException {
+        StreamingPageParser<Item> parser = parser("""
+                {"content":[
+                  {"id":1,"name":"a","tags":[{"k":"x"},{"k":"y"}]},
+                  {"id":2,"name":"b","address":{"city":"Seoul","lines":["1","2"]}},
+                  {"id":3,"name":"c"}
+                ],"last":false,"nextCursor":"3"}
+                """);
+
+        parser.skip(2);
+
+        then(parser.next()).isEqualTo(new Item(3, "c"));
+        then(parser.next()).isNull();
+        then(parser.getCount()).isEqualTo(3);
+        then(parser.isLast()).isFalse();
+        then(parser.getNextCursor()).isEqualTo("3");
+        parser.close();
+    }
+
+    @Test
+    void content보다_많이_건너뛰면_content_끝에서_멈추고_뒤의_필드를_읽는다() throws IOException {
+        StreamingPageParser<Item> parser = parser("""
+                {"content":[{"id":1,"name":"a"}],"last":true,"nextCursor":null}
+                """);
+
+        parser.skip(5);
+
+        then(parser.next()).isNull();
+        then(parser.getCount()).isEqualTo(1);
+        then(parser.isLast()).isTrue();
+        then(parser.getNextCursor()).isNull();
+        parser.close();
+    }
+
+    @Test
+    void content_앞에_오는_필드도_읽는다() throws IOException {
+        StreamingPageParser<Item> parser = parser("""
+                {"last":true,"nextCursor":"9","page":{"number":3},"content":[{"id":9,"name":"i"}]}
+                """);
+
+        then(parser.isLast()).isTrue();
+        then(parser.getNextCursor()).isEqualTo("9");
+        then(parser.next()).isEqualTo(new Item(9, "i"));
+        then(parser.next()).isNull();
+        parser.close();
+    }
+
+    @Test
+    void content가_없거나_비어있으면_아이템이_없다() throws IOException {
+        StreamingPageParser<Item> noContent = parser("""
+                {"last":true}
+                """);
+        then(noContent.next()).isNull();
+        then(noContent.getCount()).isZero();
+        then(noContent.isLast()).isTrue();
+        noContent.close();
+
+        StreamingPageParser<Item> emptyContent = parser("""
+                {"content":[],"last":false}
+                """);
+        then(emptyContent.next()).isNull();
+        then(emptyContent.getCount()).isZero();
+        emptyContent.close();
+    }
+
+    @Test
+    void 응답이_JSON_객체가_아니면_실패한다() {
+        thenThrownBy(() -> parser("[1, 2]"))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void 파서를_닫으면_응답도_닫는다() throws IOException {
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        given(response.getBody()).willReturn(new ByteArrayInputStream("{\"content\":[]}".getBytes(StandardCharsets.UTF_8)));
+
+        new StreamingPageParser<Item>(response, objectMapper, objectMapper.constructType(Item.class)).close();
+
+        verify(response).close();
+    }
+
+    private StreamingPageParser<Item> parser(String body) throws IOException {
+        MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        return new StreamingPageParser<>(response, objectMapper, objectMapper.constructType(Item.class));
+    }
+
+    record Item(long id, String name) {
+    }
+}
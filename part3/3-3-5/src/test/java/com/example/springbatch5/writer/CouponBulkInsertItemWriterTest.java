@@ -0,0 +1,113 @@
+package com.example.springbatch5.writer;
+
+import com.example.springbatch5.entity.Coupon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.item.Chunk;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CouponBulkInsertItemWriterTest {
+
+    private static final String COUPON_TYPE = "SIGNUP";
+    private static final LocalDate EXPIRATION_DATE = LocalDate.of(2025, 12, 31);
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement(anyString())).willReturn(preparedStatement);
+        given(preparedStatement.executeUpdate()).willReturn(1);
+    }
+
+    @Test
+    void chunk를_rowsPerStatement개씩_묶어_multi_row_INSERT_문으로_저장한다() throws Exception {
+        CouponBulkInsertItemWriter writer = new CouponBulkInsertItemWriter(dataSource, 2);
+
+        writer.write(new Chunk<>(List.of(coupon(1L), coupon(2L), coupon(3L), coupon(4L), coupon(5L))));
+
+        // 5건 = 2행 + 2행 + 1행
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection, times(3)).prepareStatement(sql.capture());
+        String twoRows = "INSERT INTO coupon (coupon_name, coupon_type, discount_amount, expiration_date, issued, member_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?)";
+        String oneRow = "INSERT INTO coupon (coupon_name, coupon_type, discount_amount, expiration_date, issued, member_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?)";
+        then(sql.getAllValues()).containsExactly(twoRows, twoRows, oneRow);
+        verify(preparedStatement, times(3)).executeUpdate();
+    }
+
+    @Test
+    void 각_행의_컬럼을_순서대로_바인딩한다() throws Exception {
+        CouponBulkInsertItemWriter writer = new CouponBulkInsertItemWriter(dataSource, 10);
+
+        writer.write(new Chunk<>(List.of(coupon(1L), coupon(2L))));
+
+        verify(preparedStatement).setString(1, "회원가입 쿠폰");
+        verify(preparedStatement).setString(2, COUPON_TYPE);
+        verify(preparedStatement).setBigDecimal(3, BigDecimal.valueOf(1000));
+        verify(preparedStatement).setDate(4, Date.valueOf(EXPIRATION_DATE));
+        verify(preparedStatement).setBoolean(5, false);
+        verify(preparedStatement).setLong(6, 1L);
+        // 두 번째 행은 7번째 파라미터부터 시작한다.
+        verify(preparedStatement).setString(7, "회원가입 쿠폰");
+        verify(preparedStatement).setLong(12, 2L);
+        verify(preparedStatement, times(1)).executeUpdate();
+    }
+
+    @Test
+    void 중복을_무시하면_INSERT_문_끝에_ON_DUPLICATE_KEY_UPDATE를_붙인다() throws Exception {
+        CouponBulkInsertItemWriter writer = new CouponBulkInsertItemWriter(dataSource, 2, true);
+
+        writer.write(new Chunk<>(List.of(coupon(1L), coupon(2L), coupon(3L))));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection, times(2)).prepareStatement(sql.capture());
+        then(sql.getAllValues()).allSatisfy(statement -> then(statement).endsWith(") ON DUPLICATE KEY UPDATE id = id"));
+    }
+
+    @Test
+    void 빈_chunk는_커넥션을_얻지_않고_아무_문도_실행하지_않는다() throws Exception {
+        CouponBulkInsertItemWriter writer = new CouponBulkInsertItemWriter(dataSource, 2);
+
+        writer.write(new Chunk<>());
+
+        verify(dataSource, never()).getConnection();
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void 파라미터_개수가_MySQL_한도를_넘는_rowsPerStatement는_허용하지_않는다() {
+        // 65,535 / 6 = 10,922
+        new CouponBulkInsertItemWriter(dataSource, 10_922);
+
+        thenThrownBy(() -> new CouponBulkInsertItemWriter(dataSource, 10_923))
+                .isInstanceOf(IllegalArgumentException.class);
+        thenThrownBy(() -> new CouponBulkInsertItemWriter(dataSource, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Coupon coupon(Long memberId) {
+        return new Coupon("회원가입 쿠폰", COUPON_TYPE, BigDecimal.valueOf(1000), EXPIRATION_DATE, false, memberId);
+    }
+}
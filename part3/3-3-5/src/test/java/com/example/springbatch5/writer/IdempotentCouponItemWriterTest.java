@@ -0,0 +1,73 @@
+package com.example.springbatch5.writer;
+
+import com.example.springbatch5.SpringBatchTestSupport;
+import com.example.springbatch5.entity.Coupon;
+import com.example.springbatch5.entity.QCoupon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.BDDAssertions.then;
+
+class IdempotentCouponItemWriterTest extends SpringBatchTestSupport {
+
+    private static final String COUPON_TYPE = "SIGNUP";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void cleanUp() {
+        deleteAll(QCoupon.coupon);
+    }
+
+    @Test
+    void 이미_발급된_회원은_건너뛰고_새_회원만_저장한다() throws Exception {
+        // given: 1번 회원은 이미 쿠폰을 받았다.
+        save(coupon(1L));
+        IdempotentCouponItemWriter writer = new IdempotentCouponItemWriter(dataSource, COUPON_TYPE, 100, 0.01);
+        writer.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when: 같은 chunk를 두 번 저장한다. (재시작으로 chunk를 다시 처리하는 경우)
+        Chunk<Coupon> chunk = new Chunk<>(List.of(coupon(1L), coupon(2L), coupon(3L)));
+        writer.write(chunk);
+        writer.write(chunk);
+
+        // then
+        List<Long> memberIds = query.select(QCoupon.coupon.memberId).from(QCoupon.coupon).orderBy(QCoupon.coupon.memberId.asc()).fetch();
+        then(memberIds).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void 중복을_무시하는_bulk_writer는_중복_키인_행만_저장하지_않는다() throws Exception {
+        CouponBulkInsertItemWriter writer = new CouponBulkInsertItemWriter(dataSource, 2, true);
+
+        // rowsPerStatement(2)보다 큰 chunk는 여러 INSERT 문으로 나누어 저장된다.
+        writer.write(new Chunk<>(List.of(coupon(1L), coupon(2L), coupon(1L))));
+        writer.write(new Chunk<>(List.of(coupon(2L), coupon(3L))));
+
+        then(query.selectFrom(QCoupon.coupon).fetch()).hasSize(3);
+    }
+
+    @Test
+    void 중복을_허용하지_않는_bulk_writer는_중복_키에서_실패한다() throws Exception {
+        CouponBulkInsertItemWriter writer = new CouponBulkInsertItemWriter(dataSource, 10);
+        writer.write(new Chunk<>(List.of(coupon(1L))));
+
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(coupon(1L)))))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    private static Coupon coupon(Long memberId) {
+        return new Coupon("회원가입 쿠폰", COUPON_TYPE, BigDecimal.valueOf(1000), LocalDate.now().plusDays(30), false, memberId);
+    }
+}